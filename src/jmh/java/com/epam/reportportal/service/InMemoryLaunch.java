@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.utils.formatting.templating.TemplateConfiguration;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+/**
+ * A launch which does not send anything and answers with constant item IDs, to measure agent's own overhead. It's
+ * placed in the client's package, since {@link Launch} constructors are package-private.
+ */
+public class InMemoryLaunch extends Launch {
+	private static final Maybe<String> LAUNCH_ID = Maybe.just("launch");
+	private static final Maybe<String> ITEM_ID = Maybe.just("item");
+	private static final Maybe<OperationCompletionRS> FINISH_RESPONSE = Maybe.just(new OperationCompletionRS("finished"));
+
+	private final TemplateConfiguration templateConfiguration = new TemplateConfiguration();
+
+	private long startedItems;
+	private long finishedItems;
+	private long logs;
+
+	public InMemoryLaunch(@Nonnull ListenerParameters parameters) {
+		super(
+				(ReportPortalClient) Proxy.newProxyInstance(
+						Launch.class.getClassLoader(),
+						new Class<?>[] { ReportPortalClient.class },
+						new DummyReportPortalClientHandler()
+				), parameters, StepReporter.NOOP_STEP_REPORTER
+		);
+	}
+
+	@Override
+	public boolean useMicroseconds() {
+		return false;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> start() {
+		return LAUNCH_ID;
+	}
+
+	@Override
+	public void finish(@Nonnull FinishExecutionRQ rq) {
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> createVirtualItem() {
+		return ITEM_ID;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(StartTestItemRQ rq) {
+		startedItems++;
+		return ITEM_ID;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(Maybe<String> parentId, StartTestItemRQ rq) {
+		startedItems++;
+		return ITEM_ID;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(Maybe<String> parentId, Maybe<String> retryOf, StartTestItemRQ rq) {
+		startedItems++;
+		return ITEM_ID;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startVirtualTestItem(Maybe<String> virtualItem, StartTestItemRQ rq) {
+		return virtualItem;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startVirtualTestItem(Maybe<String> parentId, Maybe<String> virtualItem, StartTestItemRQ rq) {
+		return virtualItem;
+	}
+
+	@Override
+	public void log(@Nonnull SaveLogRQ rq) {
+		logs++;
+	}
+
+	@Override
+	public void log(@Nonnull Function<String, SaveLogRQ> logSupplier) {
+		logs++;
+	}
+
+	@Override
+	public void log(@Nonnull Maybe<String> logItemUuid, @Nonnull Function<String, SaveLogRQ> logSupplier) {
+		logs++;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<OperationCompletionRS> finishTestItem(Maybe<String> itemId, FinishTestItemRQ rq) {
+		finishedItems++;
+		return FINISH_RESPONSE;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> getLaunch() {
+		return LAUNCH_ID;
+	}
+
+	@Override
+	@Nonnull
+	public TemplateConfiguration getTemplateConfiguration() {
+		return templateConfiguration;
+	}
+
+	public long getStartedItems() {
+		return startedItems;
+	}
+
+	public long getFinishedItems() {
+		return finishedItems;
+	}
+
+	public long getLogs() {
+		return logs;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.benchmark;
+
+import org.testng.ISuite;
+import org.testng.ITestClass;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.internal.IObject;
+import org.testng.internal.TestNGMethod;
+import org.testng.internal.annotations.DefaultAnnotationTransformer;
+import org.testng.internal.annotations.JDK15AnnotationFinder;
+import org.testng.internal.objects.ObjectFactoryImpl;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Helpers to create TestNG objects outside TestNG's run.
+ */
+public class BenchmarkUtils {
+
+	private BenchmarkUtils() {
+		//static only
+	}
+
+	public static ITestNGMethod testMethod(Object instance, String methodName) {
+		try {
+			return new TestNGMethod(
+					new ObjectFactoryImpl(),
+					instance.getClass().getMethod(methodName),
+					new JDK15AnnotationFinder(new DefaultAnnotationTransformer()),
+					new XmlTest(new XmlSuite()),
+					new IObject.IdentifiableObject(instance)
+			);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	/**
+	 * Creates a TestNG method bound to a test class and a test.
+	 *
+	 * @param instance  test instance or {@link org.testng.internal.ParameterInfo} of a factory instance
+	 * @param method    test method
+	 * @param testClass test class
+	 * @param xmlTest   test which the method belongs to
+	 * @return TestNG method
+	 */
+	public static ITestNGMethod testMethod(Object instance, Method method, ITestClass testClass, XmlTest xmlTest) {
+		TestNGMethod testMethod = new TestNGMethod(
+				new ObjectFactoryImpl(),
+				method,
+				new JDK15AnnotationFinder(new DefaultAnnotationTransformer()),
+				xmlTest,
+				new IObject.IdentifiableObject(instance)
+		);
+		testMethod.setTestClass(testClass);
+		return testMethod;
+	}
+
+	/**
+	 * Creates a proxy of a TestNG interface which stores attributes and answers with given values on other calls,
+	 * since TestNG's own implementations can't be created without a TestNG run.
+	 *
+	 * @param type   TestNG interface
+	 * @param values return values by method names, everything else returns null, false or zero
+	 * @param <T>    type of the interface
+	 * @return the proxy
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Map<String, Object> values) {
+		Map<String, Object> attributes = new ConcurrentHashMap<>();
+		return (T) Proxy.newProxyInstance(BenchmarkUtils.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "getAttribute":
+					return attributes.get((String) args[0]);
+				case "setAttribute":
+					attributes.put((String) args[0], args[1]);
+					return null;
+				case "removeAttribute":
+					return attributes.remove((String) args[0]);
+				case "getAttributeNames":
+					return attributes.keySet();
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "equals":
+					return proxy == args[0];
+				case "toString":
+					return type.getSimpleName() + values;
+				default:
+					if (values.containsKey(method.getName())) {
+						return values.get(method.getName());
+					}
+					Class<?> returnType = method.getReturnType();
+					if (returnType == boolean.class) {
+						return Boolean.FALSE;
+					}
+					if (returnType == int.class) {
+						return 0;
+					}
+					if (returnType == long.class) {
+						return 0L;
+					}
+					return null;
+			}
+		});
+	}
+
+	public static ISuite suite(String name) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("getName", name);
+		values.put("getAllMethods", Collections.emptyList());
+		return proxy(ISuite.class, values);
+	}
+
+	public static ITestClass testClass(Class<?> type) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("getName", type.getName());
+		values.put("getRealClass", type);
+		return proxy(ITestClass.class, values);
+	}
+
+	public static XmlTest xmlTest(String name, Class<?>... classes) {
+		XmlTest xmlTest = new XmlTest(new XmlSuite());
+		xmlTest.setName(name);
+		for (Class<?> c : classes) {
+			xmlTest.getXmlClasses().add(new XmlClass(c));
+		}
+		return xmlTest;
+	}
+
+	public static ITestContext testContext(ISuite suite, XmlTest xmlTest, ITestNGMethod... methods) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("getName", xmlTest.getName());
+		values.put("getSuite", suite);
+		values.put("getCurrentXmlTest", xmlTest);
+		values.put("getAllTestMethods", methods);
+		return proxy(ITestContext.class, values);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.benchmark;
+
+import com.epam.reportportal.testng.util.internal.BoundedConcurrentMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Status tracker access pattern (put, check, remove of test instances) under contention: the previous
+ * {@code LimitedSizeConcurrentHashMap} versus {@link BoundedConcurrentMap}. Keys are picked from a pool larger than the
+ * map limit to keep eviction going. Run with a different thread number with {@code -t} option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class BoundedMapContentionBenchmark {
+	private static final int MAXIMUM_SIZE = 1000;
+	private static final int KEY_POOL_SIZE = 4 * MAXIMUM_SIZE;
+
+	/**
+	 * Previous implementation, as it was, for comparison.
+	 */
+	public static class LimitedSizeConcurrentHashMap<K, V> extends ConcurrentHashMap<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private final int maxSize;
+		private final Queue<K> inputOrder = new ConcurrentLinkedQueue<>();
+
+		public LimitedSizeConcurrentHashMap(final int maximumMapSize) {
+			maxSize = maximumMapSize;
+		}
+
+		@Override
+		public V put(final K key, final V value) {
+			if (size() >= maxSize) {
+				K keyToRemove = inputOrder.poll();
+				if (keyToRemove != null) {
+					remove(keyToRemove);
+				}
+			}
+			inputOrder.add(key);
+			return super.put(key, value);
+		}
+	}
+
+	private final Object[] keys = IntStream.range(0, KEY_POOL_SIZE).mapToObj(i -> new Object()).toArray();
+
+	private final LimitedSizeConcurrentHashMap<Object, Boolean> limitedSizeMap = new LimitedSizeConcurrentHashMap<>(MAXIMUM_SIZE);
+	private final BoundedConcurrentMap<Object, Boolean> boundedMap = new BoundedConcurrentMap<>(MAXIMUM_SIZE);
+
+	@TearDown(Level.Iteration)
+	public void checkSize() {
+		// Report the limit violation of the previous implementation, but do not fail the run
+		if (limitedSizeMap.size() > MAXIMUM_SIZE) {
+			System.out.println("LimitedSizeConcurrentHashMap size is beyond the limit: " + limitedSizeMap.size());
+		}
+		if (boundedMap.size() > MAXIMUM_SIZE) {
+			throw new IllegalStateException("BoundedConcurrentMap size is beyond the limit: " + boundedMap.size());
+		}
+	}
+
+	@Benchmark
+	public boolean limitedSizeConcurrentHashMap() {
+		Object key = keys[ThreadLocalRandom.current().nextInt(KEY_POOL_SIZE)];
+		limitedSizeMap.put(key, Boolean.TRUE);
+		boolean result = limitedSizeMap.containsKey(key);
+		limitedSizeMap.remove(key);
+		return result;
+	}
+
+	@Benchmark
+	public boolean boundedConcurrentMap() {
+		Object key = keys[ThreadLocalRandom.current().nextInt(KEY_POOL_SIZE)];
+		boundedMap.put(key, Boolean.TRUE);
+		boolean result = boundedMap.containsKey(key);
+		boundedMap.remove(key);
+		return result;
+	}
+}
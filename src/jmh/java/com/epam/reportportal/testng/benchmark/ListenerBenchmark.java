@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.benchmark;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.InMemoryLaunch;
+import com.epam.reportportal.testng.AgentParameters;
+import com.epam.reportportal.testng.BaseTestNGListener;
+import com.epam.reportportal.service.tree.TestItemTree;
+import com.epam.reportportal.testng.TestNGService;
+import com.epam.reportportal.testng.util.ItemTreeUtils;
+import org.openjdk.jmh.annotations.*;
+import org.testng.ISuite;
+import org.testng.ITestClass;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import org.testng.internal.ParameterInfo;
+import org.testng.internal.TestResult;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agent's own overhead per test method: {@link BaseTestNGListener} callbacks of a test method invocation, from its
+ * start to its finish, reported to an {@link InMemoryLaunch}. Run it with GC profiler to get allocation rate per
+ * invocation: {@code ./gradlew jmh -PjmhIncludes=ListenerBenchmark}.
+ * <p>
+ * Test results are reused: every invocation clears the result's attributes, like if it was a new result. This costs
+ * the same for all the benchmarks and keeps TestNG's own result creation out of measurements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerBenchmark {
+
+	public static class PlainTest {
+		@Test
+		public void test() {
+		}
+	}
+
+	public static class DataProviderTest {
+		@Test(dataProvider = "rows")
+		public void test(String name, int value) {
+		}
+	}
+
+	public static class FactoryTest {
+		private final String name;
+
+		@Factory
+		public FactoryTest(String name) {
+			this.name = name;
+		}
+
+		@Test
+		public void test() {
+		}
+	}
+
+	private static final RuntimeException FAILURE = new IllegalStateException("Benchmark failure");
+
+	@Param({ "false", "true" })
+	public boolean callbackReporting;
+
+	private InMemoryLaunch launch;
+	private BaseTestNGListener listener;
+	private ISuite suite;
+	private ITestContext testContext;
+
+	private TestResult plainResult;
+	private TestResult dataProviderResult;
+	private TestResult factoryResult;
+	private TestResult failedResult;
+	private TestResult retriedResult;
+	private TestResult lastAttemptResult;
+
+	private static TestResult result(ITestNGMethod method, ITestContext testContext) {
+		return TestResult.newContextAwareTestResult(method, testContext);
+	}
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setCallbackReportingEnabled(callbackReporting);
+		launch = new InMemoryLaunch(parameters);
+		listener = new BaseTestNGListener(new TestNGService(() -> launch, new AgentParameters()));
+
+		XmlTest xmlTest = BenchmarkUtils.xmlTest("Benchmark test", PlainTest.class, DataProviderTest.class, FactoryTest.class);
+		ITestClass plainClass = BenchmarkUtils.testClass(PlainTest.class);
+		ITestClass dataProviderClass = BenchmarkUtils.testClass(DataProviderTest.class);
+		ITestClass factoryClass = BenchmarkUtils.testClass(FactoryTest.class);
+		ITestNGMethod plainMethod = BenchmarkUtils.testMethod(new PlainTest(), PlainTest.class.getMethod("test"), plainClass, xmlTest);
+		ITestNGMethod dataProviderMethod = BenchmarkUtils.testMethod(
+				new DataProviderTest(),
+				DataProviderTest.class.getMethod("test", String.class, int.class),
+				dataProviderClass,
+				xmlTest
+		);
+		Object[] factoryParameters = new Object[] { "factory parameter" };
+		ITestNGMethod factoryMethod = BenchmarkUtils.testMethod(
+				new ParameterInfo(new FactoryTest("factory parameter"), 0, factoryParameters),
+				FactoryTest.class.getMethod("test"),
+				factoryClass,
+				xmlTest
+		);
+
+		suite = BenchmarkUtils.suite("Benchmark suite");
+		testContext = BenchmarkUtils.testContext(suite, xmlTest, plainMethod, dataProviderMethod, factoryMethod);
+
+		plainResult = result(plainMethod, testContext);
+		dataProviderResult = result(dataProviderMethod, testContext);
+		dataProviderResult.setParameters(new Object[] { "row", 42 });
+		dataProviderResult.setParameterIndex(42);
+		factoryResult = result(factoryMethod, testContext);
+		failedResult = result(plainMethod, testContext);
+		retriedResult = result(plainMethod, testContext);
+		lastAttemptResult = result(plainMethod, testContext);
+
+		listener.onExecutionStart();
+		listener.onStart(suite);
+		listener.onStart(testContext);
+	}
+
+	@TearDown
+	public void tearDown() {
+		listener.onFinish(testContext);
+		listener.onFinish(suite);
+		listener.onExecutionFinish();
+	}
+
+	private void reset(ITestResult result, int status) {
+		if (callbackReporting) {
+			// A finished test context drops its leaves, do the same for the result not to grow the tree infinitely
+			TestNGService.ITEM_INDEX.remove(result);
+			ItemTreeUtils.retrieveLeaf(testContext, TestNGService.ITEM_TREE)
+					.map(testLeaf -> testLeaf.getChildItems().get(ItemTreeUtils.createKey(result.getTestClass())))
+					.ifPresent(classLeaf -> classLeaf.getChildItems().remove(ItemTreeUtils.createKey(result)));
+		}
+		for (String name : new ArrayList<>(result.getAttributeNames())) {
+			result.removeAttribute(name);
+		}
+		result.setStatus(status);
+	}
+
+	@Benchmark
+	public InMemoryLaunch plainTest() {
+		reset(plainResult, ITestResult.STARTED);
+		listener.onTestStart(plainResult);
+		plainResult.setStatus(ITestResult.SUCCESS);
+		listener.onTestSuccess(plainResult);
+		return launch;
+	}
+
+	@Benchmark
+	public Optional<TestItemTree.TestItemLeaf> callbackLookupTest() {
+		reset(plainResult, ITestResult.STARTED);
+		listener.onTestStart(plainResult);
+		plainResult.setStatus(ITestResult.SUCCESS);
+		// What an after method does to report an item with callback reporting
+		Optional<TestItemTree.TestItemLeaf> leaf = ItemTreeUtils.retrieveLeaf(plainResult, TestNGService.ITEM_TREE);
+		listener.onTestSuccess(plainResult);
+		return leaf;
+	}
+
+	@Benchmark
+	public InMemoryLaunch dataProviderTest() {
+		reset(dataProviderResult, ITestResult.STARTED);
+		listener.onTestStart(dataProviderResult);
+		dataProviderResult.setStatus(ITestResult.SUCCESS);
+		listener.onTestSuccess(dataProviderResult);
+		return launch;
+	}
+
+	@Benchmark
+	public InMemoryLaunch factoryTest() {
+		reset(factoryResult, ITestResult.STARTED);
+		listener.onTestStart(factoryResult);
+		factoryResult.setStatus(ITestResult.SUCCESS);
+		listener.onTestSuccess(factoryResult);
+		return launch;
+	}
+
+	@Benchmark
+	public InMemoryLaunch failedTest() {
+		reset(failedResult, ITestResult.STARTED);
+		failedResult.setThrowable(null);
+		listener.onTestStart(failedResult);
+		// The same exception instance, not to measure exception's stack capture
+		failedResult.setThrowable(FAILURE);
+		failedResult.setStatus(ITestResult.FAILURE);
+		listener.onTestFailure(failedResult);
+		return launch;
+	}
+
+	@Benchmark
+	public InMemoryLaunch retriedTest() {
+		reset(retriedResult, ITestResult.STARTED);
+		retriedResult.setWasRetried(false);
+		retriedResult.setThrowable(null);
+		listener.onTestStart(retriedResult);
+		retriedResult.setThrowable(FAILURE);
+		retriedResult.setWasRetried(true);
+		retriedResult.setStatus(ITestResult.SKIP);
+		listener.onTestSkipped(retriedResult);
+
+		reset(lastAttemptResult, ITestResult.STARTED);
+		listener.onTestStart(lastAttemptResult);
+		lastAttemptResult.setStatus(ITestResult.SUCCESS);
+		listener.onTestSuccess(lastAttemptResult);
+		return launch;
+	}
+}
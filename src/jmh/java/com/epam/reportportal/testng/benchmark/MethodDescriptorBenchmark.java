@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.benchmark;
+
+import com.epam.reportportal.annotations.*;
+import com.epam.reportportal.annotations.attribute.Attribute;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.testng.TestMethodType;
+import com.epam.reportportal.testng.util.internal.MethodDescriptor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per invocation cost of TestNG method's data resolution: annotation reflection on every invocation versus cached
+ * {@link MethodDescriptor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodDescriptorBenchmark {
+
+	public static class AnnotatedTest {
+		@Test(dataProvider = "rows")
+		@DisplayName("Annotated test")
+		@Description("Annotated test description")
+		@Attributes(attributes = @Attribute(key = "key", value = "value"))
+		@TestCaseId("annotated-test")
+		public void test() {
+		}
+	}
+
+	private ITestNGMethod testMethod;
+
+	@Setup
+	public void setup() {
+		testMethod = BenchmarkUtils.testMethod(new AnnotatedTest(), "test");
+	}
+
+	@Benchmark
+	public void reflection(Blackhole bh) {
+		// The same set of lookups which was done for every invocation
+		Method method = testMethod.getConstructorOrMethod().getMethod();
+		bh.consume(TestMethodType.getStepType(testMethod));
+		bh.consume(testMethod.getQualifiedName());
+		bh.consume(method.getAnnotation(DisplayName.class));
+		bh.consume(method.getAnnotation(Description.class));
+		bh.consume(method.getAnnotation(Attributes.class));
+		bh.consume(method.getAnnotation(TestCaseId.class));
+		bh.consume(method.getAnnotation(Issues.class));
+		bh.consume(method.getAnnotation(Issue.class));
+		bh.consume(method.getAnnotation(Test.class));
+		bh.consume(method.getAnnotation(Parameters.class));
+	}
+
+	@Benchmark
+	public void descriptor(Blackhole bh) {
+		MethodDescriptor descriptor = MethodDescriptor.of(testMethod);
+		bh.consume(descriptor.getType());
+		bh.consume(descriptor.getCodeRef());
+		bh.consume(descriptor.getDisplayName());
+		bh.consume(descriptor.getDescription());
+		bh.consume(descriptor.getAttributes());
+		bh.consume(descriptor.getTestCaseId());
+		bh.consume(descriptor.getIssues());
+		bh.consume(descriptor.getIssue());
+		bh.consume(descriptor.getTest());
+		bh.consume(descriptor.getParameters());
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.benchmark;
+
+import com.epam.reportportal.testng.TestMethodType;
+import com.epam.reportportal.testng.util.internal.RetryRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Per item start cost of retry detection: previous stack trace scan versus {@link RetryRegistry} lookup. Both variants
+ * are measured on the same call depth, since TestNG listeners are called deep inside TestNG's invokers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RetryDetectionBenchmark {
+	private static final Set<String> TESTNG_INVOKERS = Set.of(
+			"org.testng.internal.TestInvoker",
+			"org.testng.internal.invokers.TestInvoker"
+	);
+
+	@Param({ "32", "128" })
+	public int stackDepth;
+
+	private final RetryRegistry registry = new RetryRegistry();
+
+	private static boolean atDepth(int depth, BooleanSupplier call) {
+		return depth <= 0 ? call.getAsBoolean() : atDepth(depth - 1, call);
+	}
+
+	private static boolean scanStackTrace() {
+		return Arrays.stream(Thread.currentThread().getStackTrace())
+				.anyMatch(e -> TESTNG_INVOKERS.contains(e.getClassName()) && "retryFailed".equals(e.getMethodName()));
+	}
+
+	@Benchmark
+	public boolean stackTraceScan() {
+		return atDepth(stackDepth, RetryDetectionBenchmark::scanStackTrace);
+	}
+
+	@Benchmark
+	public boolean retryRegistry() {
+		return atDepth(stackDepth, () -> registry.isRetry(TestMethodType.BEFORE_METHOD));
+	}
+}
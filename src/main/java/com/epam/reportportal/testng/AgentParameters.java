@@ -0,0 +1,386 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng;
+
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * TestNG agent configuration parameters, see {@link AgentProperty} for the list of properties.
+ * <p>
+ * Properties are read from ReportPortal properties file and can be overridden with environment variables and JVM
+ * system properties the same way as client's properties: "rp.testng.failure.trace.limit" property can be set with
+ * "RP_TESTNG_FAILURE_TRACE_LIMIT" environment variable.
+ */
+public class AgentParameters {
+	public static final int DEFAULT_FAILURE_TRACE_LIMIT = 0;
+	public static final boolean DEFAULT_FAILURE_DEDUPLICATION = false;
+	public static final int DEFAULT_FAILURE_DEDUPLICATION_FRAMES = 5;
+	public static final boolean DEFAULT_ASYNC = false;
+	public static final int DEFAULT_ASYNC_BUFFER_SIZE = 1024;
+	public static final AsyncOverflowPolicy DEFAULT_ASYNC_OVERFLOW = AsyncOverflowPolicy.BLOCK;
+	public static final boolean DEFAULT_ASYNC_FAILURES_FIRST = false;
+	public static final boolean DEFAULT_PARAMETERS_DETACH = false;
+	public static final boolean DEFAULT_ROLLUP = false;
+	public static final boolean DEFAULT_ROLLUP_INVOCATIONS = false;
+	public static final int DEFAULT_ROLLUP_FAILURE_LIMIT = 100;
+	public static final boolean DEFAULT_FAILURES_ONLY = false;
+	public static final boolean DEFAULT_CONFIGURATIONS_FOLD = false;
+	public static final boolean DEFAULT_SKIPS_SUMMARY = false;
+	public static final int DEFAULT_JOURNAL_SEGMENT_SIZE = 16 * 1024 * 1024;
+	public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+	public static final int DEFAULT_CHECKPOINT_DEADLINE = 10000;
+	public static final int DEFAULT_FINISH_DEADLINE = 0;
+	public static final int DEFAULT_FINISH_PROGRESS_INTERVAL = 10000;
+	public static final boolean DEFAULT_FORK_JOIN = false;
+	public static final String DEFAULT_FORK_LOCK = "reportportal-testng.lock";
+	public static final int DEFAULT_FORK_GRACE = 0;
+
+	private int failureTraceLimit;
+	private boolean failureDeduplication;
+	private int failureDeduplicationFrames;
+	private boolean async;
+	private int asyncBufferSize;
+	private AsyncOverflowPolicy asyncOverflow;
+	private boolean asyncFailuresFirst;
+	private boolean parametersDetach;
+	private boolean rollup;
+	private boolean rollupInvocations;
+	private int rollupFailureLimit;
+	private boolean failuresOnly;
+	private boolean configurationsFold;
+	private boolean skipsSummary;
+	private String journal;
+	private int journalSegmentSize;
+	private String checkpoint;
+	private int checkpointInterval;
+	private int checkpointDeadline;
+	private int finishDeadline;
+	private int finishProgressInterval;
+	private String finishSpool;
+	private boolean forkJoin;
+	private String forkLock;
+	private int forkGrace;
+
+	public AgentParameters() {
+		failureTraceLimit = DEFAULT_FAILURE_TRACE_LIMIT;
+		failureDeduplication = DEFAULT_FAILURE_DEDUPLICATION;
+		failureDeduplicationFrames = DEFAULT_FAILURE_DEDUPLICATION_FRAMES;
+		async = DEFAULT_ASYNC;
+		asyncBufferSize = DEFAULT_ASYNC_BUFFER_SIZE;
+		asyncOverflow = DEFAULT_ASYNC_OVERFLOW;
+		asyncFailuresFirst = DEFAULT_ASYNC_FAILURES_FIRST;
+		parametersDetach = DEFAULT_PARAMETERS_DETACH;
+		rollup = DEFAULT_ROLLUP;
+		rollupInvocations = DEFAULT_ROLLUP_INVOCATIONS;
+		rollupFailureLimit = DEFAULT_ROLLUP_FAILURE_LIMIT;
+		failuresOnly = DEFAULT_FAILURES_ONLY;
+		configurationsFold = DEFAULT_CONFIGURATIONS_FOLD;
+		skipsSummary = DEFAULT_SKIPS_SUMMARY;
+		journalSegmentSize = DEFAULT_JOURNAL_SEGMENT_SIZE;
+		checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+		checkpointDeadline = DEFAULT_CHECKPOINT_DEADLINE;
+		finishDeadline = DEFAULT_FINISH_DEADLINE;
+		finishProgressInterval = DEFAULT_FINISH_PROGRESS_INTERVAL;
+		forkJoin = DEFAULT_FORK_JOIN;
+		forkLock = DEFAULT_FORK_LOCK;
+		forkGrace = DEFAULT_FORK_GRACE;
+	}
+
+	public AgentParameters(@Nonnull Properties properties) {
+		failureTraceLimit = getPropertyAsInt(properties, AgentProperty.FAILURE_TRACE_LIMIT, DEFAULT_FAILURE_TRACE_LIMIT);
+		failureDeduplication = getPropertyAsBoolean(properties, AgentProperty.FAILURE_DEDUPLICATION, DEFAULT_FAILURE_DEDUPLICATION);
+		failureDeduplicationFrames = getPropertyAsInt(
+				properties,
+				AgentProperty.FAILURE_DEDUPLICATION_FRAMES,
+				DEFAULT_FAILURE_DEDUPLICATION_FRAMES
+		);
+		async = getPropertyAsBoolean(properties, AgentProperty.ASYNC, DEFAULT_ASYNC);
+		asyncBufferSize = getPropertyAsInt(properties, AgentProperty.ASYNC_BUFFER_SIZE, DEFAULT_ASYNC_BUFFER_SIZE);
+		asyncOverflow = ofNullable(getProperty(properties, AgentProperty.ASYNC_OVERFLOW)).map(p -> AsyncOverflowPolicy.valueOf(p.toUpperCase(
+				Locale.ROOT))).orElse(DEFAULT_ASYNC_OVERFLOW);
+		asyncFailuresFirst = getPropertyAsBoolean(properties, AgentProperty.ASYNC_FAILURES_FIRST, DEFAULT_ASYNC_FAILURES_FIRST);
+		parametersDetach = getPropertyAsBoolean(properties, AgentProperty.PARAMETERS_DETACH, DEFAULT_PARAMETERS_DETACH);
+		rollup = getPropertyAsBoolean(properties, AgentProperty.ROLLUP, DEFAULT_ROLLUP);
+		rollupInvocations = getPropertyAsBoolean(properties, AgentProperty.ROLLUP_INVOCATIONS, DEFAULT_ROLLUP_INVOCATIONS);
+		rollupFailureLimit = getPropertyAsInt(properties, AgentProperty.ROLLUP_FAILURE_LIMIT, DEFAULT_ROLLUP_FAILURE_LIMIT);
+		failuresOnly = getPropertyAsBoolean(properties, AgentProperty.FAILURES_ONLY, DEFAULT_FAILURES_ONLY);
+		configurationsFold = getPropertyAsBoolean(properties, AgentProperty.CONFIGURATIONS_FOLD, DEFAULT_CONFIGURATIONS_FOLD);
+		skipsSummary = getPropertyAsBoolean(properties, AgentProperty.SKIPS_SUMMARY, DEFAULT_SKIPS_SUMMARY);
+		journal = getProperty(properties, AgentProperty.JOURNAL);
+		journalSegmentSize = getPropertyAsInt(properties, AgentProperty.JOURNAL_SEGMENT_SIZE, DEFAULT_JOURNAL_SEGMENT_SIZE);
+		checkpoint = getProperty(properties, AgentProperty.CHECKPOINT);
+		checkpointInterval = getPropertyAsInt(properties, AgentProperty.CHECKPOINT_INTERVAL, DEFAULT_CHECKPOINT_INTERVAL);
+		checkpointDeadline = getPropertyAsInt(properties, AgentProperty.CHECKPOINT_DEADLINE, DEFAULT_CHECKPOINT_DEADLINE);
+		finishDeadline = getPropertyAsInt(properties, AgentProperty.FINISH_DEADLINE, DEFAULT_FINISH_DEADLINE);
+		finishProgressInterval = getPropertyAsInt(properties, AgentProperty.FINISH_PROGRESS_INTERVAL, DEFAULT_FINISH_PROGRESS_INTERVAL);
+		finishSpool = getProperty(properties, AgentProperty.FINISH_SPOOL);
+		forkJoin = getPropertyAsBoolean(properties, AgentProperty.FORK_JOIN, DEFAULT_FORK_JOIN);
+		forkLock = ofNullable(getProperty(properties, AgentProperty.FORK_LOCK)).orElse(DEFAULT_FORK_LOCK);
+		forkGrace = getPropertyAsInt(properties, AgentProperty.FORK_GRACE, DEFAULT_FORK_GRACE);
+	}
+
+	/**
+	 * Loads agent parameters from ReportPortal properties file, environment variables and JVM system properties.
+	 *
+	 * @return agent parameters
+	 */
+	@Nonnull
+	public static AgentParameters load() {
+		Properties properties = new Properties();
+		properties.putAll(PropertiesLoader.load().getProperties());
+		overrideWith(properties, System.getenv());
+		overrideWith(properties, System.getProperties());
+		return new AgentParameters(properties);
+	}
+
+	private static void overrideWith(@Nonnull Properties properties, @Nonnull Map<?, ?> overrides) {
+		overrides.forEach((key, value) -> {
+			String name = key.toString().toLowerCase(Locale.ROOT).replace('_', '.');
+			for (AgentProperty property : AgentProperty.values()) {
+				if (property.getPropertyName().equals(name) && value != null) {
+					properties.setProperty(name, value.toString());
+				}
+			}
+		});
+	}
+
+	@Nullable
+	private static String getProperty(@Nonnull Properties properties, @Nonnull AgentProperty property) {
+		return ofNullable(properties.getProperty(property.getPropertyName())).map(String::trim).orElse(null);
+	}
+
+	private static int getPropertyAsInt(@Nonnull Properties properties, @Nonnull AgentProperty property, int defaultValue) {
+		return ofNullable(getProperty(properties, property)).map(Integer::parseInt).orElse(defaultValue);
+	}
+
+	private static boolean getPropertyAsBoolean(@Nonnull Properties properties, @Nonnull AgentProperty property, boolean defaultValue) {
+		return ofNullable(getProperty(properties, property)).map(Boolean::parseBoolean).orElse(defaultValue);
+	}
+
+	public int getFailureTraceLimit() {
+		return failureTraceLimit;
+	}
+
+	public void setFailureTraceLimit(int failureTraceLimit) {
+		this.failureTraceLimit = failureTraceLimit;
+	}
+
+	public boolean isFailureDeduplication() {
+		return failureDeduplication;
+	}
+
+	public void setFailureDeduplication(boolean failureDeduplication) {
+		this.failureDeduplication = failureDeduplication;
+	}
+
+	public int getFailureDeduplicationFrames() {
+		return failureDeduplicationFrames;
+	}
+
+	public void setFailureDeduplicationFrames(int failureDeduplicationFrames) {
+		this.failureDeduplicationFrames = failureDeduplicationFrames;
+	}
+
+	public boolean isAsync() {
+		return async;
+	}
+
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	public int getAsyncBufferSize() {
+		return asyncBufferSize;
+	}
+
+	public void setAsyncBufferSize(int asyncBufferSize) {
+		this.asyncBufferSize = asyncBufferSize;
+	}
+
+	@Nonnull
+	public AsyncOverflowPolicy getAsyncOverflow() {
+		return asyncOverflow;
+	}
+
+	public void setAsyncOverflow(@Nonnull AsyncOverflowPolicy asyncOverflow) {
+		this.asyncOverflow = asyncOverflow;
+	}
+
+	public boolean isAsyncFailuresFirst() {
+		return asyncFailuresFirst;
+	}
+
+	public void setAsyncFailuresFirst(boolean asyncFailuresFirst) {
+		this.asyncFailuresFirst = asyncFailuresFirst;
+	}
+
+	public boolean isParametersDetach() {
+		return parametersDetach;
+	}
+
+	public void setParametersDetach(boolean parametersDetach) {
+		this.parametersDetach = parametersDetach;
+	}
+
+	public boolean isRollup() {
+		return rollup;
+	}
+
+	public void setRollup(boolean rollup) {
+		this.rollup = rollup;
+	}
+
+	public boolean isRollupInvocations() {
+		return rollupInvocations;
+	}
+
+	public void setRollupInvocations(boolean rollupInvocations) {
+		this.rollupInvocations = rollupInvocations;
+	}
+
+	public int getRollupFailureLimit() {
+		return rollupFailureLimit;
+	}
+
+	public void setRollupFailureLimit(int rollupFailureLimit) {
+		this.rollupFailureLimit = rollupFailureLimit;
+	}
+
+	public boolean isFailuresOnly() {
+		return failuresOnly;
+	}
+
+	public void setFailuresOnly(boolean failuresOnly) {
+		this.failuresOnly = failuresOnly;
+	}
+
+	public boolean isConfigurationsFold() {
+		return configurationsFold;
+	}
+
+	public void setConfigurationsFold(boolean configurationsFold) {
+		this.configurationsFold = configurationsFold;
+	}
+
+	public boolean isSkipsSummary() {
+		return skipsSummary;
+	}
+
+	public void setSkipsSummary(boolean skipsSummary) {
+		this.skipsSummary = skipsSummary;
+	}
+
+	@Nullable
+	public String getJournal() {
+		return journal;
+	}
+
+	public void setJournal(@Nullable String journal) {
+		this.journal = journal;
+	}
+
+	public int getJournalSegmentSize() {
+		return journalSegmentSize;
+	}
+
+	public void setJournalSegmentSize(int journalSegmentSize) {
+		this.journalSegmentSize = journalSegmentSize;
+	}
+
+	@Nullable
+	public String getCheckpoint() {
+		return checkpoint;
+	}
+
+	public void setCheckpoint(@Nullable String checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
+	public int getCheckpointInterval() {
+		return checkpointInterval;
+	}
+
+	public void setCheckpointInterval(int checkpointInterval) {
+		this.checkpointInterval = checkpointInterval;
+	}
+
+	public int getCheckpointDeadline() {
+		return checkpointDeadline;
+	}
+
+	public void setCheckpointDeadline(int checkpointDeadline) {
+		this.checkpointDeadline = checkpointDeadline;
+	}
+
+	public int getFinishDeadline() {
+		return finishDeadline;
+	}
+
+	public void setFinishDeadline(int finishDeadline) {
+		this.finishDeadline = finishDeadline;
+	}
+
+	public int getFinishProgressInterval() {
+		return finishProgressInterval;
+	}
+
+	public void setFinishProgressInterval(int finishProgressInterval) {
+		this.finishProgressInterval = finishProgressInterval;
+	}
+
+	@Nullable
+	public String getFinishSpool() {
+		return finishSpool;
+	}
+
+	public void setFinishSpool(@Nullable String finishSpool) {
+		this.finishSpool = finishSpool;
+	}
+
+	public boolean isForkJoin() {
+		return forkJoin;
+	}
+
+	public void setForkJoin(boolean forkJoin) {
+		this.forkJoin = forkJoin;
+	}
+
+	@Nonnull
+	public String getForkLock() {
+		return forkLock;
+	}
+
+	public void setForkLock(@Nonnull String forkLock) {
+		this.forkLock = forkLock;
+	}
+
+	public int getForkGrace() {
+		return forkGrace;
+	}
+
+	public void setForkGrace(int forkGrace) {
+		this.forkGrace = forkGrace;
+	}
+}
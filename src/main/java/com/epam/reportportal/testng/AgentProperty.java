@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * TestNG agent specific properties, which are read from the same sources as client's
+ * {@link com.epam.reportportal.utils.properties.ListenerProperty}.
+ */
+public enum AgentProperty {
+	/**
+	 * Maximum length of a failure stack trace in item descriptions and logs, non-positive values mean no limit
+	 */
+	FAILURE_TRACE_LIMIT("rp.testng.failure.trace.limit"),
+	/**
+	 * Report only the first failure with the same exception type and top stack trace frames in full, next ones get a
+	 * short reference to the first failed item
+	 */
+	FAILURE_DEDUPLICATION("rp.testng.failure.deduplication"),
+	/**
+	 * Number of top stack trace frames which are compared to detect the same failure
+	 */
+	FAILURE_DEDUPLICATION_FRAMES("rp.testng.failure.deduplication.frames"),
+	/**
+	 * Report test results from a dedicated thread, test threads only publish their results to a bounded buffer
+	 */
+	ASYNC("rp.testng.async"),
+	/**
+	 * Capacity of the asynchronous reporting buffer, rounded up to a power of two
+	 */
+	ASYNC_BUFFER_SIZE("rp.testng.async.buffer.size"),
+	/**
+	 * What test threads do if the asynchronous reporting buffer is full, see {@link AsyncOverflowPolicy}
+	 */
+	ASYNC_OVERFLOW("rp.testng.async.overflow"),
+	/**
+	 * Report failed and failure-caused skipped items ahead of the events which wait in the asynchronous reporting buffer
+	 */
+	ASYNC_FAILURES_FIRST("rp.testng.async.failures.first"),
+	/**
+	 * Replace data provider parameters of finished test results with nulls, so TestNG does not retain them till the end
+	 * of the test
+	 */
+	PARAMETERS_DETACH("rp.testng.parameters.detach"),
+	/**
+	 * Report passed data provider rows of a test method as a single item with a summary, only failed and skipped rows get
+	 * their own items, see {@link com.epam.reportportal.testng.annotations.Rollup}
+	 */
+	ROLLUP("rp.testng.rollup"),
+	/**
+	 * Report all invocations of a test method with invocation count greater than one as a single item with a summary
+	 * and latency percentiles, see {@link com.epam.reportportal.testng.annotations.Rollup}
+	 */
+	ROLLUP_INVOCATIONS("rp.testng.rollup.invocations"),
+	/**
+	 * Maximum number of failed and skipped iterations of a rolled up method which are reported as separate items,
+	 * non-positive values mean no limit
+	 */
+	ROLLUP_FAILURE_LIMIT("rp.testng.rollup.failure.limit"),
+	/**
+	 * Report only test methods and configurations which did not pass: passed items are never sent, their test and suite
+	 * items get a summary of their counts and durations instead
+	 */
+	FAILURES_ONLY("rp.testng.failures.only"),
+	/**
+	 * Report passed configuration methods as timing logs of their parent items, only failed and skipped configuration
+	 * methods get their own items
+	 */
+	CONFIGURATIONS_FOLD("rp.testng.configurations.fold"),
+	/**
+	 * Report test methods which TestNG skips because of a failed configuration or dependency as a single summary item
+	 * per test, which lists the skipped methods and the causes, instead of an item per method
+	 */
+	SKIPS_SUMMARY("rp.testng.skips.summary"),
+	/**
+	 * Directory of a local journal: if set, reporting requests are written to memory-mapped journal segment files in the
+	 * directory instead of being sent to ReportPortal, see {@link com.epam.reportportal.testng.journal.Journal}
+	 */
+	JOURNAL("rp.testng.journal"),
+	/**
+	 * Size of a journal segment file in bytes
+	 */
+	JOURNAL_SEGMENT_SIZE("rp.testng.journal.segment.size"),
+	/**
+	 * Directory of launch checkpoints: if set, unfinished items are saved to a checkpoint file in the directory, so items
+	 * of a JVM which dies are finished by the next JVM, see {@link com.epam.reportportal.testng.checkpoint.Checkpoint}
+	 */
+	CHECKPOINT("rp.testng.checkpoint"),
+	/**
+	 * How often the checkpoint is saved, in milliseconds
+	 */
+	CHECKPOINT_INTERVAL("rp.testng.checkpoint.interval"),
+	/**
+	 * How long dangling items are finished for on the JVM shutdown or recovery, in milliseconds
+	 */
+	CHECKPOINT_DEADLINE("rp.testng.checkpoint.deadline"),
+	/**
+	 * How long the launch finish waits for ReportPortal, in milliseconds: requests which are still pending after that are
+	 * written to a journal in {@link #FINISH_SPOOL} directory, see {@link com.epam.reportportal.testng.journal.SpoolingClient}.
+	 * Zero means no deadline
+	 */
+	FINISH_DEADLINE("rp.testng.finish.deadline"),
+	/**
+	 * How often the launch finish progress is logged, in milliseconds
+	 */
+	FINISH_PROGRESS_INTERVAL("rp.testng.finish.progress.interval"),
+	/**
+	 * Directory the requests pending after the launch finish deadline are spooled to, the temporary directory by default
+	 */
+	FINISH_SPOOL("rp.testng.finish.spool"),
+	/**
+	 * Report all JVM forks of a build to a single launch: the first fork starts it, the last one finishes it, see
+	 * {@link com.epam.reportportal.testng.fork.ForkLock}
+	 */
+	FORK_JOIN("rp.testng.fork.join"),
+	/**
+	 * Lock file the forks share the launch through
+	 */
+	FORK_LOCK("rp.testng.fork.lock"),
+	/**
+	 * How long the launch finished by the last fork is reopened as a rerun by the next fork, in milliseconds, so forks of a
+	 * build which run one after another share the launch too. Zero means a new launch for every such fork
+	 */
+	FORK_GRACE("rp.testng.fork.grace");
+
+	private final String propertyName;
+
+	AgentProperty(@Nonnull String propertyName) {
+		this.propertyName = propertyName;
+	}
+
+	@Nonnull
+	public String getPropertyName() {
+		return propertyName;
+	}
+}
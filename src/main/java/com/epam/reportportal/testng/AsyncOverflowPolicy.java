@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng;
+
+/**
+ * Back-pressure policy of asynchronous reporting: what a test thread does if the reporting buffer is full.
+ */
+public enum AsyncOverflowPolicy {
+	/**
+	 * Wait until the reporting thread frees a slot in the buffer
+	 */
+	BLOCK,
+	/**
+	 * Drop detail events, like failure logs, wait for a free slot with item start and finish events
+	 */
+	DROP_DETAIL,
+	/**
+	 * Put events to an unbounded overflow queue, which is reported after the buffer in the same order
+	 */
+	SPILL
+}
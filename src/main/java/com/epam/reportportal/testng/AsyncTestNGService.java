@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.LoggingContext;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.testng.util.internal.EventPipeline;
+import com.epam.reportportal.testng.util.internal.TestResultSnapshot;
+import com.epam.reportportal.testng.util.internal.WeakIdentityConcurrentMap;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+
+/**
+ * TestNG service which reports on a dedicated thread: test threads capture a {@link TestResultSnapshot} of the result
+ * and publish it to an {@link EventPipeline}, the pipeline thread builds requests and calls the {@link Launch} with
+ * the given {@link TestNGService}. Enabled with {@link AgentProperty#ASYNC} property.
+ * <p>
+ * Logs and nested steps of the test code are still reported on test threads, so every test method and configuration
+ * item gets a virtual ID on its test thread, which is bound to the real item once the pipeline starts it.
+ * <p>
+ * Test threads do not only enqueue: whether an item needs a virtual ID depends on the result, so the rollup, deferred
+ * and skip summary checks, with their cached method descriptor lookups, run on the test thread along with the virtual
+ * item creation and the snapshot copy. Request building, the item tree and the launch calls are on the pipeline thread.
+ * <p>
+ * Callback reporting needs items in the tree right after their start on the test thread, so with callback reporting
+ * enabled all the events are reported on the calling threads.
+ * <p>
+ * With {@link AgentProperty#ASYNC_FAILURES_FIRST} property failure logs and finishes of failed items skip the events
+ * which wait in the pipeline, once the start of the item is reported, so the failures become visible earlier.
+ */
+public class AsyncTestNGService implements ITestNGService {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AsyncTestNGService.class);
+
+	private static final String THREAD_NAME = "rp-testng-reporter";
+
+	private final TestNGService delegate;
+	private final WeakIdentityConcurrentMap<ITestResult, Maybe<String>> virtualItems = new WeakIdentityConcurrentMap<>();
+	private final WeakIdentityConcurrentMap<ITestResult, Boolean> reportedStarts = new WeakIdentityConcurrentMap<>();
+	private final WeakIdentityConcurrentMap<ITestResult, Boolean> priorityResults = new WeakIdentityConcurrentMap<>();
+
+	private volatile EventPipeline pipeline;
+
+	public AsyncTestNGService(@Nonnull TestNGService delegate) {
+		this.delegate = delegate;
+	}
+
+	private void publish(@Nonnull Runnable event, boolean detail) {
+		EventPipeline myPipeline = pipeline;
+		if (myPipeline == null) {
+			event.run();
+		} else {
+			myPipeline.publish(event, detail);
+		}
+	}
+
+	private boolean isFailuresFirst() {
+		return delegate.getAgentParameters().isAsyncFailuresFirst();
+	}
+
+	private void publishStart(@Nonnull ITestResult testResult, @Nonnull Runnable event) {
+		if (!isFailuresFirst()) {
+			publish(event, false);
+			return;
+		}
+		publish(() -> {
+			event.run();
+			// The result's item and its parents are started, so events of the result can skip the waiting ones from now
+			reportedStarts.computeIfAbsent(testResult, r -> Boolean.TRUE);
+		}, false);
+	}
+
+	/**
+	 * Checks if events of the result skip the events which wait in the pipeline. The check is made on the first failure
+	 * event of the result and kept for the rest of its events, so they are executed in the order they were published.
+	 */
+	private boolean isPriority(@Nonnull ITestResult testResult, boolean failure) {
+		if (!isFailuresFirst()) {
+			return false;
+		}
+		Boolean priority = priorityResults.get(testResult);
+		if (priority != null || !failure) {
+			return Boolean.TRUE.equals(priority);
+		}
+		return priorityResults.computeIfAbsent(testResult, r -> reportedStarts.get(r) != null);
+	}
+
+	private void publishResultEvent(@Nonnull ITestResult testResult, @Nonnull Runnable event, boolean detail, boolean failure) {
+		EventPipeline myPipeline = pipeline;
+		if (myPipeline != null && isPriority(testResult, failure)) {
+			myPipeline.publishPriority(event);
+		} else {
+			publish(event, detail);
+		}
+	}
+
+	@Override
+	public void startLaunch() {
+		delegate.startLaunch();
+		if (delegate.getLaunch().getParameters().isCallbackReportingEnabled()) {
+			LOGGER.warn("Asynchronous reporting is not compatible with callback reporting, the launch is reported synchronously");
+			return;
+		}
+		AgentParameters parameters = delegate.getAgentParameters();
+		pipeline = new EventPipeline(THREAD_NAME, parameters.getAsyncBufferSize(), parameters.getAsyncOverflow());
+	}
+
+	@Override
+	public void finishLaunch() {
+		EventPipeline myPipeline = pipeline;
+		if (myPipeline != null) {
+			myPipeline.close();
+			pipeline = null;
+		}
+		delegate.finishLaunch();
+	}
+
+	@Override
+	public void startTestSuite(ISuite suite) {
+		publish(() -> delegate.startTestSuite(suite), false);
+	}
+
+	@Override
+	public void finishTestSuite(ISuite suite) {
+		publish(() -> delegate.finishTestSuite(suite), false);
+	}
+
+	@Override
+	public void startTest(ITestContext testContext) {
+		publish(() -> delegate.startTest(testContext), false);
+	}
+
+	@Override
+	public void finishTest(ITestContext testContext) {
+		publish(() -> delegate.finishTest(testContext), false);
+	}
+
+	/**
+	 * Creates a virtual item for the result and binds it to the current thread like {@link Launch} does on an item
+	 * start: test code logs and nested steps are reported to it.
+	 */
+	@Nonnull
+	private Maybe<String> startVirtualItem(@Nonnull ITestResult testResult) {
+		Launch launch = delegate.getLaunch();
+		// A launch becomes the current one of a thread on its parameters read, nested steps of test code look for it there
+		launch.getParameters();
+		Maybe<String> virtualItem = launch.createVirtualItem();
+		// Virtual item does not replay its ID to subscribers which come after the item start, so subscribe right away
+		//noinspection ResultOfMethodCallIgnored
+		virtualItem.onErrorComplete().subscribe();
+		launch.getStepReporter().setParent(virtualItem);
+		virtualItems.computeIfAbsent(testResult, r -> virtualItem);
+		return virtualItem;
+	}
+
+	/**
+	 * Unbinds the result's virtual item from the current thread like {@link Launch} does on an item finish.
+	 *
+	 * @return the status the item should be reported with, failed nested steps fail their parent
+	 */
+	@Nonnull
+	private ItemStatus finishVirtualItem(@Nonnull ITestResult testResult, @Nonnull ItemStatus status) {
+		Maybe<String> virtualItem = virtualItems.remove(testResult);
+		if (virtualItem == null) {
+			return status;
+		}
+		StepReporter stepReporter = delegate.getLaunch().getStepReporter();
+		stepReporter.finishPreviousStep(status);
+		ItemStatus finishStatus = stepReporter.isFailed(virtualItem) ? ItemStatus.FAILED : status;
+		stepReporter.removeParent(virtualItem);
+		LoggingContext.dispose();
+		return finishStatus;
+	}
+
+	@Override
+	public void startTestMethod(ITestResult testResult) {
+		if (pipeline == null) {
+			delegate.startTestMethod(testResult);
+			return;
+		}
+		Maybe<String> virtualItem = null;
+		// Skipped methods of the test's summary have no items of their own
+		boolean summarizedSkip = delegate.isSummarizedSkip(testResult);
+		if (!summarizedSkip && delegate.isDeferred(testResult)) {
+			// Deferred items have their own placeholder IDs, which are not bound to an item until the result is known
+			delegate.bindDeferredItem(testResult);
+		} else if (!summarizedSkip && !delegate.isRollup(testResult)) {
+			// Rolled up iterations have no items of their own to bind test code logs to
+			virtualItem = startVirtualItem(testResult);
+		}
+		TestResultSnapshot snapshot = TestResultSnapshot.of(testResult, virtualItem, delegate::getRunnerFrames);
+		publishStart(testResult, () -> delegate.startTestMethod(snapshot));
+	}
+
+	@Override
+	public void finishTestMethod(ItemStatus status, ITestResult testResult) {
+		if (pipeline == null) {
+			delegate.finishTestMethod(status, testResult);
+			return;
+		}
+		ItemStatus finishStatus = delegate.unbindDeferredItem(testResult, finishVirtualItem(testResult, status));
+		TestResultSnapshot snapshot = TestResultSnapshot.of(testResult, null, delegate::getRunnerFrames);
+		// Skips with a cause are skips because of a failed configuration or dependency
+		boolean failure = ItemStatus.FAILED == finishStatus || (ItemStatus.SKIPPED == finishStatus && testResult.getThrowable() != null);
+		publishResultEvent(testResult, () -> {
+			delegate.finishTestMethod(finishStatus, snapshot);
+			reportedStarts.remove(testResult);
+		}, false, failure);
+		priorityResults.remove(testResult);
+	}
+
+	@Override
+	public void startConfiguration(ITestResult testResult) {
+		if (pipeline == null) {
+			delegate.startConfiguration(testResult);
+			return;
+		}
+		Maybe<String> virtualItem = null;
+		if (delegate.isDeferred(testResult)) {
+			delegate.bindDeferredItem(testResult);
+		} else if (virtualItems.get(testResult) == null) {
+			// A skipped configuration is started twice, on its before event and on its skip event
+			virtualItem = startVirtualItem(testResult);
+		}
+		TestResultSnapshot snapshot = TestResultSnapshot.of(testResult, virtualItem, delegate::getRunnerFrames);
+		publishStart(testResult, () -> delegate.startConfiguration(snapshot));
+	}
+
+	@Override
+	public void sendReportPortalMsg(ITestResult testResult) {
+		if (pipeline == null) {
+			delegate.sendReportPortalMsg(testResult);
+			return;
+		}
+		TestResultSnapshot snapshot = TestResultSnapshot.of(testResult, null, delegate::getRunnerFrames);
+		publishResultEvent(testResult, () -> delegate.sendReportPortalMsg(snapshot), true, true);
+	}
+
+	/**
+	 * @return the service which builds requests and calls the launch
+	 */
+	@Nonnull
+	public TestNGService getDelegate() {
+		return delegate;
+	}
+}
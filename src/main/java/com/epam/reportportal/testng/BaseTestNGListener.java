@@ -23,10 +23,13 @@ import org.testng.internal.IResultListener2;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Optional.ofNullable;
+
 /**
  * ReportPortal custom event listener. Support parallel execution of test
  * methods, suites, test classes.
- * Can be extended by providing {@link ITestNGService} implementation
+ * Can be extended by providing {@link ITestNGService} implementation.
+ * {@link TestNGService} is wrapped with {@link AsyncTestNGService} if asynchronous reporting is enabled.
  */
 public class BaseTestNGListener implements IExecutionListener, ISuiteListener, IResultListener2 {
 
@@ -37,7 +40,7 @@ public class BaseTestNGListener implements IExecutionListener, ISuiteListener, I
 	private final ITestNGService testNGService;
 
 	public BaseTestNGListener(ITestNGService testNgService) {
-		this.testNGService = testNgService;
+		this.testNGService = isAsync(testNgService) ? new AsyncTestNGService((TestNGService) testNgService) : testNgService;
 		if (INSTANCES.incrementAndGet() > 1) {
 			final String warning = "WARNING! More than one ReportPortal listener is added";
 			LOGGER.warn(warning);
@@ -47,6 +50,11 @@ public class BaseTestNGListener implements IExecutionListener, ISuiteListener, I
 		}
 	}
 
+	private static boolean isAsync(ITestNGService testNgService) {
+		return testNgService instanceof TestNGService && ofNullable(((TestNGService) testNgService).getAgentParameters()).map(
+				AgentParameters::isAsync).orElse(false);
+	}
+
 	@Override
 	public void onExecutionStart() {
 		testNGService.startLaunch();
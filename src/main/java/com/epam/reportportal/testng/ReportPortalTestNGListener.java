@@ -15,20 +15,97 @@
  */
 package com.epam.reportportal.testng;
 
+import com.epam.reportportal.exception.InternalReportPortalClientException;
+import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.testng.checkpoint.Checkpoint;
+import com.epam.reportportal.testng.checkpoint.CheckpointClient;
+import com.epam.reportportal.testng.fork.ForkLock;
+import com.epam.reportportal.testng.journal.Journal;
+import com.epam.reportportal.testng.journal.JournalClient;
+import com.epam.reportportal.testng.journal.SpoolingClient;
 import com.epam.reportportal.utils.MemoizingSupplier;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
 /**
  * Backward-compatible version of Listeners with version prior to 3.0.0
  * Allows to have as many listener instances as needed.
  * The best approach is to have only one instance
  */
 public class ReportPortalTestNGListener extends BaseTestNGListener {
+	private static final String DEFAULT_SPOOL_DIRECTORY = "reportportal-spool";
 
 	/* static instance with lazy init */
-	public static final Supplier<ITestNGService> SERVICE = new MemoizingSupplier<>(() -> new TestNGService(ReportPortal.builder().build()));
+	public static final Supplier<ITestNGService> SERVICE = new MemoizingSupplier<>(() -> {
+		AgentParameters parameters = AgentParameters.load();
+		return new TestNGService(createReportPortal(parameters), parameters);
+	});
+
+	/**
+	 * Creates ReportPortal instance which sends requests to the server, or writes them to a local journal if
+	 * {@link AgentProperty#JOURNAL} property is set. If {@link AgentProperty#FINISH_DEADLINE} property is set, requests
+	 * which are pending after the deadline on the launch finish are spooled to the disk. If {@link AgentProperty#CHECKPOINT}
+	 * property is set, unfinished items are saved to a checkpoint file, and items left unfinished by JVMs which died are
+	 * finished first.
+	 *
+	 * @param parameters agent parameters
+	 * @return ReportPortal instance
+	 */
+	@Nonnull
+	static ReportPortal createReportPortal(@Nonnull AgentParameters parameters) {
+		ReportPortal reportPortal;
+		if (isBlank(parameters.getJournal())) {
+			reportPortal = ReportPortal.builder().build();
+		} else {
+			try {
+				Journal journal = new Journal(Paths.get(parameters.getJournal()), parameters.getJournalSegmentSize());
+				reportPortal = ReportPortal.create(new JournalClient(journal), new ListenerParameters(PropertiesLoader.load()));
+			} catch (IOException e) {
+				throw new InternalReportPortalClientException("Unable to open journal: " + parameters.getJournal(), e);
+			}
+		}
+		ReportPortalClient client = reportPortal.getClient();
+		if (client == null) {
+			return reportPortal;
+		}
+		if (isBlank(parameters.getJournal()) && parameters.getFinishDeadline() > 0) {
+			Path spool = isBlank(parameters.getFinishSpool()) ?
+					Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_SPOOL_DIRECTORY) :
+					Paths.get(parameters.getFinishSpool());
+			client = new SpoolingClient(
+					client,
+					spool,
+					parameters.getJournalSegmentSize(),
+					parameters.getFinishDeadline(),
+					parameters.getFinishProgressInterval()
+			);
+			reportPortal = ReportPortal.create(client, reportPortal.getParameters());
+		}
+		if (isBlank(parameters.getCheckpoint())) {
+			return reportPortal;
+		}
+		Path directory = Paths.get(parameters.getCheckpoint());
+		// A launch shared by forks is finished by the last fork, even if the one which started it has died
+		Predicate<String> launchInUse = parameters.isForkJoin() ? new ForkLock(Paths.get(parameters.getForkLock()))::isInUse : l -> false;
+		Checkpoint.recover(directory, client, System.currentTimeMillis() + parameters.getCheckpointDeadline(), launchInUse);
+		Checkpoint checkpoint = new Checkpoint();
+		Path file = Checkpoint.getFile(directory);
+		checkpoint.startSaving(file, parameters.getCheckpointInterval());
+		return ReportPortal.create(
+				new CheckpointClient(client, checkpoint, file, parameters.getCheckpointDeadline()),
+				reportPortal.getParameters()
+		);
+	}
 
 	public ReportPortalTestNGListener() {
 		super(SERVICE.get());
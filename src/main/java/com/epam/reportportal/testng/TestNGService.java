@@ -20,10 +20,30 @@ import com.epam.reportportal.annotations.attribute.Attributes;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.LoggingContext;
 import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
 import com.epam.reportportal.service.item.TestCaseIdEntry;
+import com.epam.reportportal.service.step.StepReporter;
 import com.epam.reportportal.service.tree.TestItemTree;
-import com.epam.reportportal.testng.util.internal.LimitedSizeConcurrentHashMap;
+import com.epam.reportportal.testng.annotations.Rollup;
+import com.epam.reportportal.testng.checkpoint.CheckpointClient;
+import com.epam.reportportal.testng.fork.ForkedLaunch;
+import com.epam.reportportal.testng.journal.SpoolingClient;
+import com.epam.reportportal.testng.util.internal.BoundedConcurrentMap;
+import com.epam.reportportal.testng.util.internal.DeferredItem;
+import com.epam.reportportal.testng.util.internal.FactoryConstructor;
+import com.epam.reportportal.testng.util.internal.FailureDeduplicator;
+import com.epam.reportportal.testng.util.internal.FailurePayload;
+import com.epam.reportportal.testng.util.internal.HeldBeforeMethods;
+import com.epam.reportportal.testng.util.internal.ItemTreeIndex;
+import com.epam.reportportal.testng.util.internal.MethodDescriptor;
+import com.epam.reportportal.testng.util.internal.PassedItems;
+import com.epam.reportportal.testng.util.internal.RetryRegistry;
+import com.epam.reportportal.testng.util.internal.RollupItem;
+import com.epam.reportportal.testng.util.internal.SkippedItems;
+import com.epam.reportportal.testng.util.internal.TestResultSnapshot;
+import com.epam.reportportal.testng.util.internal.WeakIdentityConcurrentMap;
 import com.epam.reportportal.utils.*;
 import com.epam.reportportal.utils.formatting.MarkdownUtils;
 import com.epam.reportportal.utils.properties.SystemAttributesExtractor;
@@ -37,21 +57,17 @@ import jakarta.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.testng.*;
-import org.testng.annotations.Factory;
-import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 import org.testng.collections.Lists;
 import org.testng.internal.ConstructorOrMethod;
-import org.testng.xml.XmlClass;
 import org.testng.xml.XmlTest;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -59,7 +75,6 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.epam.reportportal.testng.util.ItemTreeUtils.createKey;
-import static com.epam.reportportal.utils.formatting.ExceptionUtils.getStackTrace;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -77,14 +92,11 @@ public class TestNGService implements ITestNGService {
 			TestMethodType.BEFORE_METHOD
 	).collect(Collectors.toSet());
 	private static final String AGENT_PROPERTIES_FILE = "agent.properties";
-	private static final Set<String> TESTNG_INVOKERS = Stream.of(
-			"org.testng.internal.TestInvoker",
-			"org.testng.internal.invokers.TestInvoker"
-	).collect(Collectors.toSet());
-	private static final Predicate<StackTraceElement> IS_RETRY_ELEMENT = e -> TESTNG_INVOKERS.contains(e.getClassName())
-			&& "retryFailed".equals(e.getMethodName());
-	private static final Predicate<StackTraceElement[]> IS_RETRY = eList -> Arrays.stream(eList).anyMatch(IS_RETRY_ELEMENT);
 	private static final int MAXIMUM_HISTORY_SIZE = 1000;
+	private static final int MAXIMUM_HELD_BEFORE_METHODS = 100;
+	private static final String ROLLUP_ATTRIBUTE = "rp_rollup";
+	private static final String DEFERRED_ATTRIBUTE = "rp_deferred";
+	private static final String SUMMARIZED_SKIP_ATTRIBUTE = "rp_summarized_skip";
 
 	public static final String SKIPPED_ISSUE_KEY = "skippedIssue";
 	public static final String RP_ID = "rp_id";
@@ -93,31 +105,87 @@ public class TestNGService implements ITestNGService {
 	public static final String NULL_VALUE = "NULL";
 	public static final String DESCRIPTION_ERROR_FORMAT = "Error: \n%s";
 	public static final TestItemTree ITEM_TREE = new TestItemTree();
+	public static final ItemTreeIndex ITEM_INDEX = new ItemTreeIndex(ITEM_TREE);
 
-	private final Map<Object, Queue<Pair<Maybe<String>, FinishTestItemRQ>>> BEFORE_METHOD_TRACKER = new ConcurrentHashMap<>();
+	// Held finishes are the only copy of the requests, so test instances are strong keys, which are always removed on the
+	// test or the launch finish
+	private final Map<Object, HeldBeforeMethods> BEFORE_METHOD_TRACKER = Collections.synchronizedMap(new IdentityHashMap<>());
 
-	private final Map<Object, Boolean> RETRY_STATUS_TRACKER = new LimitedSizeConcurrentHashMap<>(MAXIMUM_HISTORY_SIZE);
-	private final Map<Object, Boolean> SKIPPED_STATUS_TRACKER = new LimitedSizeConcurrentHashMap<>(MAXIMUM_HISTORY_SIZE);
+	private final BoundedConcurrentMap<Object, Boolean> RETRY_STATUS_TRACKER = new BoundedConcurrentMap<>(MAXIMUM_HISTORY_SIZE);
+	private final BoundedConcurrentMap<Object, Boolean> SKIPPED_STATUS_TRACKER = new BoundedConcurrentMap<>(MAXIMUM_HISTORY_SIZE);
+	private final RetryRegistry RETRY_REGISTRY = new RetryRegistry();
+	private final WeakIdentityConcurrentMap<Thread, RetryRegistry> SNAPSHOT_RETRY_REGISTRIES = new WeakIdentityConcurrentMap<>();
+	private final WeakIdentityConcurrentMap<ITestContext, Map<ITestNGMethod, RollupItem>> ROLLUPS = new WeakIdentityConcurrentMap<>();
+	private final WeakIdentityConcurrentMap<Object, PassedItems> PASSED_ITEMS = new WeakIdentityConcurrentMap<>();
+	private final WeakIdentityConcurrentMap<ITestContext, SkippedItems> SKIPPED_ITEMS = new WeakIdentityConcurrentMap<>();
+	private final WeakIdentityConcurrentMap<Thread, List<String>> RUNNER_FRAMES = new WeakIdentityConcurrentMap<>();
 
 	private final MemoizingSupplier<Launch> launch;
+	private final AgentParameters agentParameters;
+	private final FailureDeduplicator failureDeduplicator;
 
 	private volatile Thread shutDownHook;
 
+	@Nullable
+	private static CheckpointClient getCheckpointClient(@Nonnull Launch launch) {
+		return launch.getClient() instanceof CheckpointClient ? (CheckpointClient) launch.getClient() : null;
+	}
+
+	@Nullable
+	private static SpoolingClient getSpoolingClient(@Nonnull Launch launch) {
+		ReportPortalClient client = ofNullable(getCheckpointClient(launch)).<ReportPortalClient>map(CheckpointClient::getDelegate)
+				.orElseGet(launch::getClient);
+		return client instanceof SpoolingClient ? (SpoolingClient) client : null;
+	}
+
+	private static void finish(@Nonnull Launch launch, @Nonnull FinishExecutionRQ rq) {
+		SpoolingClient spoolingClient = getSpoolingClient(launch);
+		if (spoolingClient == null) {
+			launch.finish(rq);
+		} else {
+			spoolingClient.finish(launch, rq);
+		}
+	}
+
 	private static Thread getShutdownHook(final Supplier<Launch> launch) {
 		return new Thread(() -> {
+			Launch currentLaunch = launch.get();
+			CheckpointClient checkpointClient = getCheckpointClient(currentLaunch);
+			if (checkpointClient != null) {
+				// Items which were running are finished as interrupted, so the launch is not left in progress
+				checkpointClient.finishDanglingItems();
+			}
 			FinishExecutionRQ rq = new FinishExecutionRQ();
 			rq.setEndTime(Instant.now());
-			launch.get().finish(rq);
+			finish(currentLaunch, rq);
+			if (checkpointClient != null) {
+				checkpointClient.save();
+			}
 		});
 	}
 
+	@Nullable
+	private static FailureDeduplicator createFailureDeduplicator(@Nonnull AgentParameters agentParameters) {
+		return agentParameters.isFailureDeduplication() ?
+				new FailureDeduplicator(agentParameters.getFailureDeduplicationFrames(), MAXIMUM_HISTORY_SIZE) :
+				null;
+	}
+
 	public TestNGService(@Nonnull final ReportPortal reportPortal) {
+		this(reportPortal, AgentParameters.load());
+	}
+
+	public TestNGService(@Nonnull final ReportPortal reportPortal, @Nonnull final AgentParameters agentParameters) {
+		this.agentParameters = agentParameters;
+		failureDeduplicator = createFailureDeduplicator(agentParameters);
 		this.launch = new MemoizingSupplier<>(() -> {
 			//this reads property, so we want to
 			//init ReportPortal object each time Launch object is going to be created
 			StartLaunchRQ startRq = buildStartLaunchRq(reportPortal.getParameters());
 			startRq.setStartTime(Instant.now());
-			Launch newLaunch = reportPortal.newLaunch(startRq);
+			Launch newLaunch = agentParameters.isForkJoin() ?
+					ForkedLaunch.create(reportPortal, startRq, Paths.get(agentParameters.getForkLock()), agentParameters.getForkGrace()) :
+					reportPortal.newLaunch(startRq);
 			shutDownHook = getShutdownHook(() -> newLaunch);
 			Runtime.getRuntime().addShutdownHook(shutDownHook);
 			return newLaunch;
@@ -125,11 +193,33 @@ public class TestNGService implements ITestNGService {
 	}
 
 	public TestNGService(Supplier<Launch> launchSupplier) {
+		this(launchSupplier, AgentParameters.load());
+	}
+
+	public TestNGService(Supplier<Launch> launchSupplier, @Nonnull AgentParameters agentParameters) {
+		this.agentParameters = agentParameters;
+		failureDeduplicator = createFailureDeduplicator(agentParameters);
 		launch = new MemoizingSupplier<>(launchSupplier);
 		shutDownHook = getShutdownHook(launch);
 		Runtime.getRuntime().addShutdownHook(shutDownHook);
 	}
 
+	/**
+	 * @return TestNG agent specific configuration parameters
+	 */
+	@Nonnull
+	public AgentParameters getAgentParameters() {
+		return agentParameters;
+	}
+
+	/**
+	 * @return current launch
+	 */
+	@Nonnull
+	Launch getLaunch() {
+		return launch.get();
+	}
+
 	@Override
 	public void startLaunch() {
 		Maybe<String> launchId = launch.get().start();
@@ -138,8 +228,11 @@ public class TestNGService implements ITestNGService {
 
 	@Override
 	public void finishLaunch() {
+		// Before methods of contexts which were not finished
+		finishHeldBeforeMethods(held -> true);
 		FinishExecutionRQ rq = buildFinishLaunchRq(launch.get().getParameters());
-		launch.get().finish(rq);
+		finish(launch.get(), rq);
+		ofNullable(getCheckpointClient(launch.get())).ifPresent(CheckpointClient::save);
 		launch.reset();
 		Runtime.getRuntime().removeShutdownHook(shutDownHook);
 	}
@@ -150,6 +243,8 @@ public class TestNGService implements ITestNGService {
 
 	@Override
 	public void startTestSuite(ISuite suite) {
+		// Resolve test methods' data ahead, not to do that on test threads
+		ofNullable(suite.getAllMethods()).ifPresent(methods -> methods.forEach(MethodDescriptor::of));
 		StartTestItemRQ rq = buildStartSuiteRq(suite);
 		Launch myLaunch = launch.get();
 		final Maybe<String> item = myLaunch.startTestItem(rq);
@@ -170,6 +265,7 @@ public class TestNGService implements ITestNGService {
 		Launch myLaunch = launch.get();
 		if (null != rpId) {
 			FinishTestItemRQ rq = buildFinishTestSuiteRq(suite);
+			setPassedItemsSummary(rq, PASSED_ITEMS.remove(suite));
 			//noinspection ReactiveStreamsUnusedPublisher
 			myLaunch.finishTestItem(rpId, rq);
 			suite.removeAttribute(RP_ID);
@@ -197,15 +293,9 @@ public class TestNGService implements ITestNGService {
 	}
 
 	private void addToTree(ITestContext testContext, Maybe<String> testId) {
-		ofNullable(ITEM_TREE.getTestItems().get(createKey(testContext.getSuite()))).ifPresent(suiteLeaf -> {
-			List<XmlClass> testClasses = testContext.getCurrentXmlTest().getClasses();
-			ConcurrentHashMap<TestItemTree.ItemTreeKey, TestItemTree.TestItemLeaf> testClassesMapping = new ConcurrentHashMap<>(testClasses.size());
-			for (XmlClass testClass : testClasses) {
-				TestItemTree.TestItemLeaf testClassLeaf = TestItemTree.createTestItemLeaf(testId, new ConcurrentHashMap<>());
-				testClassesMapping.put(createKey(testClass), testClassLeaf);
-			}
-			suiteLeaf.getChildItems().put(createKey(testContext), TestItemTree.createTestItemLeaf(testId, testClassesMapping));
-		});
+		// Class leaves are created on their first method start, most of the classes may be filtered out
+		ofNullable(ITEM_TREE.getTestItems().get(createKey(testContext.getSuite()))).ifPresent(suiteLeaf -> suiteLeaf.getChildItems()
+				.put(createKey(testContext), TestItemTree.createTestItemLeaf(testId, new ConcurrentHashMap<>())));
 	}
 
 	private static Set<ITestResult> getTestResults(IResultMap rm) {
@@ -215,13 +305,8 @@ public class TestNGService implements ITestNGService {
 	@Override
 	public void finishTest(ITestContext testContext) {
 		if (hasMethodsToRun(testContext)) {
-			FinishTestItemRQ rq = buildFinishTestRq(testContext);
-			//noinspection ReactiveStreamsUnusedPublisher
-			launch.get().finishTestItem(this.getAttribute(testContext, RP_ID), rq);
-			if (launch.get().getParameters().isCallbackReportingEnabled()) {
-				removeFromTree(testContext);
-			}
-			// Cleanup
+			finishRollupItems(testContext);
+			finishSkippedItems(testContext);
 			Set<ITestResult> results = new HashSet<>();
 			results.addAll(getTestResults(testContext.getFailedButWithinSuccessPercentageTests()));
 			results.addAll(getTestResults(testContext.getFailedConfigurations()));
@@ -230,7 +315,24 @@ public class TestNGService implements ITestNGService {
 			results.addAll(getTestResults(testContext.getSkippedConfigurations()));
 			results.addAll(getTestResults(testContext.getPassedConfigurations()));
 			results.addAll(getTestResults(testContext.getPassedTests()));
-			results.stream().map(ITestResult::getInstance).filter(Objects::nonNull).collect(Collectors.toSet()).forEach(i -> {
+			Set<Object> instances = results.stream().map(ITestResult::getInstance).filter(Objects::nonNull).collect(Collectors.toSet());
+			// Before methods which were not followed by a test method of their instance
+			finishHeldBeforeMethods(held -> held.getTestContext() == testContext);
+			FinishTestItemRQ rq = buildFinishTestRq(testContext);
+			PassedItems passedItems = PASSED_ITEMS.remove(testContext);
+			if (passedItems != null) {
+				setPassedItemsSummary(rq, passedItems);
+				ofNullable(testContext.getSuite()).ifPresent(suite -> PASSED_ITEMS.computeIfAbsent(suite, k -> new PassedItems())
+						.addAll(passedItems));
+			}
+			//noinspection ReactiveStreamsUnusedPublisher
+			launch.get().finishTestItem(this.getAttribute(testContext, RP_ID), rq);
+			// Cleanup
+			if (launch.get().getParameters().isCallbackReportingEnabled()) {
+				removeFromTree(testContext);
+				results.forEach(ITEM_INDEX::remove);
+			}
+			instances.forEach(i -> {
 				RETRY_STATUS_TRACKER.remove(i);
 				SKIPPED_STATUS_TRACKER.remove(i);
 			});
@@ -242,15 +344,22 @@ public class TestNGService implements ITestNGService {
 				.remove(createKey(testContext)));
 	}
 
-	private boolean isRetry(ITestResult testResult) {
-		if (testResult.wasRetried()) {
-			return true;
+	@Nonnull
+	private RetryRegistry getRetryRegistry(@Nonnull ITestResult testResult) {
+		if (testResult instanceof TestResultSnapshot) {
+			// Snapshots are reported on a single reporting thread, retry sequences are tracked per thread which ran a test
+			return SNAPSHOT_RETRY_REGISTRIES.computeIfAbsent(((TestResultSnapshot) testResult).getThread(), t -> new RetryRegistry());
 		}
-		Object instance = testResult.getInstance();
-		if (instance != null && RETRY_STATUS_TRACKER.containsKey(instance)) {
+		return RETRY_REGISTRY;
+	}
+
+	private boolean isRetry(ITestResult testResult, TestMethodType type) {
+		// Always consult the registry first, since it should see every start to close finished retry sequences
+		if (getRetryRegistry(testResult).isRetry(type) || testResult.wasRetried()) {
 			return true;
 		}
-		return IS_RETRY.test(Thread.currentThread().getStackTrace());
+		Object instance = testResult.getInstance();
+		return instance != null && RETRY_STATUS_TRACKER.containsKey(instance);
 	}
 
 	/**
@@ -264,11 +373,11 @@ public class TestNGService implements ITestNGService {
 	protected StartTestItemRQ buildStartConfigurationRq(@Nonnull ITestResult testResult, @Nullable TestMethodType type) {
 		StartTestItemRQ rq = new StartTestItemRQ();
 		rq.setName(createConfigurationName(testResult));
-		rq.setCodeRef(testResult.getMethod().getQualifiedName());
+		rq.setCodeRef(getMethodDescriptor(testResult).getCodeRef());
 		rq.setDescription(createConfigurationDescription(testResult));
 		rq.setStartTime(Instant.ofEpochMilli(testResult.getStartMillis()));
 		rq.setType(type == null ? null : type.toString());
-		boolean retry = isRetry(testResult);
+		boolean retry = isRetry(testResult, type);
 		if (retry) {
 			rq.setRetry(Boolean.TRUE);
 		}
@@ -281,16 +390,19 @@ public class TestNGService implements ITestNGService {
 			// Already started, E.G. SkipException is thrown
 			return;
 		}
-		TestMethodType type = TestMethodType.getStepType(testResult.getMethod());
+		TestMethodType type = getMethodDescriptor(testResult).getType();
 		testResult.setAttribute(RP_METHOD_TYPE, type);
 		StartTestItemRQ rq = buildStartConfigurationRq(testResult, type);
 		if (Boolean.TRUE == rq.isRetry()) {
 			testResult.setAttribute(RP_RETRY, Boolean.TRUE);
 		}
 		Maybe<String> parentId = getConfigParent(testResult, type);
+		if (isDeferred(testResult)) {
+			deferTestItem(testResult, parentId, rq);
+			return;
+		}
 		Launch myLaunch = launch.get();
-		//noinspection ReactiveStreamsUnusedPublisher
-		Maybe<String> itemID = myLaunch.startTestItem(parentId, rq);
+		Maybe<String> itemID = startTestItem(myLaunch, parentId, testResult, rq);
 		testResult.setAttribute(RP_ID, itemID);
 	}
 
@@ -302,9 +414,9 @@ public class TestNGService implements ITestNGService {
 	 */
 	@Nonnull
 	protected String createStepDescription(@Nonnull ITestResult testResult) {
-		var methodDescriptionOptional = getMethodAnnotation(Description.class, testResult);
-		if (methodDescriptionOptional.isPresent()) {
-			return methodDescriptionOptional.get().value();
+		Description description = getMethodDescriptor(testResult).getDescription();
+		if (description != null) {
+			return description.value();
 		}
 		return testResult.getMethod().getDescription();
 	}
@@ -320,7 +432,7 @@ public class TestNGService implements ITestNGService {
 	protected StartTestItemRQ buildStartStepRq(final @Nonnull ITestResult testResult, final @Nonnull TestMethodType type) {
 		StartTestItemRQ rq = new StartTestItemRQ();
 		rq.setName(createStepName(testResult));
-		String codeRef = testResult.getMethod().getQualifiedName();
+		String codeRef = getMethodDescriptor(testResult).getCodeRef();
 		rq.setCodeRef(codeRef);
 		rq.setTestCaseId(ofNullable(getTestCaseId(codeRef, testResult)).map(TestCaseIdEntry::getId).orElse(null));
 		rq.setAttributes(createStepAttributes(testResult));
@@ -328,7 +440,7 @@ public class TestNGService implements ITestNGService {
 		rq.setParameters(createStepParameters(testResult));
 		rq.setStartTime(Instant.ofEpochMilli(testResult.getStartMillis()));
 		rq.setType(type.toString());
-		boolean retry = isRetry(testResult);
+		boolean retry = isRetry(testResult, type);
 		if (retry) {
 			rq.setRetry(Boolean.TRUE);
 		}
@@ -343,37 +455,547 @@ public class TestNGService implements ITestNGService {
 	 */
 	@Nonnull
 	protected StartTestItemRQ buildStartStepRq(final @Nonnull ITestResult testResult) {
-		TestMethodType methodType = ofNullable(TestMethodType.getStepType(testResult.getMethod())).orElse(TestMethodType.STEP);
+		TestMethodType methodType = ofNullable(getMethodDescriptor(testResult).getType()).orElse(TestMethodType.STEP);
 		testResult.setAttribute(RP_METHOD_TYPE, methodType);
 		return buildStartStepRq(testResult, methodType);
 	}
 
 	private void addToTree(ITestResult testResult, Maybe<String> stepMaybe) {
 		ITestContext testContext = testResult.getTestContext();
+		TestItemTree.TestItemLeaf suiteLeaf = ITEM_TREE.getTestItems().get(createKey(testContext.getSuite()));
+		if (suiteLeaf == null) {
+			return;
+		}
+		TestItemTree.TestItemLeaf testLeaf = suiteLeaf.getChildItems().get(createKey(testContext));
+		if (testLeaf == null) {
+			return;
+		}
+		TestItemTree.TestItemLeaf testClassLeaf = testLeaf.getChildItems()
+				.computeIfAbsent(
+						createKey(testResult.getTestClass()),
+						k -> TestItemTree.createTestItemLeaf(testLeaf.getItemId(), new ConcurrentHashMap<>())
+				);
+		TestItemTree.TestItemLeaf testItemLeaf = TestItemTree.createTestItemLeaf(stepMaybe);
+		testClassLeaf.getChildItems().put(createKey(testResult), testItemLeaf);
+		ITEM_INDEX.put(testResult, testItemLeaf);
+	}
+
+	/**
+	 * Starts an item of the result. A snapshot's item can be already known on its test thread by a virtual ID, then the
+	 * virtual ID is bound to the started item.
+	 */
+	@Nonnull
+	private Maybe<String> startTestItem(@Nonnull Launch launch, @Nullable Maybe<String> parentId, @Nonnull ITestResult testResult,
+			@Nonnull StartTestItemRQ rq) {
+		Maybe<String> virtualItem = testResult instanceof TestResultSnapshot ? ((TestResultSnapshot) testResult).getVirtualItem() : null;
+		return virtualItem == null ? launch.startTestItem(parentId, rq) : launch.startVirtualTestItem(parentId, virtualItem, rq);
+	}
+
+	/**
+	 * Checks if iterations of the result's method are reported as a single rollup item, see {@link Rollup}.
+	 *
+	 * @param testResult TestNG's testResult context
+	 * @return true if the result is an iteration of a rolled up data provider or multiple invocation method
+	 */
+	boolean isRollup(@Nonnull ITestResult testResult) {
+		ITestNGMethod method = testResult.getMethod();
+		if (method == null || !method.isTest()) {
+			return false;
+		}
+		MethodDescriptor descriptor = getMethodDescriptor(testResult);
+		boolean dataDriven = method.isDataDriven();
+		// TestNG runs invocations of a method with a thread pool as its clones with a single invocation each
+		boolean invocations = method.getInvocationCount() > 1 || ofNullable(descriptor.getTest()).map(Test::invocationCount)
+				.orElse(1) > 1;
+		if (!dataDriven && !invocations) {
+			return false;
+		}
+		Rollup rollup = descriptor.getRollup();
+		if (rollup != null) {
+			return rollup.value();
+		}
+		return (dataDriven && agentParameters.isRollup()) || (invocations && agentParameters.isRollupInvocations());
+	}
+
+	/**
+	 * Extension point to customize rollup item creation event/request
+	 *
+	 * @param testResult TestNG's testResult context of the method's first iteration
+	 * @return Request to ReportPortal
+	 */
+	@Nonnull
+	protected StartTestItemRQ buildStartRollupRq(@Nonnull ITestResult testResult) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(createStepName(testResult));
+		rq.setCodeRef(getMethodDescriptor(testResult).getCodeRef());
+		rq.setAttributes(createStepAttributes(testResult));
+		rq.setDescription(createStepDescription(testResult));
+		rq.setStartTime(Instant.ofEpochMilli(testResult.getStartMillis()));
+		rq.setType(TestMethodType.STEP.toString());
+		return rq;
+	}
+
+	/**
+	 * Extension point to customize rollup item finish event/request
+	 *
+	 * @param rollup rollup item with all the method's iterations
+	 * @return Request to ReportPortal
+	 */
+	@Nonnull
+	protected FinishTestItemRQ buildFinishRollupRq(@Nonnull RollupItem rollup) {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setEndTime(Instant.ofEpochMilli(rollup.getEndMillis()));
+		rq.setStatus(rollup.getStatus().name());
+		String summary = rollup.getSummary();
+		String description = rollup.getDescription();
+		rq.setDescription(isNotBlank(description) ? MarkdownUtils.asTwoParts(description, summary) : summary);
+		return rq;
+	}
+
+	@Nonnull
+	private RollupItem startRollupItem(@Nonnull ITestResult testResult) {
+		StartTestItemRQ rq = buildStartRollupRq(testResult);
+		Launch myLaunch = launch.get();
+		Maybe<String> itemId = myLaunch.startTestItem(getAttribute(testResult.getTestContext(), RP_ID), rq);
+		// Launch binds a started item to the current thread, but a rollup item is bound to its iterations' threads only
+		myLaunch.getStepReporter().removeParent(itemId);
+		LoggingContext.dispose();
+		return new RollupItem(
+				itemId,
+				rq.getDescription(),
+				testResult.getMethod().getSuccessPercentage(),
+				agentParameters.getRollupFailureLimit()
+		);
+	}
+
+	/**
+	 * Returns the rollup item of the result's method, starting it on the method's first iteration.
+	 */
+	@Nonnull
+	private RollupItem prepareRollupIteration(@Nonnull ITestResult testResult) {
+		if (testResult.getAttribute(RP_METHOD_TYPE) == null) {
+			testResult.setAttribute(RP_METHOD_TYPE, TestMethodType.STEP);
+			if (isRetry(testResult, TestMethodType.STEP)) {
+				testResult.setAttribute(RP_RETRY, Boolean.TRUE);
+			}
+		}
+		return ROLLUPS.computeIfAbsent(testResult.getTestContext(), c -> new ConcurrentHashMap<>())
+				.computeIfAbsent(testResult.getMethod(), m -> startRollupItem(testResult));
+	}
+
+	/**
+	 * Binds the rollup item to the current thread for the iteration, so test code logs and nested steps are reported to
+	 * it. Snapshots are reported on the reporting thread, logs of their iterations are not bound to any item.
+	 */
+	private void startRollupIteration(@Nonnull ITestResult testResult) {
+		RollupItem rollup = prepareRollupIteration(testResult);
+		if (testResult instanceof TestResultSnapshot) {
+			return;
+		}
+		LoggingContext.init(rollup.getItemId());
+		launch.get().getStepReporter().setParent(rollup.getItemId());
+		testResult.setAttribute(ROLLUP_ATTRIBUTE, rollup);
+	}
+
+	private void unbindRollupIteration(@Nonnull ITestResult testResult, @Nullable ItemStatus status) {
+		Object rollup = testResult.removeAttribute(ROLLUP_ATTRIBUTE);
+		if (rollup instanceof RollupItem) {
+			StepReporter stepReporter = launch.get().getStepReporter();
+			stepReporter.finishPreviousStep(status);
+			stepReporter.removeParent(((RollupItem) rollup).getItemId());
+			LoggingContext.dispose();
+		}
+	}
+
+	/**
+	 * Starts a child item of the rollup item for a failed or skipped iteration, if it's not started yet and the rollup's
+	 * failure limit is not reached.
+	 *
+	 * @return true if the iteration has its item
+	 */
+	private boolean startRollupChild(@Nonnull ITestResult testResult, @Nonnull ItemStatus status) {
+		if (getAttribute(testResult, RP_ID) != null) {
+			return true;
+		}
+		unbindRollupIteration(testResult, status);
+		RollupItem rollup = prepareRollupIteration(testResult);
+		if (!rollup.itemize()) {
+			// The limit is never released, so the decision is the same on the failure log and on the finish
+			return false;
+		}
+		StartTestItemRQ rq = buildStartStepRq(testResult);
+		// Retry flag is defined on the iteration start, not now, when TestNG has already decided on the next attempt
+		rq.setRetry(getAttribute(testResult, RP_RETRY) == null ? null : Boolean.TRUE);
+		rq.setHasStats(false);
+		Launch myLaunch = launch.get();
+		Maybe<String> stepMaybe = myLaunch.startTestItem(rollup.getItemId(), rq);
+		testResult.setAttribute(RP_ID, stepMaybe);
+		if (myLaunch.getParameters().isCallbackReportingEnabled()) {
+			addToTree(testResult, stepMaybe);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a finished iteration to its rollup item, a failed or skipped iteration also gets a child item within the
+	 * rollup's failure limit.
+	 *
+	 * @return true if the iteration should be finished as a separate item
+	 */
+	private boolean finishRollupIteration(@Nonnull ItemStatus status, @Nonnull ITestResult testResult) {
+		unbindRollupIteration(testResult, status);
+		prepareRollupIteration(testResult).addIteration(status, testResult);
+		if (ItemStatus.PASSED != status && startRollupChild(testResult, status)) {
+			return true;
+		}
+		trackUnreportedResult(status, testResult);
+		releaseTestResult(testResult);
+		return false;
+	}
+
+	private void finishRollupItems(@Nonnull ITestContext testContext) {
+		Map<ITestNGMethod, RollupItem> rollups = ROLLUPS.remove(testContext);
+		if (rollups == null) {
+			return;
+		}
+		Launch myLaunch = launch.get();
+		rollups.values().forEach(rollup -> {
+			FinishTestItemRQ rq = buildFinishRollupRq(rollup);
+			// Launch unbinds a finished item from the current thread, rollup items are not bound to it
+			LoggingContext.init(rollup.getItemId());
+			//noinspection ReactiveStreamsUnusedPublisher
+			myLaunch.finishTestItem(rollup.getItemId(), rq);
+		});
+	}
+
+	/**
+	 * Checks if the result's item is started only once it's known that the result did not pass, see
+	 * {@link AgentProperty#FAILURES_ONLY} and {@link AgentProperty#CONFIGURATIONS_FOLD}.
+	 *
+	 * @param testResult TestNG's testResult context
+	 * @return true if the result's item is deferred
+	 */
+	boolean isDeferred(@Nonnull ITestResult testResult) {
+		if (agentParameters.isFailuresOnly()) {
+			return !isRollup(testResult);
+		}
+		ITestNGMethod method = testResult.getMethod();
+		return agentParameters.isConfigurationsFold() && method != null && !method.isTest();
+	}
+
+	/**
+	 * Creates a deferred item of the result and binds its placeholder ID to the current thread like {@link Launch} does
+	 * on an item start: logs and nested steps of the test code wait for the item start, or are dropped with the item.
+	 *
+	 * @param testResult TestNG's testResult context
+	 * @return the result's deferred item
+	 */
+	@Nonnull
+	DeferredItem bindDeferredItem(@Nonnull ITestResult testResult) {
+		DeferredItem item = getAttribute(testResult, DEFERRED_ATTRIBUTE);
+		if (item != null) {
+			return item;
+		}
+		DeferredItem newItem = new DeferredItem();
+		testResult.setAttribute(DEFERRED_ATTRIBUTE, newItem);
+		Launch myLaunch = launch.get();
+		// A launch becomes the current one of a thread on its parameters read, logs of test code look for it there
+		myLaunch.getParameters();
+		LoggingContext.init(newItem.getItemId());
+		myLaunch.getStepReporter().setParent(newItem.getItemId());
+		return newItem;
+	}
+
+	/**
+	 * Unbinds the result's deferred item from the current thread like {@link Launch} does on an item finish.
+	 *
+	 * @param testResult TestNG's testResult context
+	 * @param status     item execution status
+	 * @return the status the item should be reported with, failed nested steps fail their parent
+	 */
+	@Nonnull
+	ItemStatus unbindDeferredItem(@Nonnull ITestResult testResult, @Nonnull ItemStatus status) {
+		DeferredItem item = getAttribute(testResult, DEFERRED_ATTRIBUTE);
+		if (item == null) {
+			return status;
+		}
+		if (item.unbind()) {
+			StepReporter stepReporter = launch.get().getStepReporter();
+			stepReporter.finishPreviousStep(status);
+			if (stepReporter.isFailed(item.getItemId())) {
+				item.fail();
+			}
+			stepReporter.removeParent(item.getItemId());
+			LoggingContext.dispose();
+		}
+		return item.isFailed() ? ItemStatus.FAILED : status;
+	}
+
+	private void deferTestItem(@Nonnull ITestResult testResult, @Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		// Snapshots have their items bound on test threads already
+		DeferredItem item = bindDeferredItem(testResult);
+		item.setRequest(parentId, rq);
+		testResult.setAttribute(RP_ID, item.getItemId());
+	}
+
+	/**
+	 * Starts the result's deferred item if the result did not pass, or drops it. A dropped item is counted to its test's
+	 * summary in failures only mode, or logged to its parent item as a passed configuration. Test method retries are
+	 * always reported, since a retried item is replaced by its last attempt.
+	 *
+	 * @return true if the item is started and should be finished
+	 */
+	private boolean startDeferredItem(@Nonnull ItemStatus status, @Nonnull ITestResult testResult) {
+		DeferredItem item = getAttribute(testResult, DEFERRED_ATTRIBUTE);
+		StartTestItemRQ rq = item.getRequest();
+		if (rq == null) {
+			// Nothing to start with, finish as is
+			return true;
+		}
+		boolean test = testResult.getMethod().isTest();
+		if (ItemStatus.PASSED == status && (!test || !Boolean.TRUE.equals(rq.isRetry()))) {
+			item.drop();
+			testResult.removeAttribute(RP_ID);
+			trackUnreportedResult(status, testResult);
+			long duration = testResult.getEndMillis() - testResult.getStartMillis();
+			if (agentParameters.isFailuresOnly()) {
+				TestMethodType type = getAttribute(testResult, RP_METHOD_TYPE);
+				Object parent = TestMethodType.BEFORE_SUITE == type || TestMethodType.AFTER_SUITE == type ?
+						testResult.getTestContext().getSuite() :
+						testResult.getTestContext();
+				PASSED_ITEMS.computeIfAbsent(parent, k -> new PassedItems()).add(test, duration);
+			} else {
+				logPassedConfiguration(item, duration);
+			}
+			releaseTestResult(testResult);
+			return false;
+		}
+		Launch myLaunch = launch.get();
+		Maybe<String> itemId = myLaunch.startTestItem(item.getParentId(), rq);
+		item.resolve(itemId);
+		testResult.setAttribute(RP_ID, itemId);
+		if (test && myLaunch.getParameters().isCallbackReportingEnabled()) {
+			addToTree(testResult, itemId);
+		}
+		return true;
+	}
+
+	/**
+	 * Logs a passed configuration with its duration to the parent item of the configuration, instead of the
+	 * configuration's own item.
+	 */
+	private void logPassedConfiguration(@Nonnull DeferredItem item, long duration) {
+		Maybe<String> parentId = item.getParentId();
+		StartTestItemRQ rq = item.getRequest();
+		if (parentId == null || rq == null) {
+			return;
+		}
+		String message = String.format("%s %s passed, duration: %d ms", rq.getType(), rq.getName(), Math.max(duration, 0));
+		Comparable<? extends Comparable<?>> logTime = rq.getStartTime();
+		launch.get().log(parentId, itemUuid -> {
+			SaveLogRQ logRq = new SaveLogRQ();
+			logRq.setItemUuid(itemUuid);
+			logRq.setLevel("INFO");
+			logRq.setMessage(message);
+			logRq.setLogTime(logTime);
+			return logRq;
+		});
+	}
+
+	/**
+	 * Checks if the result is a test method which TestNG skips without running it because of a failed configuration or
+	 * dependency, and which is reported with its test's summary of skipped methods, see {@link AgentProperty#SKIPS_SUMMARY}.
+	 * The check is made once, on the method start, and kept with the result.
+	 *
+	 * @param testResult TestNG's testResult context
+	 * @return true if the result is reported with the summary of skipped methods
+	 */
+	boolean isSummarizedSkip(@Nonnull ITestResult testResult) {
+		if (!agentParameters.isSkipsSummary()) {
+			return false;
+		}
+		Boolean summarized = getAttribute(testResult, SUMMARIZED_SKIP_ATTRIBUTE);
+		if (summarized == null) {
+			summarized = isCascadeSkip(testResult);
+			testResult.setAttribute(SUMMARIZED_SKIP_ATTRIBUTE, summarized);
+		}
+		return summarized;
+	}
+
+	private boolean isCascadeSkip(@Nonnull ITestResult testResult) {
+		ITestNGMethod method = testResult.getMethod();
+		// TestNG sets the cause of the skip before it starts a method which it is not going to run
+		if (method == null || !method.isTest() || testResult.getThrowable() == null || isRollup(testResult)) {
+			return false;
+		}
+		Object instance = testResult.getInstance();
+		if (instance != null && SKIPPED_STATUS_TRACKER.containsKey(instance)) {
+			return true;
+		}
+		ITestContext testContext = testResult.getTestContext();
+		return testContext.getFailedConfigurations().size() > 0 || testContext.getSkippedConfigurations().size() > 0
+				|| method.getMethodsDependedUpon().length > 0 || method.getGroupsDependedUpon().length > 0;
+	}
+
+	private void summarizeSkip(@Nonnull ITestResult testResult) {
+		String method = getMethodDescriptor(testResult).getCodeRef();
+		Object[] parameters = testResult.getParameters();
+		if (parameters != null && parameters.length > 0) {
+			method += Arrays.deepToString(parameters);
+		}
+		String cause = ofNullable(testResult.getThrowable()).map(Throwable::toString)
+				.map(c -> c.split("\\R", 2)[0])
+				.orElse("Unknown");
+		SKIPPED_ITEMS.computeIfAbsent(testResult.getTestContext(), c -> new SkippedItems())
+				.add(method, cause, testResult.getStartMillis(), testResult.getEndMillis());
+		trackUnreportedResult(ItemStatus.SKIPPED, testResult);
+		releaseTestResult(testResult);
+	}
+
+	/**
+	 * Extension point to customize creation event/request of the summary item of skipped test methods
+	 *
+	 * @param testContext  TestNG's test context
+	 * @param skippedItems test methods which TestNG skipped without running them
+	 * @return Request to ReportPortal
+	 */
+	@Nonnull
+	protected StartTestItemRQ buildStartSkipsSummaryRq(@Nonnull ITestContext testContext, @Nonnull SkippedItems skippedItems) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName("Skipped test methods");
+		rq.setDescription(skippedItems.getSummary());
+		rq.setStartTime(Instant.ofEpochMilli(skippedItems.getStartMillis()));
+		rq.setType(TestMethodType.STEP.toString());
+		return rq;
+	}
+
+	/**
+	 * Extension point to customize finish event/request of the summary item of skipped test methods
+	 *
+	 * @param testContext  TestNG's test context
+	 * @param skippedItems test methods which TestNG skipped without running them
+	 * @return Request to ReportPortal
+	 */
+	@Nonnull
+	protected FinishTestItemRQ buildFinishSkipsSummaryRq(@Nonnull ITestContext testContext, @Nonnull SkippedItems skippedItems) {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setEndTime(Instant.ofEpochMilli(skippedItems.getEndMillis()));
+		rq.setStatus(ItemStatus.SKIPPED.name());
+		// The skipped methods are not the culprits, the failed configurations or dependencies are
+		rq.setIssue(Launch.NOT_ISSUE);
+		return rq;
+	}
+
+	/**
+	 * Reports skipped test methods of the test as a single item, which logs every skipped method grouped by the cause.
+	 */
+	private void finishSkippedItems(@Nonnull ITestContext testContext) {
+		SkippedItems skippedItems = SKIPPED_ITEMS.remove(testContext);
+		if (skippedItems == null) {
+			return;
+		}
+		Launch myLaunch = launch.get();
+		StartTestItemRQ startRq = buildStartSkipsSummaryRq(testContext, skippedItems);
+		Maybe<String> itemId = myLaunch.startTestItem(getAttribute(testContext, RP_ID), startRq);
+		String methodList = skippedItems.getMethodList();
+		Comparable<? extends Comparable<?>> logTime = startRq.getStartTime();
+		myLaunch.log(itemId, itemUuid -> {
+			SaveLogRQ logRq = new SaveLogRQ();
+			logRq.setItemUuid(itemUuid);
+			logRq.setLevel("INFO");
+			logRq.setMessage(methodList);
+			logRq.setLogTime(logTime);
+			return logRq;
+		});
+		//noinspection ReactiveStreamsUnusedPublisher
+		myLaunch.finishTestItem(itemId, buildFinishSkipsSummaryRq(testContext, skippedItems));
+	}
 
-		ofNullable(ITEM_TREE.getTestItems()
-				.get(createKey(testContext.getSuite()))).flatMap(suiteLeaf -> ofNullable(suiteLeaf.getChildItems()
-						.get(createKey(testContext))).flatMap(testLeaf -> ofNullable(testLeaf.getChildItems()
-						.get(createKey(testResult.getTestClass())))))
-				.ifPresent(testClassLeaf -> testClassLeaf.getChildItems()
-						.put(createKey(testResult), TestItemTree.createTestItemLeaf(stepMaybe)));
+	private static void setPassedItemsSummary(@Nonnull FinishTestItemRQ rq, @Nullable PassedItems passedItems) {
+		ofNullable(passedItems).map(PassedItems::getSummary)
+				.ifPresent(summary -> rq.setDescription(isBlank(rq.getDescription()) ?
+						summary :
+						MarkdownUtils.asTwoParts(rq.getDescription(), summary)));
 	}
 
 	@Override
 	public void startTestMethod(@Nonnull ITestResult testResult) {
+		if (isRollup(testResult)) {
+			startRollupIteration(testResult);
+			return;
+		}
+		if (isSummarizedSkip(testResult)) {
+			// Reported with the test's summary of skipped methods
+			return;
+		}
 		StartTestItemRQ rq = buildStartStepRq(testResult);
 		if (Boolean.TRUE == rq.isRetry()) {
 			testResult.setAttribute(RP_RETRY, Boolean.TRUE);
 		}
 
+		Maybe<String> parentId = getAttribute(testResult.getTestContext(), RP_ID);
+		if (isDeferred(testResult)) {
+			deferTestItem(testResult, parentId, rq);
+			return;
+		}
 		Launch myLaunch = launch.get();
-		Maybe<String> stepMaybe = myLaunch.startTestItem(getAttribute(testResult.getTestContext(), RP_ID), rq);
+		Maybe<String> stepMaybe = startTestItem(myLaunch, parentId, testResult, rq);
 		testResult.setAttribute(RP_ID, stepMaybe);
 		if (myLaunch.getParameters().isCallbackReportingEnabled()) {
 			addToTree(testResult, stepMaybe);
 		}
 	}
 
+	/**
+	 * Returns the result's failure stack trace, or a short reference to the first occurrence of the same failure if
+	 * failure deduplication is enabled.
+	 *
+	 * @param testResult TestNG's testResult context
+	 * @return failure message or null if the result has no throwable
+	 */
+	@Nullable
+	private String getFailureMessage(@Nonnull ITestResult testResult) {
+		if (testResult.getThrowable() == null) {
+			return null;
+		}
+		if (failureDeduplicator != null) {
+			String duplicate = failureDeduplicator.getDuplicateMessage(testResult, () -> getFailureReference(testResult));
+			if (duplicate != null) {
+				return duplicate;
+			}
+		}
+		return ofNullable(FailurePayload.of(testResult, agentParameters.getFailureTraceLimit(), this::getRunnerFrames)).map(
+				FailurePayload::getStackTrace).orElse(null);
+	}
+
+	/**
+	 * Human-readable reference of the result's item in messages of repeating failures: its code reference and parameters,
+	 * so failures of data provider rows refer to the row which has failed first.
+	 *
+	 * @param testResult TestNG's testResult context
+	 * @return item reference
+	 */
+	@Nonnull
+	private String getFailureReference(@Nonnull ITestResult testResult) {
+		String codeRef = getMethodDescriptor(testResult).getCodeRef();
+		List<ParameterResource> parameters = createStepParameters(testResult);
+		if (parameters == null || parameters.isEmpty()) {
+			return codeRef;
+		}
+		return codeRef + parameters.stream().map(p -> p.getKey() + "=" + p.getValue()).collect(Collectors.joining(", ", "[", "]"));
+	}
+
+	/**
+	 * Returns stack frames of the current thread's test runner, which are collapsed in failure stack traces. The frames
+	 * are captured once per thread of the run.
+	 *
+	 * @return stack frames of the current thread
+	 */
+	@Nonnull
+	List<String> getRunnerFrames() {
+		return RUNNER_FRAMES.computeIfAbsent(Thread.currentThread(), t -> FailurePayload.captureRunnerFrames());
+	}
+
 	/**
 	 * Extension point to customize test step description with error message
 	 *
@@ -382,13 +1004,11 @@ public class TestNGService implements ITestNGService {
 	 */
 	@Nullable
 	private String getLogMessage(@Nonnull ITestResult testResult) {
-		String error = ofNullable(testResult.getThrowable()).map(t -> String.format(
-				DESCRIPTION_ERROR_FORMAT,
-				getStackTrace(t, new Throwable())
-		)).orElse(null);
-		if (error == null) {
+		String failure = getFailureMessage(testResult);
+		if (failure == null) {
 			return null;
 		}
+		String error = String.format(DESCRIPTION_ERROR_FORMAT, failure);
 		String description = createStepDescription(testResult);
 		return StringUtils.isNotBlank(description) ? MarkdownUtils.asTwoParts(description, error) : error;
 	}
@@ -412,25 +1032,30 @@ public class TestNGService implements ITestNGService {
 	}
 
 	private void updateTestItemTree(Maybe<OperationCompletionRS> finishItemResponse, ITestResult testResult) {
-		ITestContext testContext = testResult.getTestContext();
-		TestItemTree.TestItemLeaf suiteLeaf = ITEM_TREE.getTestItems().get(createKey(testContext.getSuite()));
-		if (suiteLeaf != null) {
-			TestItemTree.TestItemLeaf testLeaf = suiteLeaf.getChildItems().get(createKey(testContext));
-			if (testLeaf != null) {
-				TestItemTree.TestItemLeaf testClassLeaf = testLeaf.getChildItems().get(createKey(testResult.getTestClass()));
-				if (testClassLeaf != null) {
-					TestItemTree.TestItemLeaf testItemLeaf = testClassLeaf.getChildItems().get(createKey(testResult));
-					if (testItemLeaf != null) {
-						testItemLeaf.setFinishResponse(finishItemResponse);
-					}
-				}
-			}
+		TestItemTree.TestItemLeaf testItemLeaf = ITEM_INDEX.get(testResult);
+		if (testItemLeaf != null) {
+			testItemLeaf.setFinishResponse(finishItemResponse);
 		}
 	}
 
 	private void processFinishRetryFlag(ITestResult testResult, FinishTestItemRQ rq) {
+		if (trackRetry(testResult, rq.getStatus(), rq.getIssue() != null)) {
+			rq.setRetry(Boolean.TRUE);
+			rq.setIssue(Launch.NOT_ISSUE);
+		}
+	}
+
+	/**
+	 * Updates the retry trackers with the finished result.
+	 *
+	 * @param testResult TestNG's testResult context
+	 * @param status     finish status of the result's item
+	 * @param hasIssue   true if the result's item has an issue already
+	 * @return true if the result's item should be marked as a retry
+	 */
+	private boolean trackRetry(@Nonnull ITestResult testResult, @Nullable String status, boolean hasIssue) {
 		Object instance = testResult.getInstance();
-		if (instance != null && !ItemStatus.SKIPPED.name().equals(rq.getStatus())) {
+		if (instance != null && !ItemStatus.SKIPPED.name().equals(status)) {
 			// Remove retry flag if an item passed
 			RETRY_STATUS_TRACKER.remove(instance);
 		}
@@ -438,32 +1063,29 @@ public class TestNGService implements ITestNGService {
 		TestMethodType type = getAttribute(testResult, RP_METHOD_TYPE);
 
 		boolean isRetried = testResult.wasRetried();
-		if (TestMethodType.STEP == type && getAttribute(testResult, RP_RETRY) == null && isRetried && rq.getIssue() == null) {
+		if (TestMethodType.STEP == type) {
+			getRetryRegistry(testResult).onTestMethodFinish(isRetried);
+		}
+		boolean retry = TestMethodType.STEP == type && getAttribute(testResult, RP_RETRY) == null && isRetried && !hasIssue;
+		if (retry) {
 			RETRY_STATUS_TRACKER.put(instance, Boolean.TRUE);
-			rq.setRetry(Boolean.TRUE);
-			rq.setIssue(Launch.NOT_ISSUE);
 		}
 		if (isRetried) {
 			testResult.setAttribute(RP_RETRY, Boolean.TRUE);
 		}
+		return retry;
+	}
 
-		// Save before method finish requests to update them with a retry flag in case of main test method failed
-		if (instance != null) {
-			if (TestMethodType.BEFORE_METHOD == type && getAttribute(testResult, RP_RETRY) == null) {
-				Maybe<String> itemId = getAttribute(testResult, RP_ID);
-				BEFORE_METHOD_TRACKER.computeIfAbsent(instance, i -> new ConcurrentLinkedQueue<>()).add(Pair.of(itemId, rq));
-			} else {
-				Queue<Pair<Maybe<String>, FinishTestItemRQ>> beforeFinish = BEFORE_METHOD_TRACKER.remove(instance);
-				if (beforeFinish != null && isRetried) {
-					beforeFinish.stream().filter(e -> e.getValue().isRetry() == null || !e.getValue().isRetry()).forEach(e -> {
-						FinishTestItemRQ f = e.getValue();
-						f.setRetry(true);
-						//noinspection ReactiveStreamsUnusedPublisher
-						launch.get().finishTestItem(e.getKey(), f);
-					});
-				}
-			}
-		}
+	/**
+	 * Updates the retry and before method trackers with a finished result which has no item of its own to finish: a
+	 * rolled up iteration, a dropped deferred item or a summarized skip.
+	 *
+	 * @param status     status of the result
+	 * @param testResult TestNG's testResult context
+	 */
+	private void trackUnreportedResult(@Nonnull ItemStatus status, @Nonnull ITestResult testResult) {
+		trackRetry(testResult, status.name(), false);
+		finishBeforeMethods(testResult);
 	}
 
 	/**
@@ -479,13 +1101,22 @@ public class TestNGService implements ITestNGService {
 	protected com.epam.ta.reportportal.ws.model.issue.Issue createIssue(@Nonnull ITestResult testResult) {
 		String stepName = createStepName(testResult);
 		List<ParameterResource> parameters = ofNullable(createStepParameters(testResult)).orElse(Collections.emptyList());
-		return getMethodAnnotation(Issues.class, testResult).map(i -> IssueUtils.createIssue(i, stepName, parameters))
-				.orElseGet(() -> getMethodAnnotation(Issue.class, testResult).map(i -> IssueUtils.createIssue(i, stepName, parameters))
-						.orElse(null));
+		MethodDescriptor descriptor = getMethodDescriptor(testResult);
+		if (descriptor.getIssues() != null) {
+			return IssueUtils.createIssue(descriptor.getIssues(), stepName, parameters);
+		}
+		return ofNullable(descriptor.getIssue()).map(i -> IssueUtils.createIssue(i, stepName, parameters)).orElse(null);
 	}
 
 	@Override
 	public void finishTestMethod(ItemStatus status, ITestResult testResult) {
+		if (isRollup(testResult) && !finishRollupIteration(status, testResult)) {
+			return;
+		}
+		if (isSummarizedSkip(testResult)) {
+			summarizeSkip(testResult);
+			return;
+		}
 		Maybe<String> itemId = getAttribute(testResult, RP_ID);
 
 		if (ItemStatus.SKIPPED == status) {
@@ -496,6 +1127,14 @@ public class TestNGService implements ITestNGService {
 			createSkippedSteps(testResult);
 		}
 
+		if (getAttribute(testResult, DEFERRED_ATTRIBUTE) != null) {
+			status = unbindDeferredItem(testResult, status);
+			if (!startDeferredItem(status, testResult)) {
+				return;
+			}
+			itemId = getAttribute(testResult, RP_ID);
+		}
+
 		FinishTestItemRQ rq = buildFinishTestMethodRq(status, testResult);
 
 		TestMethodType type = getAttribute(testResult, RP_METHOD_TYPE);
@@ -522,24 +1161,139 @@ public class TestNGService implements ITestNGService {
 		}
 
 		processFinishRetryFlag(testResult, rq);
+		if (holdBeforeMethodFinish(testResult, itemId, rq)) {
+			releaseTestResult(testResult);
+			return;
+		}
 
 		Maybe<OperationCompletionRS> finishItemResponse = launch.get().finishTestItem(itemId, rq);
 		if (launch.get().getParameters().isCallbackReportingEnabled()) {
 			updateTestItemTree(finishItemResponse, testResult);
 		}
+		finishBeforeMethods(testResult);
+		releaseTestResult(testResult);
+	}
+
+	private boolean isHeldBeforeMethod(@Nonnull ITestResult testResult) {
+		return TestMethodType.BEFORE_METHOD == getAttribute(testResult, RP_METHOD_TYPE) && getAttribute(testResult, RP_RETRY) == null;
+	}
+
+	/**
+	 * Holds the finish of a before method till the outcome of the following test method of the same instance is known,
+	 * so the before method is finished once and with a retry flag if the test method is retried. The item is unbound
+	 * from the current thread right away, like {@link Launch} does on an item finish.
+	 *
+	 * @return true if the finish is held
+	 */
+	private boolean holdBeforeMethodFinish(@Nonnull ITestResult testResult, @Nullable Maybe<String> itemId,
+			@Nonnull FinishTestItemRQ rq) {
+		Object instance = testResult.getInstance();
+		if (instance == null || itemId == null || !isHeldBeforeMethod(testResult)) {
+			return false;
+		}
+		StepReporter stepReporter = launch.get().getStepReporter();
+		stepReporter.finishPreviousStep(ofNullable(rq.getStatus()).map(ItemStatus::valueOf).orElse(null));
+		if (stepReporter.isFailed(itemId)) {
+			rq.setStatus(ItemStatus.FAILED.name());
+		}
+		stepReporter.removeParent(itemId);
+		LoggingContext.dispose();
+		Queue<Pair<Maybe<String>, FinishTestItemRQ>> held = BEFORE_METHOD_TRACKER.computeIfAbsent(
+				instance,
+				i -> new HeldBeforeMethods(testResult.getTestContext())
+		).getItems();
+		held.add(Pair.of(itemId, rq));
+		// Parallel invocations of the same instance share the queue, finish the oldest ones as is not to hold them forever
+		while (held.size() > MAXIMUM_HELD_BEFORE_METHODS) {
+			ofNullable(held.poll()).ifPresent(this::finishHeldItem);
+		}
+		return true;
+	}
+
+	/**
+	 * Finishes held before methods of the result's instance, with a retry flag if the result is retried.
+	 */
+	private void finishBeforeMethods(@Nonnull ITestResult testResult) {
+		Object instance = testResult.getInstance();
+		if (instance == null || isHeldBeforeMethod(testResult)) {
+			return;
+		}
+		HeldBeforeMethods held = BEFORE_METHOD_TRACKER.remove(instance);
+		if (held == null) {
+			return;
+		}
+		boolean retried = testResult.wasRetried();
+		held.getItems().forEach(e -> {
+			if (retried) {
+				e.getValue().setRetry(Boolean.TRUE);
+			}
+			finishHeldItem(e);
+		});
+	}
+
+	/**
+	 * Finishes held before methods which were not followed by a test method of their instance.
+	 */
+	private void finishHeldBeforeMethods(@Nonnull Predicate<HeldBeforeMethods> filter) {
+		List<HeldBeforeMethods> finished = new ArrayList<>();
+		synchronized (BEFORE_METHOD_TRACKER) {
+			BEFORE_METHOD_TRACKER.values().removeIf(held -> filter.test(held) && finished.add(held));
+		}
+		finished.forEach(held -> held.getItems().forEach(this::finishHeldItem));
+	}
+
+	private void finishHeldItem(@Nonnull Pair<Maybe<String>, FinishTestItemRQ> item) {
+		// Launch unbinds a finished item from the current thread, held items are unbound already
+		LoggingContext.init(item.getKey());
+		//noinspection ReactiveStreamsUnusedPublisher
+		launch.get().finishTestItem(item.getKey(), item.getValue());
+	}
+
+	/**
+	 * Removes the agent's attributes from a finished result. TestNG keeps results till the end of their test, so item IDs
+	 * and formatted stack traces would stay in the heap for every finished item.
+	 */
+	private void releaseTestResult(@Nonnull ITestResult testResult) {
+		ITestResult result = TestResultSnapshot.unwrap(testResult);
+		result.removeAttribute(RP_ID);
+		result.removeAttribute(RP_RETRY);
+		result.removeAttribute(RP_METHOD_TYPE);
+		result.removeAttribute(DEFERRED_ATTRIBUTE);
+		result.removeAttribute(SUMMARIZED_SKIP_ATTRIBUTE);
+		FailurePayload.release(result);
+		FailureDeduplicator.release(result);
+		if (agentParameters.isParametersDetach()) {
+			Object[] parameters = result.getParameters();
+			if (parameters != null && parameters.length > 0) {
+				result.setParameters(new Object[parameters.length]);
+			}
+		}
 	}
 
 	@Override
 	public void sendReportPortalMsg(final ITestResult result) {
-		ReportPortal.emitLog(itemUuid -> {
+		// The failure log is sent before the iteration finish, so the iteration needs its item earlier
+		if (isRollup(result) && !startRollupChild(result, ItemStatus.FAILED)) {
+			// Failures beyond the rollup's limit are only counted
+			return;
+		}
+		// Format the trace on the test thread, the payload is shared with the item description
+		String message = ofNullable(getFailureMessage(result)).orElse("Test has failed without exception");
+		Function<String, SaveLogRQ> logSupplier = itemUuid -> {
 			SaveLogRQ rq = new SaveLogRQ();
 			rq.setItemUuid(itemUuid);
 			rq.setLevel("ERROR");
-			rq.setMessage(ofNullable(result.getThrowable()).map(t -> getStackTrace(result.getThrowable(), new Throwable()))
-					.orElse("Test has failed without exception"));
+			rq.setMessage(message);
 			rq.setLogTime(Instant.now());
 			return rq;
-		});
+		};
+		Maybe<String> itemId = result instanceof TestResultSnapshot ? getAttribute(result, RP_ID) : null;
+		if (itemId != null) {
+			// Logging context of the reporting thread does not belong to the snapshot's item, log to the item explicitly
+			launch.get().log(itemId, logSupplier);
+		} else {
+			ReportPortal.emitLog(logSupplier);
+		}
 	}
 
 	/**
@@ -668,14 +1422,14 @@ public class TestNGService implements ITestNGService {
 	}
 
 	/**
-	 * Process testResult to create parameters provided via {@link Parameters}
+	 * Process testResult to create parameters provided via {@link org.testng.annotations.Parameters}
 	 *
 	 * @param testResult TestNG's testResult context
 	 * @return Step Parameters being sent to ReportPortal
 	 */
 	@Nonnull
 	private List<ParameterResource> createAnnotationParameters(@Nonnull ITestResult testResult) {
-		return getMethodAnnotation(Parameters.class, testResult).map(a -> {
+		return ofNullable(getMethodDescriptor(testResult).getParameters()).map(a -> {
 			String[] keys = a.value();
 			Object[] parameters = testResult.getParameters();
 			if (parameters.length != keys.length || keys.length <= 0) {
@@ -700,7 +1454,7 @@ public class TestNGService implements ITestNGService {
 	 */
 	@Nonnull
 	private List<ParameterResource> createDataProviderParameters(@Nonnull ITestResult testResult) {
-		return getMethodAnnotation(Test.class, testResult).map(a -> {
+		return ofNullable(getMethodDescriptor(testResult).getTest()).map(a -> {
 			Method method = getMethod(testResult);
 			Object[] parameters = testResult.getParameters();
 			if (method == null || isBlank(a.dataProvider()) || parameters == null || parameters.length <= 0) {
@@ -712,32 +1466,12 @@ public class TestNGService implements ITestNGService {
 
 	private List<ParameterResource> crateFactoryParameters(ITestResult testResult) {
 		Object[] parameters = testResult.getFactoryParameters();
-
-		Constructor<?>[] constructors = ofNullable(getMethod(testResult)).map(Method::getDeclaringClass)
-				.map(Class::getConstructors)
-				.orElse(new Constructor<?>[0]);
-
-		Constructor<?> constructor = Arrays.stream(constructors).filter(c -> {
-			Factory factoryAnnotation = c.getAnnotation(Factory.class);
-			if (factoryAnnotation == null) {
-				return false;
-			}
-			if (c.getParameterCount() != parameters.length) {
-				return false;
-			}
-			Class<?>[] types = c.getParameterTypes();
-			return IntStream.range(0, types.length).mapToObj(i -> {
-				Class<?> type = types[i];
-				Class<?> boxedClass = ParameterUtils.toBoxedType(type);
-				// If value is null we can't get class, assume it suites.
-				return ofNullable(parameters[i]).map(p -> boxedClass == p.getClass()).orElse(true);
-			}).allMatch(b -> b);
-		}).findAny().orElse(null);
-		if (parameters == null || parameters.length <= 0 || constructor == null) {
+		Method method = getMethod(testResult);
+		if (method == null || parameters == null || parameters.length <= 0) {
 			return Collections.emptyList();
 		}
-
-		return ParameterUtils.getParameters(constructor, Arrays.asList(parameters));
+		FactoryConstructor constructor = FactoryConstructor.find(method.getDeclaringClass(), parameters);
+		return constructor == null ? Collections.emptyList() : constructor.getParameters(parameters);
 	}
 
 	/**
@@ -767,9 +1501,9 @@ public class TestNGService implements ITestNGService {
 	 * @return Test/Step Name being sent to ReportPortal
 	 */
 	protected String createStepName(ITestResult testResult) {
-		var methodDisplayNameOptional = getMethodAnnotation(DisplayName.class, testResult);
-		if (methodDisplayNameOptional.isPresent()) {
-			return methodDisplayNameOptional.get().value();
+		DisplayName displayName = getMethodDescriptor(testResult).getDisplayName();
+		if (displayName != null) {
+			return displayName.value();
 		}
 		String testStepName = testResult.getTestName();
 		return testStepName == null ? testResult.getMethod().getMethodName() : testStepName;
@@ -777,13 +1511,11 @@ public class TestNGService implements ITestNGService {
 
 	@Nullable
 	private TestCaseIdEntry getTestCaseId(@Nonnull String codeRef, @Nonnull ITestResult testResult) {
+		MethodDescriptor descriptor = getMethodDescriptor(testResult);
 		Method method = getMethod(testResult);
 		Object instance = testResult.getInstance();
 		List<Object> parameters = ofNullable(testResult.getParameters()).map(Arrays::asList).orElse(null);
-		TestCaseIdEntry id = getMethodAnnotation(
-				TestCaseId.class,
-				testResult
-		).flatMap(a -> ofNullable(method).map(m -> TestCaseIdUtils.getTestCaseId(
+		TestCaseIdEntry id = ofNullable(descriptor.getTestCaseId()).flatMap(a -> ofNullable(method).map(m -> TestCaseIdUtils.getTestCaseId(
 				a,
 				m,
 				codeRef,
@@ -796,7 +1528,18 @@ public class TestNGService implements ITestNGService {
 
 	@Nullable
 	protected Set<ItemAttributesRQ> createStepAttributes(@Nonnull ITestResult testResult) {
-		return getMethodAnnotation(Attributes.class, testResult).map(AttributeParser::retrieveAttributes).orElse(null);
+		return ofNullable(getMethodDescriptor(testResult).getAttributes()).map(AttributeParser::retrieveAttributes).orElse(null);
+	}
+
+	/**
+	 * Returns cached invocation-independent data of TestNG method: its type, code reference and annotations.
+	 *
+	 * @param testResult TestNG's testResult context
+	 * @return method descriptor
+	 */
+	@Nonnull
+	private MethodDescriptor getMethodDescriptor(@Nonnull ITestResult testResult) {
+		return MethodDescriptor.of(testResult.getMethod());
 	}
 
 	@Nullable
@@ -806,20 +1549,6 @@ public class TestNGService implements ITestNGService {
 				.orElse(null);
 	}
 
-	/**
-	 * Returns method annotation by specified annotation class from
-	 * TestNG Method or null if the method does not contain
-	 * such annotation.
-	 *
-	 * @param annotation Annotation class to find
-	 * @param testResult Where to find
-	 * @return {@link Annotation} or null if doesn't exists
-	 */
-	@Nonnull
-	private <T extends Annotation> Optional<T> getMethodAnnotation(@Nonnull Class<T> annotation, @Nonnull ITestResult testResult) {
-		return ofNullable(getMethod(testResult)).map(m -> m.getAnnotation(annotation));
-	}
-
 	/**
 	 * Checks if test suite has any methods to run.
 	 * It can be useful with writing test with "groups".
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reports all data provider rows or invocations of the annotated test method as a single item with a summary of passed
+ * rows and iteration latencies. Failed and skipped iterations are reported as its child items with their parameters.
+ * <p>
+ * Overrides {@link com.epam.reportportal.testng.AgentProperty#ROLLUP} and
+ * {@link com.epam.reportportal.testng.AgentProperty#ROLLUP_INVOCATIONS} properties for the method, E.G.
+ * {@code @Rollup(false)} reports every iteration as a separate item even if the rollup mode is enabled globally.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Rollup {
+	/**
+	 * @return true to roll up the method's rows
+	 */
+	boolean value() default true;
+}
@@ -0,0 +1,497 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.checkpoint;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Started and not yet finished launches and items of a JVM, with what is needed to finish them if the JVM dies: their
+ * parents, start times and the latest end time of their finished children.
+ * <p>
+ * The state is updated in memory by {@link CheckpointClient} on ReportPortal responses and saved to a small JSON file
+ * by a background thread, so test threads never wait for the disk. The file of a JVM which died is picked up by the
+ * next JVM with the same checkpoint directory, which finishes the dangling items, deepest first, and their launch.
+ * <p>
+ * A file is named after the process ID, the process start time and a random ID of its JVM. Process IDs are reused, E.G.
+ * every JVM in a container may get the same one, so a process is considered alive only if its start time matches as
+ * well, and a file with the current process ID, but another random ID, is of a process which had the ID before.
+ * <p>
+ * A dangling item without children was running when the JVM died, so it's finished as
+ * {@link ItemStatus#INTERRUPTED} at the time the JVM was last seen alive. Items with children are finished without a
+ * status, so ReportPortal calculates it from the children, at the end time of their latest child.
+ */
+public class Checkpoint {
+	private static final Logger LOGGER = LoggerFactory.getLogger(Checkpoint.class);
+
+	private static final String FILE_PREFIX = "checkpoint-";
+	private static final String FILE_EXTENSION = ".json";
+	private static final Pattern FILE_NAME = Pattern.compile(
+			Pattern.quote(FILE_PREFIX) + "((\\d+)-(\\d+)-[0-9a-f]+)" + Pattern.quote(FILE_EXTENSION));
+	private static final String PROCESS_ID = getProcessId(
+			ProcessHandle.current(),
+			Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE)
+	);
+
+	private final Map<String, Long> launches = new ConcurrentHashMap<>();
+	private final Map<String, Item> items = new ConcurrentHashMap<>();
+	private final AtomicBoolean dirty = new AtomicBoolean();
+
+	private volatile long updated = System.currentTimeMillis();
+	private volatile ScheduledExecutorService saver;
+
+	/**
+	 * @param directory checkpoint directory
+	 * @return checkpoint file of the current JVM
+	 */
+	@Nonnull
+	public static Path getFile(@Nonnull Path directory) {
+		return getFile(directory, PROCESS_ID);
+	}
+
+	@Nonnull
+	static Path getFile(@Nonnull Path directory, @Nonnull String processId) {
+		return directory.resolve(FILE_PREFIX + processId + FILE_EXTENSION);
+	}
+
+	/**
+	 * @param process  process
+	 * @param randomId random ID of the process, a lowercase hexadecimal number
+	 * @return ID of the process in checkpoint file names
+	 */
+	@Nonnull
+	static String getProcessId(@Nonnull ProcessHandle process, @Nonnull String randomId) {
+		return process.pid() + "-" + getStartMillis(process) + "-" + randomId;
+	}
+
+	private static long getStartMillis(@Nonnull ProcessHandle process) {
+		// The start time is not available on every platform, the process ID and the random ID are used then
+		return process.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+	}
+
+	/**
+	 * Records a launch start.
+	 *
+	 * @param launch      launch UUID
+	 * @param startMillis launch start time
+	 */
+	public void launchStarted(@Nonnull String launch, long startMillis) {
+		launches.put(launch, startMillis);
+		dirty.set(true);
+	}
+
+	/**
+	 * Forgets a finished launch with all its items.
+	 *
+	 * @param launch launch UUID
+	 */
+	public void launchFinished(@Nonnull String launch) {
+		launches.remove(launch);
+		items.values().removeIf(i -> launch.equals(i.getLaunch()));
+		dirty.set(true);
+	}
+
+	/**
+	 * Records an item start.
+	 *
+	 * @param item        item UUID
+	 * @param parent      parent item UUID, null for root items
+	 * @param launch      launch UUID
+	 * @param startMillis item start time
+	 * @param hasStats    false for nested steps
+	 */
+	public void itemStarted(@Nonnull String item, @Nullable String parent, @Nullable String launch, long startMillis, boolean hasStats) {
+		items.put(item, new Item(parent, launch, startMillis, hasStats));
+		dirty.set(true);
+	}
+
+	/**
+	 * Forgets a finished item and records its end time for its parent.
+	 *
+	 * @param item      item UUID
+	 * @param endMillis item end time
+	 */
+	public void itemFinished(@Nonnull String item, long endMillis) {
+		Item finished = items.remove(item);
+		if (finished == null) {
+			return;
+		}
+		Optional.ofNullable(finished.getParent()).map(items::get).ifPresent(p -> p.childFinished(endMillis, finished.isHasStats()));
+		dirty.set(true);
+	}
+
+	/**
+	 * @return UUIDs of started and not finished launches
+	 */
+	@Nonnull
+	public Set<String> getLaunches() {
+		return Collections.unmodifiableSet(launches.keySet());
+	}
+
+	/**
+	 * @return started and not finished items by their UUIDs
+	 */
+	@Nonnull
+	public Map<String, Item> getItems() {
+		return Collections.unmodifiableMap(items);
+	}
+
+	/**
+	 * @return the last time the state was saved, the JVM was alive at that time
+	 */
+	public long getUpdated() {
+		return updated;
+	}
+
+	/**
+	 * Starts saving the state to the file on a background thread when it changes.
+	 *
+	 * @param file           checkpoint file
+	 * @param intervalMillis how often the state is checked for changes
+	 */
+	public synchronized void startSaving(@Nonnull Path file, long intervalMillis) {
+		if (saver != null) {
+			return;
+		}
+		saver = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "rp-checkpoint");
+			thread.setDaemon(true);
+			return thread;
+		});
+		saver.scheduleWithFixedDelay(() -> {
+			try {
+				save(file);
+			} catch (IOException e) {
+				LOGGER.warn("Unable to save checkpoint: {}", file, e);
+			}
+		}, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Saves the state to the file if it has changed since the last save, the file is removed if there are no unfinished
+	 * launches.
+	 *
+	 * @param file checkpoint file
+	 * @throws IOException if the file can't be written
+	 */
+	public synchronized void save(@Nonnull Path file) throws IOException {
+		updated = System.currentTimeMillis();
+		if (!dirty.getAndSet(false)) {
+			// The JVM is alive, refresh the time dangling items would be interrupted at
+			if (Files.exists(file)) {
+				Files.setLastModifiedTime(file, FileTime.fromMillis(updated));
+			}
+			return;
+		}
+		if (launches.isEmpty()) {
+			Files.deleteIfExists(file);
+			return;
+		}
+		Map<String, Object> content = new LinkedHashMap<>();
+		content.put("launches", new HashMap<>(launches));
+		content.put("items", new HashMap<>(items));
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+		Files.write(temp, HttpRequestUtils.MAPPER.writeValueAsBytes(content));
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * @param file checkpoint file
+	 * @return the state saved to the file
+	 * @throws IOException if the file can't be read
+	 */
+	@Nonnull
+	public static Checkpoint load(@Nonnull Path file) throws IOException {
+		Saved saved = HttpRequestUtils.MAPPER.readValue(file.toFile(), Saved.class);
+		Checkpoint checkpoint = new Checkpoint();
+		checkpoint.launches.putAll(saved.launches);
+		checkpoint.items.putAll(saved.items);
+		checkpoint.updated = Files.getLastModifiedTime(file).toMillis();
+		return checkpoint;
+	}
+
+	private int depth(@Nonnull String item) {
+		int depth = 0;
+		Item current = items.get(item);
+		while (current != null && current.getParent() != null && depth < items.size()) {
+			current = items.get(current.getParent());
+			depth++;
+		}
+		return depth;
+	}
+
+	/**
+	 * Finishes unfinished items, deepest first, and then their launches.
+	 *
+	 * @param client          client to finish the items with
+	 * @param interruptMillis time the running items were interrupted at
+	 * @param deadlineMillis  time to give up at, unfinished launches and items are kept
+	 * @return true if every launch was finished
+	 */
+	public boolean finishDangling(@Nonnull ReportPortalClient client, long interruptMillis, long deadlineMillis) {
+		return finish(client, interruptMillis, deadlineMillis, true);
+	}
+
+	/**
+	 * Finishes unfinished items, deepest first, launches are left to be finished by their owner.
+	 *
+	 * @param client          client to finish the items with
+	 * @param interruptMillis time the running items were interrupted at
+	 * @param deadlineMillis  time to give up at, unfinished items are kept
+	 * @return true if every item was finished
+	 */
+	public boolean finishDanglingItems(@Nonnull ReportPortalClient client, long interruptMillis, long deadlineMillis) {
+		return finish(client, interruptMillis, deadlineMillis, false);
+	}
+
+	private boolean finish(@Nonnull ReportPortalClient client, long interruptMillis, long deadlineMillis, boolean withLaunches) {
+		Map<String, Long> ends = new HashMap<>();
+		Map<String, Long> launchEnds = new HashMap<>();
+		Set<String> parents = new HashSet<>();
+		List<String> order = items.keySet().stream().sorted(Comparator.comparingInt(this::depth).reversed()).collect(Collectors.toList());
+		try {
+			for (String uuid : order) {
+				Item item = items.get(uuid);
+				if (item == null) {
+					continue;
+				}
+				// Nested steps do not make their parent a container, its status is not calculated from them
+				boolean container = item.isStatsChildren() || parents.contains(uuid);
+				long end = Math.max(
+						item.getStart(),
+						container ? Math.max(item.getLastChildEnd(), ends.getOrDefault(uuid, 0L)) : interruptMillis
+				);
+				FinishTestItemRQ rq = new FinishTestItemRQ();
+				rq.setEndTime(new Date(end));
+				if (!container) {
+					rq.setStatus(ItemStatus.INTERRUPTED.name());
+				}
+				client.finishTestItem(uuid, rq).timeout(remaining(deadlineMillis), TimeUnit.MILLISECONDS).blockingGet();
+				itemFinished(uuid, end);
+				Optional.ofNullable(item.getParent()).ifPresent(p -> {
+					ends.merge(p, end, Math::max);
+					if (item.isHasStats()) {
+						parents.add(p);
+					}
+				});
+				Optional.ofNullable(item.getLaunch()).ifPresent(l -> launchEnds.merge(l, end, Math::max));
+			}
+			for (String launch : withLaunches ? new ArrayList<>(launches.keySet()) : Collections.<String>emptyList()) {
+				FinishExecutionRQ rq = new FinishExecutionRQ();
+				rq.setEndTime(new Date(Math.max(launches.get(launch), launchEnds.getOrDefault(launch, interruptMillis))));
+				client.finishLaunch(launch, rq).timeout(remaining(deadlineMillis), TimeUnit.MILLISECONDS).blockingGet();
+				launchFinished(launch);
+			}
+			return true;
+		} catch (RuntimeException e) {
+			LOGGER.warn("Unable to finish dangling items: {} items of {} launches are left", items.size(), launches.size(), e);
+			return false;
+		}
+	}
+
+	private static long remaining(long deadlineMillis) {
+		long remaining = deadlineMillis - System.currentTimeMillis();
+		if (remaining <= 0) {
+			throw new IllegalStateException("Deadline has passed");
+		}
+		return remaining;
+	}
+
+	/**
+	 * Finishes dangling items and launches of the checkpoint files of JVMs which are not alive anymore.
+	 *
+	 * @param directory      checkpoint directory
+	 * @param client         client to finish the items with
+	 * @param deadlineMillis time to give up at, files of not finished launches are kept for the next attempt
+	 */
+	public static void recover(@Nonnull Path directory, @Nonnull ReportPortalClient client, long deadlineMillis) {
+		recover(directory, client, deadlineMillis, launch -> false);
+	}
+
+	/**
+	 * Finishes dangling items and launches of the checkpoint files of JVMs which are not alive anymore. Launches which are
+	 * still in use, E.G. shared with live JVM forks, are left to be finished by their users, only their items are finished.
+	 *
+	 * @param directory      checkpoint directory
+	 * @param client         client to finish the items with
+	 * @param deadlineMillis time to give up at, files of not finished launches are kept for the next attempt
+	 * @param launchInUse    tells if a launch is still in use by another JVM
+	 */
+	public static void recover(@Nonnull Path directory, @Nonnull ReportPortalClient client, long deadlineMillis,
+			@Nonnull Predicate<String> launchInUse) {
+		if (!Files.isDirectory(directory)) {
+			return;
+		}
+		List<Path> files;
+		try (Stream<Path> list = Files.list(directory)) {
+			files = list.filter(Checkpoint::isOfDeadProcess).collect(Collectors.toList());
+		} catch (IOException e) {
+			LOGGER.warn("Unable to list checkpoint directory: {}", directory, e);
+			return;
+		}
+		for (Path file : files) {
+			try {
+				Checkpoint checkpoint = load(file);
+				checkpoint.launches.keySet().removeIf(launchInUse);
+				LOGGER.info(
+						"Finishing {} dangling items of {} launches from checkpoint {}",
+						checkpoint.items.size(),
+						checkpoint.launches.size(),
+						file
+				);
+				if (checkpoint.finishDangling(client, checkpoint.getUpdated(), deadlineMillis)) {
+					Files.deleteIfExists(file);
+				}
+			} catch (IOException e) {
+				LOGGER.warn("Unable to read checkpoint: {}", file, e);
+			}
+		}
+	}
+
+	private static boolean isOfDeadProcess(@Nonnull Path file) {
+		Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+		if (!matcher.matches() || PROCESS_ID.equals(matcher.group(1))) {
+			return false;
+		}
+		try {
+			long pid = Long.parseLong(matcher.group(2));
+			long startMillis = Long.parseLong(matcher.group(3));
+			if (pid == ProcessHandle.current().pid()) {
+				// Another JVM had the process ID before this one
+				return true;
+			}
+			return ProcessHandle.of(pid).map(p -> !p.isAlive() || getStartMillis(p) != startMillis).orElse(true);
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Started and not yet finished item.
+	 */
+	public static class Item {
+		private String parent;
+		private String launch;
+		private long start;
+		private boolean hasStats;
+		private volatile long lastChildEnd;
+		private volatile boolean statsChildren;
+
+		public Item() {
+		}
+
+		public Item(@Nullable String parent, @Nullable String launch, long start, boolean hasStats) {
+			this.parent = parent;
+			this.launch = launch;
+			this.start = start;
+			this.hasStats = hasStats;
+		}
+
+		private synchronized void childFinished(long endMillis, boolean childHasStats) {
+			lastChildEnd = Math.max(lastChildEnd, endMillis);
+			statsChildren |= childHasStats;
+		}
+
+		@Nullable
+		public String getParent() {
+			return parent;
+		}
+
+		public void setParent(@Nullable String parent) {
+			this.parent = parent;
+		}
+
+		@Nullable
+		public String getLaunch() {
+			return launch;
+		}
+
+		public void setLaunch(@Nullable String launch) {
+			this.launch = launch;
+		}
+
+		public long getStart() {
+			return start;
+		}
+
+		public void setStart(long start) {
+			this.start = start;
+		}
+
+		public boolean isHasStats() {
+			return hasStats;
+		}
+
+		public void setHasStats(boolean hasStats) {
+			this.hasStats = hasStats;
+		}
+
+		/**
+		 * @return the latest end time of the item's finished children, zero if there are none
+		 */
+		public long getLastChildEnd() {
+			return lastChildEnd;
+		}
+
+		public void setLastChildEnd(long lastChildEnd) {
+			this.lastChildEnd = lastChildEnd;
+		}
+
+		/**
+		 * @return true if the item has finished children other than nested steps
+		 */
+		public boolean isStatsChildren() {
+			return statsChildren;
+		}
+
+		public void setStatsChildren(boolean statsChildren) {
+			this.statsChildren = statsChildren;
+		}
+	}
+
+	private static class Saved {
+		public Map<String, Long> launches = new HashMap<>();
+		public Map<String, Item> items = new HashMap<>();
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.checkpoint;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MultipartBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ReportPortal client which records started and finished launches and items of its responses in a {@link Checkpoint},
+ * so items which are not finished because the JVM dies can be finished later. The checkpoint is updated on the
+ * client's threads in memory only.
+ */
+public class CheckpointClient implements ReportPortalClient {
+	private static final Logger LOGGER = LoggerFactory.getLogger(CheckpointClient.class);
+
+	private static final long AWAIT_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private final AtomicInteger finishesInFlight = new AtomicInteger();
+	private final ReportPortalClient delegate;
+	private final Checkpoint checkpoint;
+	private final Path file;
+	private final long deadlineMillis;
+
+	/**
+	 * @param delegate       client to send requests with
+	 * @param checkpoint     checkpoint to record the items in
+	 * @param file           file the checkpoint is saved to
+	 * @param deadlineMillis how long dangling items are finished for on the JVM shutdown
+	 */
+	public CheckpointClient(@Nonnull ReportPortalClient delegate, @Nonnull Checkpoint checkpoint, @Nonnull Path file, long deadlineMillis) {
+		this.delegate = delegate;
+		this.checkpoint = checkpoint;
+		this.file = file;
+		this.deadlineMillis = deadlineMillis;
+	}
+
+	static long toMillis(@Nullable Comparable<? extends Comparable<?>> time) {
+		if (time instanceof Date) {
+			return ((Date) time).getTime();
+		}
+		if (time instanceof Instant) {
+			return ((Instant) time).toEpochMilli();
+		}
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * @return client the requests are sent with
+	 */
+	@Nonnull
+	public ReportPortalClient getDelegate() {
+		return delegate;
+	}
+
+	@Nonnull
+	public Checkpoint getCheckpoint() {
+		return checkpoint;
+	}
+
+	/**
+	 * Finishes items which are still not finished on the JVM shutdown, launches are finished by their owner after that.
+	 * Item finishes which are already sent are awaited for the half of the deadline first. Whatever is not finished
+	 * within the deadline is left in the checkpoint file for the next JVM.
+	 */
+	public void finishDanglingItems() {
+		long now = System.currentTimeMillis();
+		long deadline = now + deadlineMillis;
+		while (finishesInFlight.get() > 0 && System.currentTimeMillis() < now + deadlineMillis / 2) {
+			LockSupport.parkNanos(AWAIT_PARK_NANOS);
+		}
+		checkpoint.finishDanglingItems(delegate, now, deadline);
+	}
+
+	/**
+	 * Saves the checkpoint right away, E.G. after a launch finish.
+	 */
+	public void save() {
+		try {
+			checkpoint.save(file);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to save checkpoint: {}", file, e);
+		}
+	}
+
+	@Override
+	public Maybe<ApiInfo> getApiInfo() {
+		return delegate.getApiInfo();
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		return delegate.startLaunch(rq).doOnSuccess(rs -> checkpoint.launchStarted(rs.getId(), toMillis(rq.getStartTime())));
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return delegate.mergeLaunches(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launch, UpdateLaunchRQ rq) {
+		return delegate.updateLaunch(launch, rq);
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launch, FinishExecutionRQ rq) {
+		return delegate.finishLaunch(launch, rq).doOnSuccess(rs -> checkpoint.launchFinished(launch));
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		return delegate.startTestItem(rq)
+				.doOnSuccess(rs -> checkpoint.itemStarted(rs.getId(), null, rq.getLaunchUuid(), toMillis(rq.getStartTime()), rq.isHasStats()));
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+		return delegate.startTestItem(parent, rq)
+				.doOnSuccess(rs -> checkpoint.itemStarted(rs.getId(), parent, rq.getLaunchUuid(), toMillis(rq.getStartTime()), rq.isHasStats()));
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String item, FinishTestItemRQ rq) {
+		return delegate.finishTestItem(item, rq)
+				.doOnSubscribe(d -> finishesInFlight.incrementAndGet())
+				.doFinally(finishesInFlight::decrementAndGet)
+				.doOnSuccess(rs -> checkpoint.itemFinished(item, toMillis(rq.getEndTime())));
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		return delegate.log(rq);
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> parts) {
+		return delegate.log(parts);
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String launchUuid) {
+		return delegate.getLaunchByUuid(launchUuid);
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String itemUuid) {
+		return delegate.getItemByUuid(itemUuid);
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return delegate.getProjectSettings();
+	}
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.fork;
+
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Membership of a JVM fork in a launch shared by the forks of a build, coordinated through a lock file.
+ * <p>
+ * The file holds the shared launch UUID, its finish time and the forks which have joined it, each fork is identified by
+ * its process ID and a random ID. The file is read and updated under an exclusive file lock, so the list of forks works
+ * as an atomic counter: the first fork starts the launch, the following ones find its UUID in the file, the last fork
+ * to leave finishes the launch. Forks whose processes are not alive anymore are removed from the list, so a crashed
+ * fork does not keep the launch open.
+ * <p>
+ * The launch is not started under the lock, which would block every fork for a round trip to ReportPortal: the first
+ * fork marks itself in the file as the one starting the launch, releases the lock and writes the UUID once the launch
+ * is started. The following forks poll the file till the UUID is there, or till the starting fork fails or dies, then
+ * one of them starts the launch instead.
+ * <p>
+ * Forks of a build may also run one after another, E.G. with a single fork at a time. A fork which starts within the
+ * grace period after the launch finish reopens the launch as a rerun. The limit is the grace period: a fork which starts
+ * later than that, or after the previous forks have crashed, starts a new launch, so does the next build if it starts
+ * within the grace period of the previous one with the same lock file.
+ */
+public class ForkLock {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ForkLock.class);
+
+	// File locks are held by the JVM, forks of the same JVM, E.G. in tests, are serialized by this lock
+	private static final Object JVM_LOCK = new Object();
+
+	private static final long POLL_MILLIS = 50;
+
+	private final Path file;
+	private final long graceMillis;
+	private final String member = ProcessHandle.current().pid() + " " + UUID.randomUUID();
+
+	/**
+	 * @param file lock file shared by the forks
+	 */
+	public ForkLock(@Nonnull Path file) {
+		this(file, 0);
+	}
+
+	/**
+	 * @param file        lock file shared by the forks
+	 * @param graceMillis how long a finished launch is reopened by the next fork for, in milliseconds
+	 */
+	public ForkLock(@Nonnull Path file, long graceMillis) {
+		this.file = file;
+		this.graceMillis = graceMillis;
+	}
+
+	/**
+	 * Joins the shared launch, or starts it if there are no live forks.
+	 *
+	 * @param launchStarter starts the launch and returns its UUID, it's called without the lock with the UUID of the launch
+	 *                      finished within the grace period, which should be reopened as a rerun, or null for a new launch
+	 * @return UUID of the shared launch
+	 * @throws IOException if the lock file can't be read or written, or the fork is interrupted while another fork is
+	 *                     starting the launch
+	 */
+	@Nonnull
+	public String join(@Nonnull Function<String, String> launchStarter) throws IOException {
+		State joined;
+		while ((joined = update(this::tryJoin)) == null) {
+			try {
+				Thread.sleep(POLL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while another fork is starting the launch");
+			}
+		}
+		if (!member.equals(joined.starting)) {
+			return joined.launch;
+		}
+		String launch;
+		try {
+			launch = launchStarter.apply(joined.launch);
+		} catch (RuntimeException | Error e) {
+			// Let another fork start the launch
+			try {
+				update(state -> {
+					state.starting = null;
+					state.members.remove(member);
+					return null;
+				});
+			} catch (IOException io) {
+				e.addSuppressed(io);
+			}
+			throw e;
+		}
+		return update(state -> {
+			state.launch = launch;
+			state.finished = 0;
+			state.starting = null;
+			if (!state.members.contains(member)) {
+				state.members.add(member);
+			}
+			return launch;
+		});
+	}
+
+	/**
+	 * @return the state after the fork has joined the launch or has become the fork which starts it, null if another
+	 * fork is starting the launch
+	 */
+	private State tryJoin(@Nonnull State state) {
+		if (state.starting != null) {
+			return null;
+		}
+		if (state.launch == null || state.members.isEmpty()) {
+			boolean inGrace = state.finished > 0 && System.currentTimeMillis() - state.finished < graceMillis;
+			if (!inGrace) {
+				state.launch = null;
+			}
+			state.members.clear();
+			state.starting = member;
+		} else {
+			state.finished = 0;
+		}
+		state.members.add(member);
+		return state;
+	}
+
+	/**
+	 * Leaves the shared launch.
+	 *
+	 * @return true if the fork is the last one, so it should finish the launch
+	 * @throws IOException if the lock file can't be read or written
+	 */
+	public boolean leave() throws IOException {
+		return update(state -> {
+			state.members.remove(member);
+			if (!state.members.isEmpty()) {
+				return false;
+			}
+			// The launch is kept for the forks which start within the grace period
+			state.finished = System.currentTimeMillis();
+			return true;
+		});
+	}
+
+	/**
+	 * Tells if live forks report to the launch, so it must not be finished by anyone else, E.G. on a checkpoint recovery.
+	 * The launch is considered in use if the lock file can't be read.
+	 *
+	 * @param launch launch UUID
+	 * @return true if the launch is shared by live forks
+	 */
+	public boolean isInUse(@Nonnull String launch) {
+		try {
+			return update(state -> launch.equals(state.launch) && !state.members.isEmpty());
+		} catch (IOException e) {
+			LOGGER.warn("Unable to read the fork lock file {}, launch {} is considered in use", file, launch, e);
+			return true;
+		}
+	}
+
+	/**
+	 * @return the fork ID in the lock file
+	 */
+	@Nonnull
+	public String getMember() {
+		return member;
+	}
+
+	private <T> T update(@Nonnull Function<State, T> action) throws IOException {
+		synchronized (JVM_LOCK) {
+			Path parent = file.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+				FileLock lock = channel.lock();
+				try {
+					State state = State.read(channel);
+					state.members.removeIf(m -> !isAlive(m));
+					if (state.starting != null && !state.members.contains(state.starting)) {
+						// The fork has died while starting the launch
+						state.starting = null;
+					}
+					T result = action.apply(state);
+					state.write(channel);
+					return result;
+				} finally {
+					lock.release();
+				}
+			}
+		}
+	}
+
+	private static boolean isAlive(@Nonnull String member) {
+		try {
+			long memberPid = Long.parseLong(member.substring(0, member.indexOf(' ')));
+			return ProcessHandle.of(memberPid).map(ProcessHandle::isAlive).orElse(false);
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Content of the lock file: the launch UUID on the first line, its finish time on the second one, zero if it's not
+	 * finished, the fork which is starting the launch on the third one and a fork per line after them. An absent UUID or
+	 * fork is written as {@link #NONE}.
+	 */
+	private static class State {
+		private static final String NONE = "-";
+
+		private String launch;
+		private long finished;
+		private String starting;
+		private final List<String> members = new ArrayList<>();
+
+		@Nonnull
+		private static State read(@Nonnull FileChannel channel) throws IOException {
+			ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+			while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+				// read the whole file
+			}
+			State state = new State();
+			List<String> lines = Arrays.stream(new String(buffer.array(), StandardCharsets.UTF_8).split("\n"))
+					.map(String::trim)
+					.filter(l -> !l.isEmpty())
+					.collect(Collectors.toList());
+			if (lines.size() >= 3) {
+				state.launch = NONE.equals(lines.get(0)) ? null : lines.get(0);
+				state.finished = Long.parseLong(lines.get(1));
+				state.starting = NONE.equals(lines.get(2)) ? null : lines.get(2);
+				state.members.addAll(lines.subList(3, lines.size()));
+			}
+			return state;
+		}
+
+		private void write(@Nonnull FileChannel channel) throws IOException {
+			String content = launch == null && starting == null ?
+					"" :
+					ofNullable(launch).orElse(NONE) + "\n" + finished + "\n" + ofNullable(starting).orElse(NONE) + "\n" + members.stream()
+							.map(m -> m + "\n")
+							.collect(Collectors.joining());
+			ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+			channel.truncate(0);
+			while (buffer.hasRemaining()) {
+				channel.write(buffer, buffer.position());
+			}
+			channel.force(false);
+		}
+	}
+}
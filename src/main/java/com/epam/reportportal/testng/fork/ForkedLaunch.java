@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.fork;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.LaunchImpl;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.testng.checkpoint.CheckpointClient;
+import com.epam.reportportal.utils.concurrency.MultithreadingUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Launch shared by JVM forks of a build, see {@link ForkLock}. The first fork starts the launch, the other ones report
+ * their items to it. Every fork finishes its own items, only the last one finishes the launch. If a checkpoint is kept,
+ * the other forks remove the launch from it when they leave.
+ */
+public class ForkedLaunch extends LaunchImpl {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ForkedLaunch.class);
+
+	private final ForkLock lock;
+	private final AtomicBoolean left = new AtomicBoolean();
+	private volatile boolean last;
+
+	private ForkedLaunch(@Nonnull ReportPortalClient client, @Nonnull ListenerParameters parameters, @Nonnull StartLaunchRQ rq,
+			@Nonnull ExecutorService executor, @Nonnull ForkLock lock) {
+		super(client, parameters, rq, executor);
+		this.lock = lock;
+	}
+
+	private ForkedLaunch(@Nonnull ReportPortalClient client, @Nonnull ListenerParameters parameters, @Nonnull Maybe<String> launch,
+			@Nonnull ExecutorService executor, @Nonnull ForkLock lock) {
+		super(client, parameters, launch, executor);
+		this.lock = lock;
+	}
+
+	/**
+	 * Starts the launch shared by the forks or joins it if another fork has started it already. A regular launch is
+	 * created if reporting is disabled, the launch UUID is set by the user or the lock file is not available.
+	 *
+	 * @param reportPortal ReportPortal instance
+	 * @param rq           launch start request
+	 * @param lockFile     lock file shared by the forks
+	 * @return the launch
+	 */
+	@Nonnull
+	public static Launch create(@Nonnull ReportPortal reportPortal, @Nonnull StartLaunchRQ rq, @Nonnull Path lockFile) {
+		return create(reportPortal, rq, lockFile, 0);
+	}
+
+	/**
+	 * Starts the launch shared by the forks or joins it if another fork has started it already. The launch finished by the
+	 * previous forks within the grace period is reopened as a rerun. A regular launch is created if reporting is disabled,
+	 * the launch UUID is set by the user or the lock file is not available.
+	 *
+	 * @param reportPortal ReportPortal instance
+	 * @param rq           launch start request
+	 * @param lockFile     lock file shared by the forks
+	 * @param graceMillis  how long a finished launch is reopened by the next fork for, in milliseconds
+	 * @return the launch
+	 */
+	@Nonnull
+	public static Launch create(@Nonnull ReportPortal reportPortal, @Nonnull StartLaunchRQ rq, @Nonnull Path lockFile,
+			long graceMillis) {
+		ReportPortalClient client = reportPortal.getClient();
+		ListenerParameters parameters = reportPortal.getParameters();
+		if (client == null || !ofNullable(parameters.getEnable()).orElse(false) || isNotBlank(parameters.getLaunchUuid())) {
+			return reportPortal.newLaunch(rq);
+		}
+		ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-io-", parameters);
+		ForkLock lock = new ForkLock(lockFile, graceMillis);
+		AtomicReference<ForkedLaunch> started = new AtomicReference<>();
+		String launchUuid;
+		try {
+			launchUuid = lock.join(rerunOf -> {
+				if (rerunOf != null) {
+					rq.setRerun(true);
+					rq.setRerunOf(rerunOf);
+				}
+				ForkedLaunch launch = new ForkedLaunch(client, parameters, rq, executor, lock);
+				started.set(launch);
+				// The other forks join the launch once it exists on ReportPortal, they wait for it outside the lock
+				return ofNullable(launch.getLaunch().blockingGet()).orElseThrow(() -> new IllegalStateException("Launch is not started"));
+			});
+		} catch (IOException | RuntimeException e) {
+			ForkedLaunch launch = started.get();
+			if (launch != null) {
+				// The launch start is sent already, so the launch is kept as a separate one instead of starting another
+				LOGGER.warn("Unable to share the launch with forks through {}, the launch is reported by this fork only", lockFile, e);
+				launch.left.set(true);
+				launch.last = true;
+				return launch;
+			}
+			LOGGER.warn("Unable to join the launch shared by forks through {}, a separate launch is created", lockFile, e);
+			executor.shutdown();
+			return reportPortal.newLaunch(rq);
+		}
+		ForkedLaunch launch = started.get();
+		if (launch != null) {
+			LOGGER.info(
+					"Launch {} is {} and shared with forks through {}",
+					launchUuid,
+					rq.isRerun() && launchUuid.equals(rq.getRerunOf()) ? "reopened" : "started",
+					lockFile
+			);
+			return launch;
+		}
+		LOGGER.info("Launch {} shared through {} is joined", launchUuid, lockFile);
+		return new ForkedLaunch(client, parameters, Maybe.just(launchUuid), executor, lock);
+	}
+
+	/**
+	 * Finishes the fork's items and sends its logs, then finishes the launch if the fork is the last one to leave it.
+	 *
+	 * @param request launch finish request
+	 */
+	@Override
+	public void finish(@Nonnull FinishExecutionRQ request) {
+		if (left.compareAndSet(false, true)) {
+			Completable items = null;
+			if (!queue.isEmpty()) {
+				items = Completable.concat(queue.values().stream().flatMap(i -> i.getChildren().stream()).collect(Collectors.toList()));
+			}
+			// The fork leaves once its items and logs are on ReportPortal, so the last fork never finishes the launch ahead of them
+			waitForItemsCompletion(items);
+			virtualItemDisposables.removeIf(d -> {
+				d.dispose();
+				return true;
+			});
+			completeLogEmitter();
+			try {
+				last = lock.leave();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to leave the launch shared by forks, the launch is finished by this fork", e);
+				last = true;
+			}
+			if (!last && getClient() instanceof CheckpointClient) {
+				// The launch is finished by another fork, so it must not be finished on this JVM checkpoint recovery
+				ofNullable(getLaunch().blockingGet()).ifPresent(l -> ((CheckpointClient) getClient()).getCheckpoint().launchFinished(l));
+			}
+		}
+		if (last) {
+			super.finish(request);
+		}
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.journal;
+
+import com.epam.reportportal.exception.InternalReportPortalClientException;
+import jakarta.annotation.Nonnull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only journal of reporting requests in memory-mapped segment files.
+ * <p>
+ * Writers reserve space for their records with an atomic increment of the current segment's tail and copy the record
+ * into the mapped memory, so concurrent writes need no locks and no system calls. A record is
+ * {@code [int length][byte type][payload]}, aligned to four bytes; its length is written last with release semantics
+ * and marks the record as complete, so a reader stops at the first record which was not completely written. A full
+ * segment is forced to the disk and replaced with a new one, only this rare switch is synchronized.
+ * <p>
+ * Only the current segment stays mapped: a full segment is forced and dropped once its last writer has copied its
+ * record, so the mapping is released by the garbage collector. Segments which still have writers on the switch are kept
+ * till the next {@link #force()}.
+ * <p>
+ * Mapped memory belongs to the operating system, so written records survive a crash of the JVM; forced segments
+ * survive a crash of the host as well.
+ * <p>
+ * Segment files are named {@code <journal ID>-<segment index>.rpj}, the journal ID is unique and grows with the time
+ * the journal is opened, so several journals, E.G. of forked JVMs, can share a directory.
+ */
+public class Journal implements Closeable {
+	/**
+	 * Segment file extension
+	 */
+	public static final String SEGMENT_EXTENSION = ".rpj";
+
+	static final int MAGIC = 0x52504A31; // "RPJ1"
+	static final int SEGMENT_HEADER_SIZE = 8;
+	static final int RECORD_HEADER_SIZE = 5;
+
+	private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+	private final Path directory;
+	private final String id;
+	private final int segmentSize;
+	// Full segments which had writers when they were replaced, they are forced again once the writers are done
+	private final Queue<Segment> unforced = new ConcurrentLinkedQueue<>();
+
+	private volatile Segment current;
+	private volatile boolean closed;
+
+	/**
+	 * Opens a new journal in the directory, the directory is created if it does not exist.
+	 *
+	 * @param directory   directory of segment files
+	 * @param segmentSize size of a segment file in bytes
+	 * @throws IOException if the first segment can't be created
+	 */
+	public Journal(@Nonnull Path directory, int segmentSize) throws IOException {
+		if (segmentSize <= SEGMENT_HEADER_SIZE) {
+			throw new IllegalArgumentException("Journal segment size is too small: " + segmentSize);
+		}
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		id = String.format(Locale.ROOT, "%012x%08x", System.currentTimeMillis(), ThreadLocalRandom.current().nextInt());
+		Files.createDirectories(directory);
+		current = createSegment(0, segmentSize);
+	}
+
+	static int align(int length) {
+		return (length + 3) & ~3;
+	}
+
+	@Nonnull
+	private Segment createSegment(int index, int size) throws IOException {
+		Path file = directory.resolve(String.format(Locale.ROOT, "%s-%08d%s", id, index, SEGMENT_EXTENSION));
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(4, index);
+			return new Segment(index, buffer);
+		}
+	}
+
+	/**
+	 * Appends the event to the journal.
+	 *
+	 * @param event event to append
+	 */
+	public void write(@Nonnull JournalEvent event) {
+		write(event.getType().getCode(), event.encode());
+	}
+
+	private void write(byte type, @Nonnull byte[] payload) {
+		int length = RECORD_HEADER_SIZE + payload.length;
+		int size = align(length);
+		while (true) {
+			if (closed) {
+				throw new IllegalStateException("Journal is closed");
+			}
+			Segment segment = current;
+			// A writer is counted before its reservation, so once the segment is full every writer of it is counted
+			segment.writers.incrementAndGet();
+			try {
+				long position = segment.tail.getAndAdd(size);
+				if (position + size <= segment.buffer.capacity()) {
+					segment.write((int) position, length, type, payload);
+					return;
+				}
+			} finally {
+				segment.writers.decrementAndGet();
+			}
+			roll(segment, size);
+		}
+	}
+
+	private synchronized void roll(@Nonnull Segment full, int size) {
+		if (current != full || closed) {
+			return;
+		}
+		try {
+			current = createSegment(full.index + 1, Math.max(segmentSize, SEGMENT_HEADER_SIZE + size));
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to create journal segment", e);
+		}
+		full.buffer.force();
+		if (full.writers.get() > 0) {
+			unforced.add(full);
+		}
+	}
+
+	/**
+	 * Forces all written records to the disk.
+	 */
+	public void force() {
+		unforced.removeIf(s -> {
+			boolean done = s.writers.get() == 0;
+			s.buffer.force();
+			return done;
+		});
+		current.buffer.force();
+	}
+
+	/**
+	 * @return count of segments which are still mapped by the journal, the current one included
+	 */
+	int getMappedSegments() {
+		return unforced.size() + 1;
+	}
+
+	/**
+	 * @return directory of the journal's segment files
+	 */
+	@Nonnull
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * @return unique ID of the journal, the prefix of its segment file names
+	 */
+	@Nonnull
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Forces all written records to the disk, no records can be written after that.
+	 */
+	@Override
+	public synchronized void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		force();
+	}
+
+	private static class Segment {
+		private final int index;
+		private final MappedByteBuffer buffer;
+		private final AtomicLong tail = new AtomicLong(SEGMENT_HEADER_SIZE);
+		private final AtomicInteger writers = new AtomicInteger();
+
+		private Segment(int index, @Nonnull MappedByteBuffer buffer) {
+			this.index = index;
+			this.buffer = buffer;
+		}
+
+		private void write(int position, int length, byte type, @Nonnull byte[] payload) {
+			ByteBuffer view = buffer.duplicate();
+			view.position(position + 4);
+			view.put(type);
+			view.put(payload);
+			INT_VIEW.setRelease(buffer, position, length);
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.journal;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import okhttp3.MultipartBody;
+
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * ReportPortal client which writes reporting requests to a {@link Journal} instead of sending them, for environments
+ * where ReportPortal is not reachable during the test run. The journal is uploaded later.
+ * <p>
+ * Launches and items get UUIDs on the agent side, the same UUIDs are used on the upload, so logs and child items of
+ * the journal refer to the right items. Requests are written on the client's threads, test threads are not blocked.
+ * Server-side queries are not available: they complete empty.
+ */
+public class JournalClient implements ReportPortalClient {
+	private final Journal journal;
+
+	public JournalClient(@Nonnull Journal journal) {
+		this.journal = journal;
+	}
+
+	@Nonnull
+	static String uuid(@Nonnull StartRQ rq) {
+		String uuid = ofNullable(rq.getUuid()).orElseGet(() -> UUID.randomUUID().toString());
+		rq.setUuid(uuid);
+		return uuid;
+	}
+
+	/**
+	 * @return the journal the requests are written to
+	 */
+	@Nonnull
+	public Journal getJournal() {
+		return journal;
+	}
+
+	@Override
+	public Maybe<ApiInfo> getApiInfo() {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		return Maybe.fromCallable(() -> {
+			String uuid = uuid(rq);
+			journal.write(JournalEvent.of(JournalEventType.START_LAUNCH, uuid, null, rq));
+			return new StartLaunchRS(uuid, null);
+		});
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launch, UpdateLaunchRQ rq) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launch, FinishExecutionRQ rq) {
+		return Maybe.fromCallable(() -> {
+			journal.write(JournalEvent.of(JournalEventType.FINISH_LAUNCH, launch, null, rq));
+			journal.force();
+			return new OperationCompletionRS("Launch with ID = '" + launch + "' is written to journal " + journal.getDirectory());
+		});
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		return startTestItem(null, rq);
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+		return Maybe.fromCallable(() -> {
+			String uuid = uuid(rq);
+			journal.write(JournalEvent.of(JournalEventType.START_ITEM, uuid, parent, rq));
+			return new ItemCreatedRS(uuid, uuid);
+		});
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String item, FinishTestItemRQ rq) {
+		return Maybe.fromCallable(() -> {
+			journal.write(JournalEvent.of(JournalEventType.FINISH_ITEM, item, null, rq));
+			return new OperationCompletionRS("Item with ID = '" + item + "' is written to journal");
+		});
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		return Maybe.fromCallable(() -> {
+			journal.write(JournalEvent.of(JournalEventType.LOG, null, null, rq));
+			return new EntryCreatedAsyncRS(UUID.randomUUID().toString());
+		});
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> parts) {
+		return Maybe.fromCallable(() -> {
+			journal.write(JournalEvent.ofLogBatch(parts));
+			return new BatchSaveOperatingRS();
+		});
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String launchUuid) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String itemUuid) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return Maybe.empty();
+	}
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.journal;
+
+import com.epam.reportportal.exception.InternalReportPortalClientException;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Reporting request stored in a {@link Journal}: its type, the UUID of the launch or the item it's related to, the
+ * UUID of the parent item and the request body.
+ * <p>
+ * The event is written as a binary envelope of the UUIDs and the body. Request bodies are stored in the form they are
+ * sent to ReportPortal: JSON for launch, item and single log requests and a list of multipart parts for log batches,
+ * so they are uploaded later without any conversion.
+ */
+public class JournalEvent {
+	private static final String JSON_REQUEST_PART = "json_request_part";
+
+	private final JournalEventType type;
+	private final String id;
+	private final String parentId;
+	private final byte[] body;
+
+	public JournalEvent(@Nonnull JournalEventType type, @Nullable String id, @Nullable String parentId, @Nonnull byte[] body) {
+		this.type = type;
+		this.id = id;
+		this.parentId = parentId;
+		this.body = body;
+	}
+
+	/**
+	 * Creates an event with the request serialized to JSON.
+	 *
+	 * @param type     event type
+	 * @param id       UUID of the launch or the item
+	 * @param parentId UUID of the parent item
+	 * @param request  request to store
+	 * @return the event
+	 */
+	@Nonnull
+	public static JournalEvent of(@Nonnull JournalEventType type, @Nullable String id, @Nullable String parentId, @Nonnull Object request) {
+		try {
+			return new JournalEvent(type, id, parentId, HttpRequestUtils.MAPPER.writeValueAsBytes(request));
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to serialize journal event", e);
+		}
+	}
+
+	/**
+	 * Creates a {@link JournalEventType#LOG_BATCH} event with the parts of a multipart log request.
+	 *
+	 * @param parts request parts
+	 * @return the event
+	 */
+	@Nonnull
+	public static JournalEvent ofLogBatch(@Nonnull List<MultipartBody.Part> parts) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(parts.size());
+			for (MultipartBody.Part part : parts) {
+				Headers headers = ofNullable(part.headers()).orElseGet(() -> Headers.of());
+				out.writeInt(headers.size());
+				for (int i = 0; i < headers.size(); i++) {
+					out.writeUTF(headers.name(i));
+					out.writeUTF(headers.value(i));
+				}
+				out.writeUTF(ofNullable(part.body().contentType()).map(MediaType::toString).orElse(""));
+				Buffer content = new Buffer();
+				part.body().writeTo(content);
+				out.writeInt((int) content.size());
+				out.write(content.readByteArray());
+			}
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to serialize journal event", e);
+		}
+		return new JournalEvent(JournalEventType.LOG_BATCH, null, null, bytes.toByteArray());
+	}
+
+	@Nonnull
+	public JournalEventType getType() {
+		return type;
+	}
+
+	@Nullable
+	public String getId() {
+		return id;
+	}
+
+	@Nullable
+	public String getParentId() {
+		return parentId;
+	}
+
+	@Nonnull
+	public byte[] getBody() {
+		return body;
+	}
+
+	/**
+	 * @param requestType type of the request
+	 * @param <T>         type of the request
+	 * @return the request deserialized from the event's JSON body
+	 */
+	@Nonnull
+	public <T> T getRequest(@Nonnull Class<T> requestType) {
+		try {
+			return HttpRequestUtils.MAPPER.readValue(body, requestType);
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to deserialize journal event", e);
+		}
+	}
+
+	/**
+	 * Reads a top-level field of the event's JSON body without deserialization of the whole request.
+	 *
+	 * @param field JSON name of the field
+	 * @return the field value as a string or null if there is no such field
+	 */
+	@Nullable
+	public String getRequestField(@Nonnull String field) {
+		try (JsonParser parser = HttpRequestUtils.MAPPER.getFactory().createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (field.equals(name)) {
+					return value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+				}
+				parser.skipChildren();
+			}
+			return null;
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to deserialize journal event", e);
+		}
+	}
+
+	/**
+	 * @return parts of the multipart log request of a {@link JournalEventType#LOG_BATCH} event
+	 */
+	@Nonnull
+	public List<MultipartBody.Part> getLogParts() {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+			int size = in.readInt();
+			List<MultipartBody.Part> parts = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				Headers.Builder headers = new Headers.Builder();
+				int headerNumber = in.readInt();
+				for (int j = 0; j < headerNumber; j++) {
+					headers.add(in.readUTF(), in.readUTF());
+				}
+				String contentType = in.readUTF();
+				byte[] content = new byte[in.readInt()];
+				in.readFully(content);
+				MediaType mediaType = contentType.isEmpty() ? null : MediaType.parse(contentType);
+				parts.add(MultipartBody.Part.create(headers.build(), RequestBody.create(content, mediaType)));
+			}
+			return parts;
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to deserialize journal event", e);
+		}
+	}
+
+	/**
+	 * @return log entries of a {@link JournalEventType#LOG} or a {@link JournalEventType#LOG_BATCH} event
+	 */
+	@Nonnull
+	public List<SaveLogRQ> getLogRequests() {
+		if (type == JournalEventType.LOG) {
+			return Collections.singletonList(getRequest(SaveLogRQ.class));
+		}
+		if (type != JournalEventType.LOG_BATCH) {
+			return Collections.emptyList();
+		}
+		List<SaveLogRQ> result = new ArrayList<>();
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+			int size = in.readInt();
+			for (int i = 0; i < size; i++) {
+				String disposition = "";
+				int headerNumber = in.readInt();
+				for (int j = 0; j < headerNumber; j++) {
+					String name = in.readUTF();
+					String value = in.readUTF();
+					if ("Content-Disposition".equalsIgnoreCase(name)) {
+						disposition = value;
+					}
+				}
+				in.readUTF(); // content type
+				int length = in.readInt();
+				if (disposition.contains("name=\"" + JSON_REQUEST_PART + "\"")) {
+					byte[] content = new byte[length];
+					in.readFully(content);
+					result.addAll(HttpRequestUtils.MAPPER.readValue(content, new TypeReference<List<SaveLogRQ>>() {
+					}));
+				} else {
+					// Attached files are not needed to find the log entries, so they are skipped without a copy
+					if (in.skipBytes(length) < length) {
+						throw new EOFException("Log batch part is truncated");
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to deserialize journal event", e);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the event's record payload
+	 */
+	@Nonnull
+	byte[] encode() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 80);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeUTF(ofNullable(id).orElse(""));
+			out.writeUTF(ofNullable(parentId).orElse(""));
+			out.write(body);
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to serialize journal event", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @param type    event type
+	 * @param payload record payload
+	 * @return the event decoded from the record payload
+	 */
+	@Nonnull
+	static JournalEvent decode(@Nonnull JournalEventType type, @Nonnull byte[] payload) {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+			String id = in.readUTF();
+			String parentId = in.readUTF();
+			byte[] body = new byte[in.available()];
+			in.readFully(body);
+			return new JournalEvent(type, id.isEmpty() ? null : id, parentId.isEmpty() ? null : parentId, body);
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to deserialize journal event", e);
+		}
+	}
+}
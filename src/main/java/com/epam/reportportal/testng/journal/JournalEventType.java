@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.journal;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Types of the reporting requests which are written to a {@link Journal}. Codes are stored in journal records, so they
+ * must never change.
+ */
+public enum JournalEventType {
+	/**
+	 * Launch start, the event's ID is the launch UUID
+	 */
+	START_LAUNCH((byte) 1),
+	/**
+	 * Launch finish, the event's ID is the launch UUID
+	 */
+	FINISH_LAUNCH((byte) 2),
+	/**
+	 * Item start, the event's ID is the item UUID, the parent ID is the parent item UUID or null for root items
+	 */
+	START_ITEM((byte) 3),
+	/**
+	 * Item finish, the event's ID is the item UUID
+	 */
+	FINISH_ITEM((byte) 4),
+	/**
+	 * Single log entry without attachments
+	 */
+	LOG((byte) 5),
+	/**
+	 * Batch of log entries with their attachments as multipart request parts
+	 */
+	LOG_BATCH((byte) 6);
+
+	private final byte code;
+
+	JournalEventType(byte code) {
+		this.code = code;
+	}
+
+	public byte getCode() {
+		return code;
+	}
+
+	/**
+	 * @param code code of the type stored in a journal record
+	 * @return the type with the code
+	 * @throws IllegalArgumentException if there is no type with such code
+	 */
+	@Nonnull
+	public static JournalEventType of(byte code) {
+		for (JournalEventType type : values()) {
+			if (type.code == code) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException("Unknown journal event type: " + code);
+	}
+}
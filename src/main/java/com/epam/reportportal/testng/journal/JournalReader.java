@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.journal;
+
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.testng.journal.Journal.*;
+
+/**
+ * Reads events of all the journals in a directory: journals in the order they were opened, events of a journal in the
+ * order they were written. Reading of a segment stops at its first incomplete record, which is the tail of a segment
+ * the JVM crashed while writing to.
+ */
+public class JournalReader {
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalReader.class);
+
+	private JournalReader() {
+		throw new IllegalStateException("Static only class");
+	}
+
+	/**
+	 * @param directory journal directory
+	 * @return segment files of the directory in the order they were written
+	 * @throws IOException if the directory can't be listed
+	 */
+	@Nonnull
+	public static List<Path> getSegments(@Nonnull Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_EXTENSION)).sorted().collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * @param directory journal directory
+	 * @return all complete events of the journals in the directory
+	 * @throws IOException if a segment can't be read
+	 */
+	@Nonnull
+	public static List<JournalEvent> read(@Nonnull Path directory) throws IOException {
+		return readRecords(directory).stream().map(Record::getEvent).collect(Collectors.toList());
+	}
+
+	/**
+	 * @param directory journal directory
+	 * @return all complete events of the journals in the directory with their positions
+	 * @throws IOException if a segment can't be read
+	 */
+	@Nonnull
+	public static List<Record> readRecords(@Nonnull Path directory) throws IOException {
+		List<Record> records = new ArrayList<>();
+		readRecords(directory, records::add);
+		return records;
+	}
+
+	/**
+	 * Passes complete events of the journals in the directory with their positions to the consumer one by one, so the
+	 * journal is not kept in memory.
+	 *
+	 * @param directory journal directory
+	 * @param consumer  consumer of the records
+	 * @throws IOException if a segment can't be read
+	 */
+	public static void readRecords(@Nonnull Path directory, @Nonnull Consumer<Record> consumer) throws IOException {
+		for (Path segment : getSegments(directory)) {
+			readSegment(segment, consumer);
+		}
+	}
+
+	/**
+	 * Reads the event of a record again, E.G. of a record which was passed to a consumer before.
+	 *
+	 * @param channel channel of the record's segment file
+	 * @param offset  record offset in the segment, see {@link Record#getOffset()}
+	 * @return the event of the record
+	 * @throws IOException if the record can't be read
+	 */
+	@Nonnull
+	static JournalEvent readEvent(@Nonnull FileChannel channel, int offset) throws IOException {
+		ByteBuffer header = readFully(channel, offset, RECORD_HEADER_SIZE);
+		int length = header.getInt(0);
+		JournalEventType type = JournalEventType.of(header.get(4));
+		ByteBuffer payload = readFully(channel, offset + RECORD_HEADER_SIZE, length - RECORD_HEADER_SIZE);
+		return JournalEvent.decode(type, payload.array());
+	}
+
+	@Nonnull
+	private static ByteBuffer readFully(@Nonnull FileChannel channel, long position, int size) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new EOFException("Journal record is truncated at " + position);
+			}
+		}
+		return buffer;
+	}
+
+	private static void readSegment(@Nonnull Path segment, @Nonnull Consumer<Record> consumer) throws IOException {
+		String fileName = segment.getFileName().toString();
+		int separator = fileName.lastIndexOf('-');
+		String journalId = separator > 0 ? fileName.substring(0, separator) : fileName;
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.capacity() < SEGMENT_HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+				LOGGER.warn("Skipping journal segment with unknown format: {}", segment);
+				return;
+			}
+			int index = buffer.getInt(4);
+			int position = SEGMENT_HEADER_SIZE;
+			while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+				int length = buffer.getInt(position);
+				if (length < RECORD_HEADER_SIZE || position + length > buffer.capacity()) {
+					return;
+				}
+				JournalEventType type = JournalEventType.of(buffer.get(position + 4));
+				byte[] payload = new byte[length - RECORD_HEADER_SIZE];
+				buffer.duplicate().position(position + RECORD_HEADER_SIZE).get(payload);
+				consumer.accept(new Record(segment, journalId, index, position, JournalEvent.decode(type, payload)));
+				position += align(length);
+			}
+		}
+	}
+
+	/**
+	 * Journal event with its position: the journal ID, the segment index and the record offset in the segment. The
+	 * position does not depend on the other journals and segments of the directory.
+	 */
+	public static class Record {
+		private final Path file;
+		private final String journalId;
+		private final int segment;
+		private final int offset;
+		private final JournalEvent event;
+
+		private Record(@Nonnull Path file, @Nonnull String journalId, int segment, int offset, @Nonnull JournalEvent event) {
+			this.file = file;
+			this.journalId = journalId;
+			this.segment = segment;
+			this.offset = offset;
+			this.event = event;
+		}
+
+		/**
+		 * @return segment file of the record
+		 */
+		@Nonnull
+		Path getFile() {
+			return file;
+		}
+
+		@Nonnull
+		public String getJournalId() {
+			return journalId;
+		}
+
+		public int getSegment() {
+			return segment;
+		}
+
+		public int getOffset() {
+			return offset;
+		}
+
+		@Nonnull
+		public JournalEvent getEvent() {
+			return event;
+		}
+
+		/**
+		 * @return the position as a string unique in the journal directory
+		 */
+		@Nonnull
+		public String getPosition() {
+			return String.format(Locale.ROOT, "%s-%08d:%d", journalId, segment, offset);
+		}
+	}
+}
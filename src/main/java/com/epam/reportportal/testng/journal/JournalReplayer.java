@@ -0,0 +1,554 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.journal;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Uploads the launches of a {@link Journal} directory to ReportPortal.
+ * <p>
+ * Events are uploaded concurrently as soon as the events they depend on are acknowledged: an item start waits for the
+ * launch start and the parent item start, a log waits for the start of its item, an item finish waits for the finishes
+ * of its children and for its logs, a launch finish waits for the rest of the launch. So independent subtrees are
+ * uploaded in parallel.
+ * <p>
+ * The position of every acknowledged event, see {@link JournalReader.Record#getPosition()}, is appended to
+ * {@link #ACKNOWLEDGEMENTS_FILE} in the journal directory, an interrupted upload is resumed from it. Positions do not
+ * depend on the other journals of the directory, so journals may be added or removed between uploads. Launches and items keep the UUIDs they got on the journal write, so a start or a finish
+ * which reached ReportPortal, but was not acknowledged before the interruption, is found on the server and not
+ * repeated. Only such log batches may be uploaded twice.
+ * <p>
+ * The journal is read in a single pass which keeps only the positions and the UUIDs of the events, an event's body is
+ * read again from its segment file when the event is uploaded, so the size of a journal is not limited by the heap.
+ * <p>
+ * Command line usage: {@code JournalReplayer <journal directory> [threads]}, ReportPortal connection is configured
+ * with the usual ReportPortal properties.
+ */
+public class JournalReplayer {
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalReplayer.class);
+
+	/**
+	 * Name of the file with positions of acknowledged events in the journal directory
+	 */
+	public static final String ACKNOWLEDGEMENTS_FILE = "replay.ack";
+
+	public static final int DEFAULT_THREADS = 4;
+
+	private static final int SEND_ATTEMPTS = 3;
+
+	private static final long PROGRESS_TIMEOUT_MINUTES = 1;
+
+	private final ReportPortalClient client;
+	private final Path directory;
+	private final int threads;
+
+	/**
+	 * @param client    client to upload the events with
+	 * @param directory journal directory
+	 * @param threads   number of concurrent uploads
+	 */
+	public JournalReplayer(@Nonnull ReportPortalClient client, @Nonnull Path directory, int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("Number of threads should be positive: " + threads);
+		}
+		this.client = client;
+		this.directory = directory;
+		this.threads = threads;
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.err.println("Usage: JournalReplayer <journal directory> [threads]");
+			System.exit(2);
+		}
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_THREADS;
+		ReportPortalClient client = ReportPortal.builder().build().getClient();
+		if (client == null) {
+			System.err.println("ReportPortal reporting is disabled, check 'rp.enable' property");
+			System.exit(2);
+		}
+		Result result = new JournalReplayer(client, Paths.get(args[0]), threads).replay();
+		System.out.println(result);
+	}
+
+	/**
+	 * Uploads the events of the journal which are not acknowledged yet.
+	 *
+	 * @return upload statistics
+	 * @throws IOException          if the journal or the acknowledgements can't be read
+	 * @throws ExecutionException   if an event can't be uploaded or no event is uploaded for a minute, acknowledged events
+	 *                              are kept for the next attempt
+	 * @throws InterruptedException if the upload is interrupted
+	 */
+	@Nonnull
+	public Result replay() throws IOException, ExecutionException, InterruptedException {
+		long start = System.nanoTime();
+		Set<String> acknowledgements = readAcknowledgements();
+		Plan plan = new Plan();
+		JournalReader.readRecords(directory, record -> plan.add(record, acknowledgements.contains(record.getPosition())));
+		plan.link();
+		List<Node> nodes = plan.nodes;
+
+		AtomicIntegerArray pending = new AtomicIntegerArray(nodes.size());
+		List<Integer> ready = new ArrayList<>();
+		int toSend = 0;
+		for (int i = 0; i < nodes.size(); i++) {
+			if (nodes.get(i).acknowledged) {
+				continue;
+			}
+			toSend++;
+			int count = (int) plan.dependencies.get(i).stream().filter(d -> !nodes.get(d).acknowledged).count();
+			pending.set(i, count);
+			if (count == 0) {
+				ready.add(i);
+			}
+		}
+		Result result = new Result(nodes.size() - toSend);
+		if (toSend == 0) {
+			return result.finish(start);
+		}
+
+		AtomicInteger remaining = new AtomicInteger(toSend);
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		Map<Path, FileChannel> channels = new ConcurrentHashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "rp-journal-replay");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try (BufferedWriter ackWriter = Files.newBufferedWriter(
+				directory.resolve(ACKNOWLEDGEMENTS_FILE),
+				StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND
+		)) {
+			Runnable[] tasks = new Runnable[nodes.size()];
+			for (int i = 0; i < nodes.size(); i++) {
+				int index = i;
+				tasks[i] = () -> {
+					if (done.isDone()) {
+						return;
+					}
+					try {
+						Node node = nodes.get(index);
+						send(readEvent(channels, node));
+						acknowledge(ackWriter, node.position);
+						result.count(node.type);
+						if (remaining.decrementAndGet() == 0) {
+							done.complete(null);
+							return;
+						}
+						for (int dependent : plan.dependents.get(index)) {
+							if (pending.decrementAndGet(dependent) == 0 && !done.isDone()) {
+								executor.execute(tasks[dependent]);
+							}
+						}
+					} catch (RejectedExecutionException e) {
+						// The upload has failed and is being stopped
+					} catch (Throwable e) {
+						// Errors stop the upload too, otherwise nothing would complete it
+						done.completeExceptionally(e);
+					}
+				};
+			}
+			try {
+				ready.forEach(i -> executor.execute(tasks[i]));
+				awaitUpload(done, remaining);
+			} finally {
+				// Let uploads in flight be acknowledged before the file is closed
+				executor.shutdown();
+				if (!executor.awaitTermination(PROGRESS_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+					executor.shutdownNow();
+				}
+			}
+		} finally {
+			for (FileChannel channel : channels.values()) {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					LOGGER.warn("Unable to close journal segment", e);
+				}
+			}
+		}
+		result.finish(start);
+		LOGGER.info(result.toString());
+		return result;
+	}
+
+	/**
+	 * Waits for the upload while it makes progress: the upload fails if no event is acknowledged for
+	 * {@link #PROGRESS_TIMEOUT_MINUTES}, E.G. if a request hangs.
+	 */
+	private static void awaitUpload(@Nonnull CompletableFuture<Void> done, @Nonnull AtomicInteger remaining)
+			throws ExecutionException, InterruptedException {
+		int left = remaining.get();
+		while (true) {
+			try {
+				done.get(PROGRESS_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+				return;
+			} catch (TimeoutException e) {
+				if (remaining.get() == left) {
+					done.completeExceptionally(new TimeoutException(
+							"No journal event was uploaded in " + PROGRESS_TIMEOUT_MINUTES + " minute(s), " + left + " events are left"));
+				}
+				left = remaining.get();
+			}
+		}
+	}
+
+	@Nonnull
+	private static JournalEvent readEvent(@Nonnull Map<Path, FileChannel> channels, @Nonnull Node node) throws IOException {
+		FileChannel channel = channels.computeIfAbsent(node.file, file -> {
+			try {
+				return FileChannel.open(file, StandardOpenOption.READ);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		return JournalReader.readEvent(channel, node.offset);
+	}
+
+	@Nonnull
+	private Set<String> readAcknowledgements() throws IOException {
+		Path file = directory.resolve(ACKNOWLEDGEMENTS_FILE);
+		if (!Files.exists(file)) {
+			return Collections.emptySet();
+		}
+		String content = Files.readString(file, StandardCharsets.UTF_8);
+		// The last line is incomplete if the replayer was killed while writing it, a prefix of a position is skipped
+		return Arrays.stream(content.substring(0, content.lastIndexOf('\n') + 1).split("\\R"))
+				.map(String::trim)
+				.filter(l -> !l.isEmpty())
+				.collect(Collectors.toSet());
+	}
+
+	private static void acknowledge(@Nonnull BufferedWriter writer, @Nonnull String position) {
+		synchronized (writer) {
+			try {
+				writer.write(position);
+				writer.newLine();
+				writer.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private void send(@Nonnull JournalEvent event) {
+		RuntimeException error = null;
+		for (int attempt = 0; attempt < SEND_ATTEMPTS; attempt++) {
+			try {
+				doSend(event);
+				return;
+			} catch (RuntimeException e) {
+				if (isApplied(event)) {
+					// The event reached ReportPortal before, E.G. in an interrupted upload
+					return;
+				}
+				error = e;
+			}
+		}
+		throw error;
+	}
+
+	private void doSend(@Nonnull JournalEvent event) {
+		switch (event.getType()) {
+			case START_LAUNCH:
+				client.startLaunch(event.getRequest(StartLaunchRQ.class)).blockingGet();
+				break;
+			case FINISH_LAUNCH:
+				client.finishLaunch(event.getId(), event.getRequest(FinishExecutionRQ.class)).blockingGet();
+				break;
+			case START_ITEM:
+				StartTestItemRQ startRq = event.getRequest(StartTestItemRQ.class);
+				if (event.getParentId() == null) {
+					client.startTestItem(startRq).blockingGet();
+				} else {
+					client.startTestItem(event.getParentId(), startRq).blockingGet();
+				}
+				break;
+			case FINISH_ITEM:
+				client.finishTestItem(event.getId(), event.getRequest(FinishTestItemRQ.class)).blockingGet();
+				break;
+			case LOG:
+				client.log(event.getRequest(SaveLogRQ.class)).blockingGet();
+				break;
+			case LOG_BATCH:
+				client.log(event.getLogParts()).blockingGet();
+				break;
+		}
+	}
+
+	private boolean isApplied(@Nonnull JournalEvent event) {
+		try {
+			switch (event.getType()) {
+				case START_LAUNCH:
+					return client.getLaunchByUuid(event.getId()).blockingGet() != null;
+				case FINISH_LAUNCH:
+					return ofNullable(client.getLaunchByUuid(event.getId()).blockingGet()).map(l -> l.getEndTime() != null).orElse(false);
+				case START_ITEM:
+					return client.getItemByUuid(event.getId()).blockingGet() != null;
+				case FINISH_ITEM:
+					return ofNullable(client.getItemByUuid(event.getId()).blockingGet()).map(i -> i.getEndTime() != null).orElse(false);
+				default:
+					return false;
+			}
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Journal event without its body, which is read again from the segment file on upload.
+	 */
+	private static class Node {
+		private final JournalEventType type;
+		private final String id;
+		private final String parentId;
+		private final Path file;
+		private final int offset;
+		private final String position;
+		private final boolean acknowledged;
+
+		private Node(@Nonnull JournalReader.Record record, boolean acknowledged) {
+			JournalEvent event = record.getEvent();
+			type = event.getType();
+			id = event.getId();
+			parentId = event.getParentId();
+			file = record.getFile();
+			offset = record.getOffset();
+			position = record.getPosition();
+			this.acknowledged = acknowledged;
+		}
+	}
+
+	/**
+	 * Dependencies between the events of a journal.
+	 */
+	private static class Plan {
+		private final List<Node> nodes = new ArrayList<>();
+		private final List<Set<Integer>> dependencies = new ArrayList<>();
+		private final List<List<Integer>> dependents = new ArrayList<>();
+
+		private final Map<String, Integer> launchStarts = new HashMap<>();
+		private final Map<String, Integer> launchFinishes = new HashMap<>();
+		private final Map<String, Integer> itemStarts = new HashMap<>();
+		private final Map<String, Integer> itemFinishes = new HashMap<>();
+		private final Map<String, String> itemParents = new HashMap<>();
+		private final Map<String, String> itemLaunches = new HashMap<>();
+		// Item and launch UUIDs of the log entries of log events, the launch is null if a log entry has no launch UUID
+		private final Map<Integer, Set<Pair<String, String>>> logTargets = new HashMap<>();
+
+		private void add(@Nonnull JournalReader.Record record, boolean acknowledged) {
+			JournalEvent event = record.getEvent();
+			int i = nodes.size();
+			nodes.add(new Node(record, acknowledged));
+			dependencies.add(new HashSet<>());
+			dependents.add(new ArrayList<>());
+			switch (event.getType()) {
+				case START_LAUNCH:
+					launchStarts.put(event.getId(), i);
+					break;
+				case FINISH_LAUNCH:
+					launchFinishes.put(event.getId(), i);
+					break;
+				case START_ITEM:
+					itemStarts.put(event.getId(), i);
+					ofNullable(event.getParentId()).ifPresent(p -> itemParents.put(event.getId(), p));
+					ofNullable(event.getRequestField("launchUuid")).ifPresent(l -> itemLaunches.put(event.getId(), l));
+					break;
+				case FINISH_ITEM:
+					itemFinishes.put(event.getId(), i);
+					break;
+				case LOG:
+					logTargets.put(i, Collections.singleton(Pair.of(event.getRequestField("itemUuid"), event.getRequestField("launchUuid"))));
+					break;
+				case LOG_BATCH:
+					logTargets.put(
+							i,
+							event.getLogRequests().stream().map(l -> Pair.of(l.getItemUuid(), l.getLaunchUuid())).collect(Collectors.toSet())
+					);
+					break;
+				default:
+			}
+		}
+
+		private void link() {
+			for (int i = 0; i < nodes.size(); i++) {
+				Node node = nodes.get(i);
+				switch (node.type) {
+					case FINISH_LAUNCH:
+						dependOn(i, launchStarts.get(node.id));
+						break;
+					case START_ITEM:
+						dependOn(i, launchStarts.get(itemLaunches.get(node.id)));
+						dependOn(i, itemStarts.get(node.parentId));
+						dependOn(launchFinishes.get(itemLaunches.get(node.id)), i);
+						break;
+					case FINISH_ITEM:
+						dependOn(i, itemStarts.get(node.id));
+						dependOn(itemFinishes.get(itemParents.get(node.id)), i);
+						dependOn(launchFinishes.get(itemLaunches.get(node.id)), i);
+						break;
+					case LOG:
+					case LOG_BATCH:
+						for (Pair<String, String> target : logTargets.get(i)) {
+							String item = target.getLeft();
+							String launch = ofNullable(target.getRight()).orElseGet(() -> itemLaunches.get(item));
+							dependOn(i, itemStarts.get(item));
+							dependOn(i, launchStarts.get(launch));
+							dependOn(itemFinishes.get(item), i);
+							dependOn(launchFinishes.get(launch), i);
+						}
+						break;
+					default:
+				}
+			}
+			// Only the dependencies are needed for the upload
+			logTargets.clear();
+			itemParents.clear();
+			itemLaunches.clear();
+		}
+
+		private void dependOn(@Nullable Integer event, @Nullable Integer dependency) {
+			if (event == null || dependency == null || event.equals(dependency)) {
+				return;
+			}
+			if (dependencies.get(event).add(dependency)) {
+				dependents.get(dependency).add(event);
+			}
+		}
+	}
+
+	/**
+	 * Upload statistics.
+	 */
+	public static class Result {
+		private final int skippedEvents;
+		private final AtomicInteger events = new AtomicInteger();
+		private final AtomicInteger items = new AtomicInteger();
+		private final AtomicInteger logRequests = new AtomicInteger();
+		private volatile long durationMillis;
+
+		private Result(int skippedEvents) {
+			this.skippedEvents = skippedEvents;
+		}
+
+		private void count(@Nonnull JournalEventType type) {
+			events.incrementAndGet();
+			if (type == JournalEventType.START_ITEM) {
+				items.incrementAndGet();
+			} else if (type == JournalEventType.LOG || type == JournalEventType.LOG_BATCH) {
+				logRequests.incrementAndGet();
+			}
+		}
+
+		@Nonnull
+		private Result finish(long startNanos) {
+			durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+			return this;
+		}
+
+		/**
+		 * @return number of events which were acknowledged by a previous upload
+		 */
+		public int getSkippedEvents() {
+			return skippedEvents;
+		}
+
+		/**
+		 * @return number of uploaded events
+		 */
+		public int getEvents() {
+			return events.get();
+		}
+
+		/**
+		 * @return number of uploaded items
+		 */
+		public int getItems() {
+			return items.get();
+		}
+
+		/**
+		 * @return number of uploaded log requests
+		 */
+		public int getLogRequests() {
+			return logRequests.get();
+		}
+
+		public long getDurationMillis() {
+			return durationMillis;
+		}
+
+		/**
+		 * @return uploaded items per second
+		 */
+		public double getItemsPerSecond() {
+			return getItems() * 1000.0 / Math.max(1, durationMillis);
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+					Locale.ROOT,
+					"Journal upload: %d events (%d items, %d log requests) in %d ms, %.1f items/s, %d events were uploaded before",
+					getEvents(),
+					getItems(),
+					getLogRequests(),
+					durationMillis,
+					getItemsPerSecond(),
+					skippedEvents
+			);
+		}
+	}
+}
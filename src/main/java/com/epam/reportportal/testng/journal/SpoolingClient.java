@@ -0,0 +1,373 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.journal;
+
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import io.reactivex.Maybe;
+import io.reactivex.MaybeEmitter;
+import io.reactivex.disposables.Disposable;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MultipartBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * ReportPortal client which bounds the launch finish time: {@link #finish(Launch, FinishExecutionRQ)} waits for the
+ * launch requests for a deadline only and logs its progress meanwhile. When the deadline passes, requests which are
+ * still waiting for a response and all the following ones are written to a {@link Journal} in the spool directory
+ * instead, to be uploaded later with {@link JournalReplayer}.
+ * <p>
+ * Launches and items get UUIDs on the agent side before they are sent, so a spooled copy of a request which has
+ * reached ReportPortal anyway refers to the same launch or item and is not repeated on the upload.
+ * <p>
+ * The progress counts only requests in flight, which are sent and wait for a response. Requests the launch has not
+ * sent yet, like finishes of items waiting for their children or logs collected into a batch, are not visible to the
+ * client, so no estimate of the remaining time is given.
+ */
+public class SpoolingClient implements ReportPortalClient {
+	private static final Logger LOGGER = LoggerFactory.getLogger(SpoolingClient.class);
+
+	private static final long SPOOL_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+	private final ReportPortalClient delegate;
+	private final Path directory;
+	private final int segmentSize;
+	private final long deadlineMillis;
+	private final long progressIntervalMillis;
+
+	private final Map<Long, PendingCall<?>> pending = new ConcurrentHashMap<>();
+	private final AtomicLong callIds = new AtomicLong();
+	private final AtomicInteger inFlightItems = new AtomicInteger();
+	private final AtomicInteger inFlightLogs = new AtomicInteger();
+	private final AtomicLong sent = new AtomicLong();
+	private final AtomicLong spooled = new AtomicLong();
+
+	private volatile JournalClient spool;
+
+	/**
+	 * @param delegate               client to send requests with
+	 * @param directory              directory of spool journals
+	 * @param segmentSize            size of a spool journal segment file in bytes
+	 * @param deadlineMillis         how long the launch finish waits for ReportPortal
+	 * @param progressIntervalMillis how often the launch finish progress is logged
+	 */
+	public SpoolingClient(@Nonnull ReportPortalClient delegate, @Nonnull Path directory, int segmentSize, long deadlineMillis,
+			long progressIntervalMillis) {
+		this.delegate = delegate;
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.deadlineMillis = deadlineMillis;
+		this.progressIntervalMillis = progressIntervalMillis;
+	}
+
+	/**
+	 * @return number of sent launch and item requests waiting for a response
+	 */
+	public int getInFlightItems() {
+		return inFlightItems.get();
+	}
+
+	/**
+	 * @return number of sent log requests waiting for a response
+	 */
+	public int getInFlightLogs() {
+		return inFlightLogs.get();
+	}
+
+	/**
+	 * @return number of requests ReportPortal has responded to
+	 */
+	public long getSent() {
+		return sent.get();
+	}
+
+	/**
+	 * @return number of requests written to the spool journal
+	 */
+	public long getSpooled() {
+		return spooled.get();
+	}
+
+	/**
+	 * @return the spool journal, null if nothing has been spooled
+	 */
+	@Nullable
+	public Journal getSpool() {
+		return spool == null ? null : spool.getJournal();
+	}
+
+	/**
+	 * Finishes the launch, waiting for ReportPortal no longer than the deadline. Pending requests are spooled to the disk
+	 * after that.
+	 *
+	 * @param launch launch to finish
+	 * @param rq     launch finish request
+	 */
+	public void finish(@Nonnull Launch launch, @Nonnull FinishExecutionRQ rq) {
+		long start = System.currentTimeMillis();
+		Thread finisher = new Thread(() -> launch.finish(rq), "rp-launch-finish");
+		finisher.setDaemon(true);
+		finisher.start();
+		try {
+			long lastSent = sent.get();
+			long lastTime = start;
+			while (finisher.isAlive()) {
+				long remaining = start + deadlineMillis - System.currentTimeMillis();
+				if (remaining <= 0) {
+					break;
+				}
+				finisher.join(Math.min(progressIntervalMillis, remaining));
+				long now = System.currentTimeMillis();
+				if (finisher.isAlive() && now < start + deadlineMillis) {
+					long currentSent = sent.get();
+					logProgress(currentSent - lastSent, now - lastTime);
+					lastSent = currentSent;
+					lastTime = now;
+				}
+			}
+			if (finisher.isAlive()) {
+				if (!spool()) {
+					LOGGER.error("Launch is not finished within {} ms deadline. The data may be lost.", deadlineMillis);
+					return;
+				}
+				finisher.join(SPOOL_TIMEOUT_MILLIS);
+				if (finisher.isAlive()) {
+					LOGGER.warn("Launch requests are still being spooled to {}", spool.getJournal().getDirectory());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		if (spool == null) {
+			LOGGER.info("Launch is finished in {} ms, {} requests are sent", System.currentTimeMillis() - start, sent.get());
+			return;
+		}
+		Journal journal = spool.getJournal();
+		journal.force();
+		LOGGER.warn(
+				"Launch is not finished within {} ms deadline, {} requests are sent, {} requests are spooled to {}. Upload them "
+						+ "with {}.",
+				deadlineMillis,
+				sent.get(),
+				spooled.get(),
+				journal.getDirectory(),
+				JournalReplayer.class.getName()
+		);
+	}
+
+	private void logProgress(long sentInInterval, long intervalMillis) {
+		double throughput = intervalMillis > 0 ? sentInInterval * 1000.0 / intervalMillis : 0;
+		LOGGER.info(
+				"Finishing launch: {} item and {} log requests are in flight, {} requests/s",
+				inFlightItems.get(),
+				inFlightLogs.get(),
+				String.format(Locale.ROOT, "%.1f", throughput)
+		);
+	}
+
+	/**
+	 * Switches the client to the spool journal and spools the requests which are waiting for a response.
+	 *
+	 * @return true if the spool journal is opened
+	 */
+	synchronized boolean spool() {
+		if (spool != null) {
+			return true;
+		}
+		String name = String.format(Locale.ROOT, "spool-%d-%d", ProcessHandle.current().pid(), System.currentTimeMillis());
+		Path spoolDirectory = directory.resolve(name);
+		try {
+			spool = new JournalClient(new Journal(spoolDirectory, segmentSize));
+		} catch (IOException e) {
+			LOGGER.error("Unable to open spool journal: {}", spoolDirectory, e);
+			return false;
+		}
+		pending.keySet().forEach(this::spool);
+		return true;
+	}
+
+	private void spool(long id) {
+		PendingCall<?> call = pending.remove(id);
+		if (call != null) {
+			call.done();
+			call.spool();
+		}
+	}
+
+	private <T> Maybe<T> call(boolean log, @Nonnull Supplier<Maybe<T>> send, @Nonnull Supplier<Maybe<T>> toSpool) {
+		return Maybe.defer(() -> {
+			if (spool != null) {
+				spooled.incrementAndGet();
+				return toSpool.get();
+			}
+			return Maybe.create(emitter -> {
+				long id = callIds.incrementAndGet();
+				PendingCall<T> call = new PendingCall<>(log, emitter, toSpool);
+				pending.put(id, call);
+				emitter.setCancellable(() -> {
+					if (pending.remove(id) != null) {
+						call.done();
+					}
+					call.dispose();
+				});
+				call.sent = send.get().subscribe(rs -> {
+					if (pending.remove(id) != null) {
+						call.done();
+						sent.incrementAndGet();
+						emitter.onSuccess(rs);
+					}
+				}, e -> {
+					if (pending.remove(id) != null) {
+						call.done();
+						emitter.tryOnError(e);
+					}
+				}, () -> {
+					if (pending.remove(id) != null) {
+						call.done();
+						sent.incrementAndGet();
+						emitter.onComplete();
+					}
+				});
+				if (spool != null) {
+					// The client was switched to the spool while the call was being registered
+					spool(id);
+				}
+			});
+		});
+	}
+
+	@Override
+	public Maybe<ApiInfo> getApiInfo() {
+		return delegate.getApiInfo();
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		JournalClient.uuid(rq);
+		return call(false, () -> delegate.startLaunch(rq), () -> spool.startLaunch(rq));
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		return delegate.mergeLaunches(rq);
+	}
+
+	@Override
+	public Maybe<LaunchResource> updateLaunch(String launch, UpdateLaunchRQ rq) {
+		return delegate.updateLaunch(launch, rq);
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launch, FinishExecutionRQ rq) {
+		return call(false, () -> delegate.finishLaunch(launch, rq), () -> spool.finishLaunch(launch, rq));
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		JournalClient.uuid(rq);
+		return call(false, () -> delegate.startTestItem(rq), () -> spool.startTestItem(rq));
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+		JournalClient.uuid(rq);
+		return call(false, () -> delegate.startTestItem(parent, rq), () -> spool.startTestItem(parent, rq));
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String item, FinishTestItemRQ rq) {
+		return call(false, () -> delegate.finishTestItem(item, rq), () -> spool.finishTestItem(item, rq));
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		return call(true, () -> delegate.log(rq), () -> spool.log(rq));
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> parts) {
+		return call(true, () -> delegate.log(parts), () -> spool.log(parts));
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String launchUuid) {
+		return delegate.getLaunchByUuid(launchUuid);
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String itemUuid) {
+		return delegate.getItemByUuid(itemUuid);
+	}
+
+	@Override
+	public Maybe<ProjectSettingsResource> getProjectSettings() {
+		return delegate.getProjectSettings();
+	}
+
+	/**
+	 * Request which is sent and waits for a response.
+	 */
+	private class PendingCall<T> {
+		private final boolean log;
+		private final MaybeEmitter<T> emitter;
+		private final Supplier<Maybe<T>> toSpool;
+		private volatile Disposable sent;
+
+		private PendingCall(boolean log, @Nonnull MaybeEmitter<T> emitter, @Nonnull Supplier<Maybe<T>> toSpool) {
+			this.log = log;
+			this.emitter = emitter;
+			this.toSpool = toSpool;
+			(log ? inFlightLogs : inFlightItems).incrementAndGet();
+		}
+
+		private void done() {
+			(log ? inFlightLogs : inFlightItems).decrementAndGet();
+		}
+
+		private void dispose() {
+			Disposable current = sent;
+			if (current != null) {
+				current.dispose();
+			}
+		}
+
+		private void spool() {
+			dispose();
+			spooled.incrementAndGet();
+			toSpool.get().subscribe(emitter::onSuccess, emitter::tryOnError, emitter::onComplete);
+		}
+	}
+}
@@ -17,14 +17,17 @@
 package com.epam.reportportal.testng.util;
 
 import com.epam.reportportal.service.tree.TestItemTree;
+import com.epam.reportportal.testng.TestNGService;
+import com.epam.reportportal.testng.util.internal.ItemTreeIndex;
+import com.epam.reportportal.testng.util.internal.TestResultSnapshot;
 import org.testng.IClass;
 import org.testng.ISuite;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.xml.XmlClass;
 
-import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Optional.ofNullable;
 
@@ -32,6 +35,18 @@ import static java.util.Optional.ofNullable;
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 public class ItemTreeUtils {
+	private static final String FINGERPRINT_ATTRIBUTE = "rp_item_fingerprint";
+	private static final AtomicInteger FINGERPRINT_SEQUENCE = new AtomicInteger();
+
+	private static final class Fingerprint {
+		private final ITestResult owner;
+		private final int value;
+
+		private Fingerprint(ITestResult owner, int value) {
+			this.owner = owner;
+			this.value = value;
+		}
+	}
 
 	private ItemTreeUtils() {
 		//static only
@@ -53,8 +68,28 @@ public class ItemTreeUtils {
 		return TestItemTree.ItemTreeKey.of(testClass.getName());
 	}
 
+	/**
+	 * Creates a key of a test method invocation. The key's hash is a fingerprint of the invocation: a sequential number
+	 * which is assigned on the first call and cached in the test result, so it's unique for every invocation, data
+	 * provider row and retry attempt and does not depend on parameter values.
+	 *
+	 * @param testResult TestNG's test result
+	 * @return the key
+	 */
 	public static TestItemTree.ItemTreeKey createKey(ITestResult testResult) {
-		return TestItemTree.ItemTreeKey.of(testResult.getName(), Arrays.hashCode(testResult.getParameters()));
+		return TestItemTree.ItemTreeKey.of(testResult.getName(), getFingerprint(testResult));
+	}
+
+	private static int getFingerprint(ITestResult testResult) {
+		ITestResult owner = TestResultSnapshot.unwrap(testResult);
+		Object attribute = testResult.getAttribute(FINGERPRINT_ATTRIBUTE);
+		// TestNG copies attributes from one result to another, E.G. on retries, so check the fingerprint's owner
+		if (attribute instanceof Fingerprint && ((Fingerprint) attribute).owner == owner) {
+			return ((Fingerprint) attribute).value;
+		}
+		Fingerprint fingerprint = new Fingerprint(owner, FINGERPRINT_SEQUENCE.incrementAndGet());
+		testResult.setAttribute(FINGERPRINT_ATTRIBUTE, fingerprint);
+		return fingerprint.value;
 	}
 
 	public static Optional<TestItemTree.TestItemLeaf> retrieveLeaf(ISuite suite, TestItemTree testItemTree) {
@@ -66,7 +101,22 @@ public class ItemTreeUtils {
 		return suiteLeaf.map(leaf -> leaf.getChildItems().get(createKey(testContext)));
 	}
 
+	/**
+	 * Retrieves a test method leaf of the given test result. Leaves of {@link TestNGService#ITEM_TREE} are looked up in
+	 * {@link TestNGService#ITEM_INDEX} without walking the tree.
+	 *
+	 * @param testResult   TestNG's test result
+	 * @param testItemTree the tree to look in
+	 * @return the leaf or empty Optional if nothing found
+	 */
 	public static Optional<TestItemTree.TestItemLeaf> retrieveLeaf(ITestResult testResult, TestItemTree testItemTree) {
+		ItemTreeIndex index = TestNGService.ITEM_INDEX;
+		if (index.getTree() == testItemTree) {
+			TestItemTree.TestItemLeaf leaf = index.get(testResult);
+			if (leaf != null) {
+				return Optional.of(leaf);
+			}
+		}
 		Optional<TestItemTree.TestItemLeaf> testClassLeaf = retrieveLeaf(
 				testResult.getTestContext(),
 				testResult.getTestClass(),
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A thread-safe map with a strict size limit, to act like a cache of item statuses.
+ * <p>
+ * The map is split into lock-striped segments, every segment is an insertion-ordered hash map with its own share of
+ * the size limit. Shares sum up exactly to the limit, so the map never holds more entries than the limit. When a
+ * segment is full, putting a new key into it evicts the oldest entry of the segment. Putting an existing key only
+ * replaces its value and does not change the order.
+ * <p>
+ * Eviction is per segment, not in the global insertion order: an entry is evicted when its segment is full, while the
+ * map may still hold less entries than the limit and older entries of other segments. So the limit bounds the map
+ * size, but the number of entries kept before the first eviction is approximate and depends on the key distribution.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class BoundedConcurrentMap<K, V> {
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 32;
+	private static final int MINIMAL_SEGMENT_SIZE = 16;
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private final int maximumSize;
+
+		private Segment(int maximumSize) {
+			super(Math.min(maximumSize, MINIMAL_SEGMENT_SIZE));
+			this.maximumSize = maximumSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > maximumSize;
+		}
+	}
+
+	private final Segment<K, V>[] segments;
+	private final int mask;
+
+	/**
+	 * @param maximumSize the maximum number of entries in the map
+	 */
+	public BoundedConcurrentMap(int maximumSize) {
+		this(maximumSize, DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * @param maximumSize      the maximum number of entries in the map
+	 * @param concurrencyLevel the estimated number of concurrently updating threads, rounded down to a power of two
+	 */
+	@SuppressWarnings("unchecked")
+	public BoundedConcurrentMap(int maximumSize, int concurrencyLevel) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Maximum map size should be positive: " + maximumSize);
+		}
+		int segmentNumber = Integer.highestOneBit(Math.max(1, Math.min(concurrencyLevel, maximumSize / MINIMAL_SEGMENT_SIZE)));
+		segments = (Segment<K, V>[]) new Segment<?, ?>[segmentNumber];
+		mask = segmentNumber - 1;
+		int segmentSize = maximumSize / segmentNumber;
+		int remainder = maximumSize % segmentNumber;
+		for (int i = 0; i < segmentNumber; i++) {
+			segments[i] = new Segment<>(i < remainder ? segmentSize + 1 : segmentSize);
+		}
+	}
+
+	@Nonnull
+	private Segment<K, V> segmentFor(@Nonnull Object key) {
+		int h = key.hashCode();
+		return segments[(h ^ (h >>> 16)) & mask];
+	}
+
+	/**
+	 * Associates the value with the key, evicting the oldest entry of the key's segment if the segment is full.
+	 *
+	 * @param key   key with which the specified value is to be associated
+	 * @param value value to be associated with the specified key
+	 * @return the previous value associated with the key, or null if there was no mapping for the key
+	 */
+	@Nullable
+	public V put(@Nonnull K key, @Nonnull V value) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.put(key, value);
+		}
+	}
+
+	/**
+	 * Returns the value associated with the key, computing and associating it with the key if there is no value yet.
+	 * The mapping function is called under the key's segment lock, so it should be short.
+	 *
+	 * @param key             key with which the value is to be associated
+	 * @param mappingFunction the function to compute a value
+	 * @return the current (existing or computed) value associated with the key
+	 */
+	@Nonnull
+	public V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> mappingFunction) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.computeIfAbsent(key, mappingFunction);
+		}
+	}
+
+	@Nullable
+	public V get(@Nonnull Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.get(key);
+		}
+	}
+
+	public boolean containsKey(@Nonnull Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.containsKey(key);
+		}
+	}
+
+	@Nullable
+	public V remove(@Nonnull Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.remove(key);
+		}
+	}
+
+	/**
+	 * @return the number of entries in the map, not an atomic snapshot in case of concurrent updates
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * An item which is started only when its result is known. Until then logs and nested steps of the test code are
+ * reported to a placeholder ID: they are sent once the item is started, or dropped along with the item.
+ */
+public class DeferredItem {
+	private final MaybeSubject<String> itemId = MaybeSubject.create();
+
+	private volatile Maybe<String> parentId;
+	private volatile StartTestItemRQ request;
+	private volatile boolean bound = true;
+	private volatile boolean failed;
+
+	/**
+	 * @return placeholder ID of the item, it emits the real ID once the item is started
+	 */
+	@Nonnull
+	public Maybe<String> getItemId() {
+		return itemId;
+	}
+
+	/**
+	 * Saves the request to start the item with.
+	 *
+	 * @param parentId ID of the parent item
+	 * @param request  start request
+	 */
+	public void setRequest(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ request) {
+		this.parentId = parentId;
+		this.request = request;
+	}
+
+	@Nullable
+	public Maybe<String> getParentId() {
+		return parentId;
+	}
+
+	@Nullable
+	public StartTestItemRQ getRequest() {
+		return request;
+	}
+
+	/**
+	 * Marks the placeholder ID as unbound from its thread.
+	 *
+	 * @return true on the first call only
+	 */
+	public boolean unbind() {
+		if (!bound) {
+			return false;
+		}
+		bound = false;
+		return true;
+	}
+
+	/**
+	 * Marks the item as failed, E.G. by a failed nested step.
+	 */
+	public void fail() {
+		failed = true;
+	}
+
+	public boolean isFailed() {
+		return failed;
+	}
+
+	/**
+	 * Replays the ID of the started item to the placeholder's subscribers.
+	 *
+	 * @param startedItemId ID of the started item
+	 */
+	public void resolve(@Nonnull Maybe<String> startedItemId) {
+		//noinspection ResultOfMethodCallIgnored
+		startedItemId.subscribe(itemId::onSuccess, itemId::onError, itemId::onComplete);
+	}
+
+	/**
+	 * Completes the placeholder ID without a value: all logs and nested steps waiting for it are dropped.
+	 */
+	public void drop() {
+		itemId.onComplete();
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.testng.AsyncOverflowPolicy;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single-writer event pipeline: any thread publishes events, one dedicated thread executes them in the order of
+ * publishing. An event is executed after every event which publishing has completed before its publishing has started,
+ * E.G. earlier events of the same thread, or events of another thread which has handed the result over. Events which are
+ * published concurrently are executed in any order.
+ * <p>
+ * Events are passed through a bounded {@link EventRingBuffer}, what publishers do when it's full is defined by
+ * {@link AsyncOverflowPolicy}. Priority events skip the buffer and are executed before any event which waits in it, so
+ * publishers should only prioritize events which do not depend on waiting ones.
+ */
+public class EventPipeline {
+	private static final Logger LOGGER = LoggerFactory.getLogger(EventPipeline.class);
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private final EventRingBuffer<Runnable> buffer;
+	private final Queue<Runnable> overflow = new ConcurrentLinkedQueue<>();
+	private final Object spillLock = new Object();
+	private final Queue<Runnable> priority = new ConcurrentLinkedQueue<>();
+	private final AsyncOverflowPolicy overflowPolicy;
+	private final AtomicLong droppedEvents = new AtomicLong();
+	private final Thread consumer;
+
+	private volatile boolean running = true;
+	private volatile boolean idle;
+	// Set by a publisher which spills an event, cleared by the consumer once the overflow queue is drained
+	private volatile boolean spilling;
+
+	/**
+	 * Creates the pipeline and starts its consumer thread.
+	 *
+	 * @param name           consumer thread name
+	 * @param capacity       buffer capacity
+	 * @param overflowPolicy what to do if the buffer is full
+	 */
+	public EventPipeline(@Nonnull String name, int capacity, @Nonnull AsyncOverflowPolicy overflowPolicy) {
+		buffer = new EventRingBuffer<>(capacity);
+		this.overflowPolicy = overflowPolicy;
+		consumer = new Thread(this::consume, name);
+		consumer.setDaemon(true);
+		consumer.start();
+	}
+
+	/**
+	 * Publishes an event to execute on the pipeline thread.
+	 *
+	 * @param event  event to execute
+	 * @param detail true if the event can be dropped with {@link AsyncOverflowPolicy#DROP_DETAIL} policy
+	 */
+	public void publish(@Nonnull Runnable event, boolean detail) {
+		if (!running) {
+			// Nothing is going to read the buffer any more
+			event.run();
+			return;
+		}
+		if (AsyncOverflowPolicy.SPILL == overflowPolicy) {
+			offerOrSpill(event);
+		} else {
+			while (!buffer.offer(event)) {
+				if (detail && AsyncOverflowPolicy.DROP_DETAIL == overflowPolicy) {
+					droppedEvents.incrementAndGet();
+					return;
+				}
+				LockSupport.unpark(consumer);
+				LockSupport.parkNanos(FULL_PARK_NANOS);
+			}
+		}
+		if (idle) {
+			LockSupport.unpark(consumer);
+		}
+	}
+
+	private void offerOrSpill(@Nonnull Runnable event) {
+		if (!spilling && buffer.offer(event)) {
+			return;
+		}
+		synchronized (spillLock) {
+			// Once an event is spilled, next events follow it until the overflow queue is drained, to keep the order
+			if (!spilling && buffer.offer(event)) {
+				return;
+			}
+			spilling = true;
+			overflow.add(event);
+		}
+	}
+
+	private void stopSpilling() {
+		synchronized (spillLock) {
+			if (overflow.isEmpty()) {
+				spilling = false;
+			}
+		}
+	}
+
+	/**
+	 * Publishes an event to execute on the pipeline thread before the events which wait in the buffer. Priority events
+	 * are executed in the order of publishing and are never dropped.
+	 *
+	 * @param event event to execute
+	 */
+	public void publishPriority(@Nonnull Runnable event) {
+		if (!running) {
+			event.run();
+			return;
+		}
+		priority.add(event);
+		if (idle) {
+			LockSupport.unpark(consumer);
+		}
+	}
+
+	private boolean isEmpty() {
+		return priority.isEmpty() && buffer.isEmpty() && overflow.isEmpty();
+	}
+
+	private void consume() {
+		while (true) {
+			Runnable event = priority.poll();
+			if (event == null) {
+				event = buffer.poll();
+			}
+			if (event == null && spilling) {
+				event = overflow.poll();
+				if (event == null) {
+					stopSpilling();
+					continue;
+				}
+			}
+			if (event != null) {
+				try {
+					event.run();
+				} catch (RuntimeException e) {
+					LOGGER.error("Unable to report a TestNG event", e);
+				}
+				continue;
+			}
+			if (!running && isEmpty()) {
+				return;
+			}
+			idle = true;
+			if (isEmpty()) {
+				// A publisher unparks the thread, the timeout only covers the case when it sees the flag too early
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+			}
+			idle = false;
+		}
+	}
+
+	/**
+	 * Executes all the published events and stops the pipeline thread. Events published after this call are executed on
+	 * the publishing thread.
+	 */
+	public void close() {
+		running = false;
+		LockSupport.unpark(consumer);
+		try {
+			consumer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		long dropped = droppedEvents.get();
+		if (dropped > 0) {
+			LOGGER.warn("{} detail events were dropped since reporting buffer was full", dropped);
+		}
+	}
+
+	/**
+	 * @return number of detail events dropped due to the full buffer
+	 */
+	public long getDroppedEvents() {
+		return droppedEvents.get();
+	}
+}
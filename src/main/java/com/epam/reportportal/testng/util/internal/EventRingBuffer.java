@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free FIFO queue on a preallocated ring of slots, to pass events from test threads to the reporting
+ * thread without locks and without allocations per event.
+ * <p>
+ * Every slot has a sequence number which tells if the slot is free for a producer at a given position or holds an
+ * element for a consumer at a given position, so producers and consumers only contend on their own position counters.
+ *
+ * @param <T> the type of elements held in this buffer
+ */
+public class EventRingBuffer<T> {
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private final int mask;
+	private final AtomicReferenceArray<T> elements;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * @param capacity minimum number of elements the buffer can hold, rounded up to a power of two
+	 */
+	public EventRingBuffer(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Buffer capacity should be positive: " + capacity);
+		}
+		int size = capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+		mask = size - 1;
+		elements = new AtomicReferenceArray<>(size);
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Adds the element to the tail of the buffer if there is a free slot.
+	 *
+	 * @param element element to add
+	 * @return true if the element was added, false if the buffer is full
+	 */
+	public boolean offer(@Nonnull T element) {
+		long position = tail.get();
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					elements.lazySet(index, element);
+					// Publishes the element to the consumer
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (difference < 0) {
+				// The slot still holds an element of the previous lap
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Removes the element from the head of the buffer.
+	 *
+	 * @return the head element or null if the buffer is empty
+	 */
+	@Nullable
+	public T poll() {
+		long position = head.get();
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					T element = elements.get(index);
+					elements.lazySet(index, null);
+					// Frees the slot for the producer of the next lap
+					sequences.set(index, position + mask + 1);
+					return element;
+				}
+				position = head.get();
+			} else if (difference < 0) {
+				return null;
+			} else {
+				position = head.get();
+			}
+		}
+	}
+
+	/**
+	 * @return true if the buffer holds no elements, the value is approximate while the buffer is used concurrently
+	 */
+	public boolean isEmpty() {
+		return head.get() >= tail.get();
+	}
+
+	/**
+	 * @return number of elements in the buffer, the value is approximate while the buffer is used concurrently
+	 */
+	public int size() {
+		return (int) Math.max(0, tail.get() - head.get());
+	}
+
+	/**
+	 * @return maximum number of elements the buffer can hold
+	 */
+	public int capacity() {
+		return mask + 1;
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.reportportal.utils.ParameterUtils;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.testng.annotations.Factory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parameter metadata of a constructor marked with {@link Factory} annotation. Constructors are resolved once per test
+ * class, so matching factory parameters of a test instance is just a type check of the values.
+ * <p>
+ * Parameter types are kept by name: a value attached to a class which references classes of the same class loader keeps
+ * the class loader from being unloaded (JDK-8136353).
+ */
+public final class FactoryConstructor {
+
+	private static final ClassValue<FactoryConstructor[]> FACTORY_CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected FactoryConstructor[] computeValue(Class<?> type) {
+			return Arrays.stream(type.getConstructors())
+					.filter(c -> c.isAnnotationPresent(Factory.class))
+					.map(FactoryConstructor::new)
+					.toArray(FactoryConstructor[]::new);
+		}
+	};
+
+	private final String[] types;
+	private final String[] keys;
+
+	private FactoryConstructor(@Nonnull Constructor<?> constructor) {
+		Parameter[] parameters = constructor.getParameters();
+		types = new String[parameters.length];
+		keys = new String[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			Parameter parameter = parameters[i];
+			types[i] = ParameterUtils.toBoxedType(parameter.getType()).getName();
+			ParameterKey key = parameter.getAnnotation(ParameterKey.class);
+			keys[i] = key == null ? parameter.getType().getName() : key.value();
+		}
+	}
+
+	/**
+	 * Finds a factory constructor of the given class which suites the given factory parameters.
+	 *
+	 * @param type   test class
+	 * @param values factory parameters of a test instance
+	 * @return the constructor metadata or null if nothing found
+	 */
+	@Nullable
+	public static FactoryConstructor find(@Nonnull Class<?> type, @Nonnull Object[] values) {
+		for (FactoryConstructor constructor : FACTORY_CONSTRUCTORS.get(type)) {
+			if (constructor.matches(values)) {
+				return constructor;
+			}
+		}
+		return null;
+	}
+
+	private boolean matches(@Nonnull Object[] values) {
+		if (types.length != values.length) {
+			return false;
+		}
+		for (int i = 0; i < values.length; i++) {
+			Object value = values[i];
+			// If value is null we can't get class, assume it suites.
+			if (value != null && !types[i].equals(value.getClass().getName())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Converts factory parameters into ReportPortal's parameters, the same way as
+	 * {@link ParameterUtils#getParameters(java.lang.reflect.Executable, List)} does.
+	 *
+	 * @param values factory parameters of a test instance
+	 * @return Step Parameters being sent to ReportPortal
+	 */
+	@Nonnull
+	public List<ParameterResource> getParameters(@Nonnull Object[] values) {
+		List<ParameterResource> result = new ArrayList<>(keys.length);
+		for (int i = 0; i < keys.length; i++) {
+			ParameterResource parameter = new ParameterResource();
+			parameter.setKey(keys[i]);
+			parameter.setValue(i < values.length && values[i] != null ? String.valueOf(values[i]) : ParameterUtils.NULL_VALUE);
+			result.add(parameter);
+		}
+		return result;
+	}
+}
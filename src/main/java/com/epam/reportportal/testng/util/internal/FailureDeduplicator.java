@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Detects repeating failures across test items by their signature: exception type and top stack trace frames.
+ * <p>
+ * The first failure with a signature is reported as is, every next one gets a short message which references the first
+ * failed item and counts occurrences, so a broken shared dependency does not produce thousands of identical stack
+ * traces. A decision is made once per test result and cached in the result, so the item description and the error log
+ * always agree.
+ */
+public class FailureDeduplicator {
+	public static final String DUPLICATE_MESSAGE_FORMAT = "Same failure as in %s, occurrence #%d:\n%s";
+
+	private static final String OCCURRENCE_ATTRIBUTE = "rp_failure_occurrence";
+
+	private static final class Signature {
+		private final Class<?> type;
+		private final StackTraceElement[] frames;
+		private final int hash;
+
+		private Signature(@Nonnull Throwable throwable, int frameNumber) {
+			type = throwable.getClass();
+			StackTraceElement[] stackTrace = throwable.getStackTrace();
+			frames = Arrays.copyOf(stackTrace, Math.min(Math.max(frameNumber, 0), stackTrace.length));
+			hash = 31 * type.hashCode() + Arrays.hashCode(frames);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Signature)) {
+				return false;
+			}
+			Signature that = (Signature) o;
+			return hash == that.hash && type == that.type && Arrays.equals(frames, that.frames);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class FirstOccurrence {
+		private final String reference;
+		private final AtomicInteger counter = new AtomicInteger();
+
+		private FirstOccurrence(@Nonnull String reference) {
+			this.reference = reference;
+		}
+	}
+
+	private static final class Occurrence {
+		private final ITestResult owner;
+		private final Throwable throwable;
+		private final String message;
+
+		private Occurrence(@Nonnull ITestResult owner, @Nonnull Throwable throwable, @Nullable String message) {
+			this.owner = owner;
+			this.throwable = throwable;
+			this.message = message;
+		}
+	}
+
+	private final int frameNumber;
+	private final BoundedConcurrentMap<Signature, FirstOccurrence> occurrences;
+
+	/**
+	 * @param frameNumber number of top stack trace frames in a failure signature
+	 * @param maximumSize maximum number of remembered signatures
+	 */
+	public FailureDeduplicator(int frameNumber, int maximumSize) {
+		this.frameNumber = frameNumber;
+		occurrences = new BoundedConcurrentMap<>(maximumSize);
+	}
+
+	/**
+	 * Registers the result's failure and returns a short message if the same failure was already reported.
+	 *
+	 * @param testResult TestNG's test result
+	 * @param reference  human-readable reference of the result's item, used in messages of next occurrences, it's called
+	 *                   only if the result's failure is the first one with its signature
+	 * @return the short message or null if the failure should be reported as is
+	 */
+	@Nullable
+	public String getDuplicateMessage(@Nonnull ITestResult testResult, @Nonnull Supplier<String> reference) {
+		Throwable throwable = testResult.getThrowable();
+		if (throwable == null) {
+			return null;
+		}
+		ITestResult owner = TestResultSnapshot.unwrap(testResult);
+		Object attribute = testResult.getAttribute(OCCURRENCE_ATTRIBUTE);
+		if (attribute instanceof Occurrence && ((Occurrence) attribute).owner == owner && ((Occurrence) attribute).throwable == throwable) {
+			return ((Occurrence) attribute).message;
+		}
+		FirstOccurrence first = occurrences.computeIfAbsent(new Signature(throwable, frameNumber), k -> new FirstOccurrence(reference.get()));
+		int number = first.counter.incrementAndGet();
+		String message = number > 1 ? String.format(DUPLICATE_MESSAGE_FORMAT, first.reference, number, throwable) : null;
+		testResult.setAttribute(OCCURRENCE_ATTRIBUTE, new Occurrence(owner, throwable, message));
+		return message;
+	}
+
+	/**
+	 * Removes the cached decision from the result, E.G. once the result is reported.
+	 *
+	 * @param testResult TestNG's test result
+	 */
+	public static void release(@Nonnull ITestResult testResult) {
+		testResult.removeAttribute(OCCURRENCE_ATTRIBUTE);
+	}
+}
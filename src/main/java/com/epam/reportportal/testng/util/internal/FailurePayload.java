@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.epam.reportportal.utils.formatting.ExceptionUtils.LINE_DELIMITER;
+import static com.epam.reportportal.utils.formatting.ExceptionUtils.SKIP_TRACE_MARKER;
+
+/**
+ * Formatted stack trace of a test result's throwable, shared by the item description and the error log.
+ * <p>
+ * The trace is formatted once per result and cached in the result. The tail of the throwable's own frames which it
+ * shares with the test runner's stack is collapsed, frames of the causes are kept as is. The runner's stack frames are
+ * captured by the caller, see {@link #captureRunnerFrames()}, and may be reused for failures of the same test run.
+ */
+public final class FailurePayload {
+	private static final String PAYLOAD_ATTRIBUTE = "rp_failure_payload";
+
+	private static final String FRAME_PREFIX = "\tat ";
+
+	private final Throwable throwable;
+	private final String stackTrace;
+
+	private FailurePayload(@Nonnull Throwable throwable, @Nonnull String stackTrace) {
+		this.throwable = throwable;
+		this.stackTrace = stackTrace;
+	}
+
+	/**
+	 * Returns the failure payload of the given result, formatting and caching it on the first call.
+	 *
+	 * @param testResult   TestNG's test result
+	 * @param limit        maximum length of the stack trace, non-positive values mean no limit
+	 * @param runnerFrames stack frames of the current thread's test runner
+	 * @return the payload or null if the result has no throwable
+	 */
+	@Nullable
+	public static FailurePayload of(@Nonnull ITestResult testResult, int limit, @Nonnull Supplier<List<String>> runnerFrames) {
+		Throwable throwable = testResult.getThrowable();
+		if (throwable == null) {
+			return null;
+		}
+		Object attribute = testResult.getAttribute(PAYLOAD_ATTRIBUTE);
+		// The throwable check also protects from payloads copied from other results with TestNG attributes
+		if (attribute instanceof FailurePayload && ((FailurePayload) attribute).throwable == throwable) {
+			return (FailurePayload) attribute;
+		}
+		// Snapshots are formatted on the reporting thread, but the throwable was thrown on the test thread
+		List<String> frames = testResult instanceof TestResultSnapshot ? ((TestResultSnapshot) testResult).getRunnerFrames() : null;
+		String stackTrace = formatStackTrace(throwable, frames == null ? runnerFrames.get() : frames);
+		FailurePayload payload = new FailurePayload(throwable, truncate(stackTrace, limit));
+		testResult.setAttribute(PAYLOAD_ATTRIBUTE, payload);
+		return payload;
+	}
+
+	/**
+	 * Removes the cached payload from the result, E.G. once the result is reported.
+	 *
+	 * @param testResult TestNG's test result
+	 */
+	public static void release(@Nonnull ITestResult testResult) {
+		testResult.removeAttribute(PAYLOAD_ATTRIBUTE);
+	}
+
+	/**
+	 * Captures stack frames of the current thread's test runner. The frames are compared from the bottom of the stack, so
+	 * they can be reused for the thread's failures while the thread runs the same tests.
+	 *
+	 * @return stack frames of the current thread
+	 */
+	@Nonnull
+	public static List<String> captureRunnerFrames() {
+		return Collections.unmodifiableList(Arrays.asList(ExceptionUtils.getStackFrames(new Throwable())));
+	}
+
+	@Nonnull
+	static String formatStackTrace(@Nonnull Throwable throwable, @Nonnull List<String> runnerFrames) {
+		String[] frames = ExceptionUtils.getStackFrames(throwable);
+		// The throwable's own frames go after its message lines and before its causes and suppressed throwables
+		int start = 0;
+		while (start < frames.length && !frames[start].startsWith(FRAME_PREFIX)) {
+			start++;
+		}
+		int end = start;
+		while (end < frames.length && frames[end].startsWith(FRAME_PREFIX)) {
+			end++;
+		}
+		int commonStart = end;
+		for (int i = runnerFrames.size() - 1; commonStart > start && i >= 0; i--) {
+			if (!frames[commonStart - 1].equals(runnerFrames.get(i))) {
+				break;
+			}
+			commonStart--;
+		}
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < frames.length; i++) {
+			if (i == commonStart && commonStart < end) {
+				sb.append(SKIP_TRACE_MARKER);
+				i = end - 1;
+				continue;
+			}
+			sb.append(frames[i]).append(LINE_DELIMITER);
+		}
+		return sb.toString();
+	}
+
+	@Nonnull
+	static String truncate(@Nonnull String stackTrace, int limit) {
+		if (limit <= 0 || stackTrace.length() <= limit) {
+			return stackTrace;
+		}
+		return stackTrace.substring(0, limit) + LINE_DELIMITER + SKIP_TRACE_MARKER;
+	}
+
+	@Nonnull
+	public Throwable getThrowable() {
+		return throwable;
+	}
+
+	@Nonnull
+	public String getStackTrace() {
+		return stackTrace;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.tuple.Pair;
+import org.testng.ITestContext;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Finish requests of a test instance's before methods, which are held till the outcome of the instance's test method is
+ * known. Held requests are the only copy of the finishes, so they are kept with the test context which finishes them if
+ * no test method of the instance does.
+ */
+public class HeldBeforeMethods {
+	private final ITestContext testContext;
+	private final Queue<Pair<Maybe<String>, FinishTestItemRQ>> items = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * @param testContext test context of the before methods
+	 */
+	public HeldBeforeMethods(@Nullable ITestContext testContext) {
+		this.testContext = testContext;
+	}
+
+	@Nullable
+	public ITestContext getTestContext() {
+		return testContext;
+	}
+
+	/**
+	 * @return item IDs with their finish requests, in the order of holding
+	 */
+	@Nonnull
+	public Queue<Pair<Maybe<String>, FinishTestItemRQ>> getItems() {
+		return items;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.service.tree.TestItemTree;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.testng.ITestResult;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A flat index of test method leaves of a {@link TestItemTree}.
+ * <p>
+ * A TestNG test result is bound to exactly one suite, test, class, method and parameter set, so the result object
+ * itself is used as a composite key of a leaf. TestNG results do not override {@link Object#equals(Object)} and
+ * {@link Object#hashCode()}, so a lookup is a single identity hash probe which does not allocate anything. The index
+ * does not replace the tree, leaves are shared by both, so the tree view stays the same for
+ * {@link com.epam.reportportal.service.tree.ItemTreeReporter} users.
+ */
+public class ItemTreeIndex {
+
+	private final TestItemTree tree;
+	private final Map<ITestResult, TestItemTree.TestItemLeaf> leaves = new ConcurrentHashMap<>();
+
+	/**
+	 * @param tree the tree which leaves are indexed
+	 */
+	public ItemTreeIndex(@Nonnull TestItemTree tree) {
+		this.tree = tree;
+	}
+
+	/**
+	 * @return the tree which leaves are indexed
+	 */
+	@Nonnull
+	public TestItemTree getTree() {
+		return tree;
+	}
+
+	public void put(@Nonnull ITestResult testResult, @Nonnull TestItemTree.TestItemLeaf leaf) {
+		leaves.put(testResult, leaf);
+	}
+
+	@Nullable
+	public TestItemTree.TestItemLeaf get(@Nonnull ITestResult testResult) {
+		return leaves.get(testResult);
+	}
+
+	@Nullable
+	public TestItemTree.TestItemLeaf remove(@Nonnull ITestResult testResult) {
+		return leaves.remove(testResult);
+	}
+
+	/**
+	 * @return the number of indexed leaves
+	 */
+	public int size() {
+		return leaves.size();
+	}
+
+	public void clear() {
+		leaves.clear();
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.annotations.*;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.testng.TestMethodType;
+import com.epam.reportportal.testng.annotations.Rollup;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+import org.testng.internal.ConstructorOrMethod;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable set of TestNG method's data which does not change from one invocation to another: its type, code reference
+ * and annotations. Descriptors are resolved once per method of a test class and shared by all the method's invocations,
+ * data provider rows and factory instances.
+ * <p>
+ * Descriptors are attached to the test class and keyed by method signature, they hold no reflected methods: a value
+ * which references its own class keeps the class loader of the class from being unloaded (JDK-8136353). The signature
+ * lookup is done once per TestNG method instance, further lookups go through a weak identity map of the instances.
+ */
+public final class MethodDescriptor {
+
+	private static final ClassValue<Map<String, MethodDescriptor>> DESCRIPTORS = new ClassValue<>() {
+		@Override
+		protected Map<String, MethodDescriptor> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final WeakIdentityConcurrentMap<ITestNGMethod, MethodDescriptor> METHOD_DESCRIPTORS = new WeakIdentityConcurrentMap<>();
+
+	private final TestMethodType type;
+	private final String codeRef;
+	private final DisplayName displayName;
+	private final Description description;
+	private final Attributes attributes;
+	private final TestCaseId testCaseId;
+	private final Issue issue;
+	private final Issues issues;
+	private final Test test;
+	private final Parameters parameters;
+	private final Rollup rollup;
+
+	private MethodDescriptor(@Nonnull ITestNGMethod testMethod, @Nullable Method method) {
+		type = TestMethodType.getStepType(testMethod);
+		codeRef = testMethod.getQualifiedName();
+		displayName = getAnnotation(method, DisplayName.class);
+		description = getAnnotation(method, Description.class);
+		attributes = getAnnotation(method, Attributes.class);
+		testCaseId = getAnnotation(method, TestCaseId.class);
+		issue = getAnnotation(method, Issue.class);
+		issues = getAnnotation(method, Issues.class);
+		test = getAnnotation(method, Test.class);
+		parameters = getAnnotation(method, Parameters.class);
+		rollup = getAnnotation(method, Rollup.class);
+	}
+
+	@Nullable
+	private static <T extends Annotation> T getAnnotation(@Nullable Method method, @Nonnull Class<T> annotation) {
+		return method == null ? null : method.getAnnotation(annotation);
+	}
+
+	/**
+	 * Returns a descriptor of the given TestNG method, resolving and caching it on the first call.
+	 *
+	 * @param testMethod TestNG method
+	 * @return method descriptor
+	 */
+	@Nonnull
+	public static MethodDescriptor of(@Nonnull ITestNGMethod testMethod) {
+		return METHOD_DESCRIPTORS.computeIfAbsent(testMethod, MethodDescriptor::resolve);
+	}
+
+	@Nonnull
+	private static MethodDescriptor resolve(@Nonnull ITestNGMethod testMethod) {
+		Class<?> testClass = testMethod.getRealClass();
+		ConstructorOrMethod constructorOrMethod = testMethod.getConstructorOrMethod();
+		Method method = constructorOrMethod == null ? null : constructorOrMethod.getMethod();
+		if (testClass == null || method == null) {
+			// Nothing to use as a cache key, E.G. custom ITestNGMethod implementations
+			return new MethodDescriptor(testMethod, method);
+		}
+		Map<String, MethodDescriptor> classDescriptors = DESCRIPTORS.get(testClass);
+		String signature = getSignature(method);
+		MethodDescriptor descriptor = classDescriptors.get(signature);
+		return descriptor != null ? descriptor : classDescriptors.computeIfAbsent(signature, s -> new MethodDescriptor(testMethod, method));
+	}
+
+	@Nonnull
+	private static String getSignature(@Nonnull Method method) {
+		StringBuilder signature = new StringBuilder(method.getDeclaringClass().getName()).append('.').append(method.getName()).append('(');
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (i > 0) {
+				signature.append(',');
+			}
+			signature.append(parameterTypes[i].getName());
+		}
+		return signature.append(')').toString();
+	}
+
+	@Nullable
+	public TestMethodType getType() {
+		return type;
+	}
+
+	public String getCodeRef() {
+		return codeRef;
+	}
+
+	@Nullable
+	public DisplayName getDisplayName() {
+		return displayName;
+	}
+
+	@Nullable
+	public Description getDescription() {
+		return description;
+	}
+
+	@Nullable
+	public Attributes getAttributes() {
+		return attributes;
+	}
+
+	@Nullable
+	public TestCaseId getTestCaseId() {
+		return testCaseId;
+	}
+
+	@Nullable
+	public Issue getIssue() {
+		return issue;
+	}
+
+	@Nullable
+	public Issues getIssues() {
+		return issues;
+	}
+
+	@Nullable
+	public Test getTest() {
+		return test;
+	}
+
+	@Nullable
+	public Parameters getParameters() {
+		return parameters;
+	}
+
+	@Nullable
+	public Rollup getRollup() {
+		return rollup;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts and total durations of passed items which are not reported, to report them as a summary of their test or
+ * suite item.
+ */
+public class PassedItems {
+	private final LongAdder steps = new LongAdder();
+	private final LongAdder stepMillis = new LongAdder();
+	private final LongAdder configurations = new LongAdder();
+	private final LongAdder configurationMillis = new LongAdder();
+
+	/**
+	 * Counts a passed item.
+	 *
+	 * @param step     true for a test method, false for a configuration method
+	 * @param duration duration of the item in milliseconds
+	 */
+	public void add(boolean step, long duration) {
+		(step ? steps : configurations).increment();
+		(step ? stepMillis : configurationMillis).add(Math.max(duration, 0));
+	}
+
+	/**
+	 * Adds counts of the given items to these ones, E.G. a test's counts to its suite.
+	 *
+	 * @param other items to add
+	 */
+	public void addAll(@Nonnull PassedItems other) {
+		steps.add(other.steps.sum());
+		stepMillis.add(other.stepMillis.sum());
+		configurations.add(other.configurations.sum());
+		configurationMillis.add(other.configurationMillis.sum());
+	}
+
+	/**
+	 * @return human-readable summary or null if no items passed
+	 */
+	@Nullable
+	public String getSummary() {
+		StringBuilder sb = new StringBuilder();
+		long stepCount = steps.sum();
+		if (stepCount > 0) {
+			sb.append("Passed steps: ").append(stepCount).append(", duration: ").append(stepMillis.sum()).append(" ms");
+		}
+		long configurationCount = configurations.sum();
+		if (configurationCount > 0) {
+			if (sb.length() > 0) {
+				sb.append('\n');
+			}
+			sb.append("Passed configurations: ")
+					.append(configurationCount)
+					.append(", duration: ")
+					.append(configurationMillis.sum())
+					.append(" ms");
+		}
+		return sb.length() > 0 ? sb.toString() : null;
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.testng.TestMethodType;
+import jakarta.annotation.Nullable;
+
+/**
+ * Keeps track of TestNG retry sequences per thread.
+ * <p>
+ * TestNG runs retries synchronously, on the same thread which reported the failed attempt: the attempt is reported as
+ * skipped with {@link org.testng.ITestResult#wasRetried()} flag set, then its after methods are executed, then the next
+ * attempt starts with its before methods. This allows to tell if an item belongs to a retry by the state of the current
+ * thread, instead of looking for TestNG's retry method in the thread's stack trace.
+ */
+public class RetryRegistry {
+
+	private enum State {
+		/**
+		 * A test method was retried, every item until the last attempt is a retry
+		 */
+		RETRY,
+		/**
+		 * The last attempt is finished, only its after methods are still a part of the retry
+		 */
+		LAST_ATTEMPT
+	}
+
+	private final ThreadLocal<State> state = new ThreadLocal<>();
+
+	/**
+	 * Feeds the registry with a test method (not configuration) finish event on the current thread.
+	 *
+	 * @param wasRetried the value of {@link org.testng.ITestResult#wasRetried()} flag of the finished test method
+	 */
+	public void onTestMethodFinish(boolean wasRetried) {
+		if (wasRetried) {
+			state.set(State.RETRY);
+		} else if (state.get() == State.RETRY) {
+			state.set(State.LAST_ATTEMPT);
+		}
+	}
+
+	/**
+	 * Checks if an item which is about to start on the current thread is a part of a retry sequence.
+	 *
+	 * @param type type of the item which is starting
+	 * @return true if the item is a retry
+	 */
+	public boolean isRetry(@Nullable TestMethodType type) {
+		State current = state.get();
+		if (current == null) {
+			return false;
+		}
+		if (current == State.RETRY || TestMethodType.AFTER_METHOD == type || TestMethodType.AFTER_GROUPS == type) {
+			return true;
+		}
+		// Anything else, except after methods of the last attempt, is outside the retry sequence
+		state.remove();
+		return false;
+	}
+}
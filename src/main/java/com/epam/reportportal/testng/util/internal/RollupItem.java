@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.testng.ITestResult;
+import org.testng.internal.TestResult;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * A single item which stands for all iterations of a test method: keeps iteration counters, latencies and indexes of
+ * passed data provider rows, to report them as the item's summary instead of an item per iteration. Only a limited
+ * number of failed and skipped iterations are reported as the item's children.
+ */
+public class RollupItem {
+	private static final long[] DURATION_BOUNDS = { 10, 100, 1000, 10000 };
+	private static final String[] DURATION_LABELS = { "< 10 ms", "10-100 ms", "100 ms - 1 s", "1-10 s", ">= 10 s" };
+	private static final int[] PERCENTILES = { 50, 95, 99 };
+	private static final int MAXIMUM_ROW_RANGES = 100;
+
+	private final Maybe<String> itemId;
+	private final String description;
+	private final int successPercentage;
+	private final int failureLimit;
+	private final long[] durations = new long[DURATION_LABELS.length];
+	private final BitSet passedRows = new BitSet();
+
+	private long[] latencies = new long[16];
+	private int passed;
+	private int failed;
+	private int failedWithinSuccessPercentage;
+	private int skipped;
+	private int retried;
+	private int itemized;
+	private long startMillis = Long.MAX_VALUE;
+	private long endMillis;
+
+	/**
+	 * @param itemId            ID of the rollup item
+	 * @param description       description the item was started with
+	 * @param successPercentage success percentage TestNG requires from the method
+	 * @param failureLimit      maximum number of failed and skipped iterations reported as children, non-positive values
+	 *                          mean no limit
+	 */
+	public RollupItem(@Nonnull Maybe<String> itemId, @Nullable String description, int successPercentage, int failureLimit) {
+		this.itemId = itemId;
+		this.description = description;
+		this.successPercentage = successPercentage;
+		this.failureLimit = failureLimit;
+	}
+
+	private static int getRowIndex(@Nonnull ITestResult testResult) {
+		ITestResult result = TestResultSnapshot.unwrap(testResult);
+		return result instanceof TestResult ? ((TestResult) result).getParameterIndex() : -1;
+	}
+
+	/**
+	 * Adds a finished iteration to the summary.
+	 *
+	 * @param status     iteration status
+	 * @param testResult TestNG's test result of the iteration
+	 */
+	public synchronized void addIteration(@Nonnull ItemStatus status, @Nonnull ITestResult testResult) {
+		if (testResult.wasRetried()) {
+			retried++;
+		} else if (ItemStatus.PASSED == status) {
+			passed++;
+			int rowIndex = getRowIndex(testResult);
+			if (rowIndex >= 0) {
+				passedRows.set(rowIndex);
+			}
+		} else if (ITestResult.SUCCESS_PERCENTAGE_FAILURE == testResult.getStatus()) {
+			failedWithinSuccessPercentage++;
+		} else if (ItemStatus.FAILED == status) {
+			failed++;
+		} else {
+			skipped++;
+		}
+		long duration = Math.max(testResult.getEndMillis() - testResult.getStartMillis(), 0);
+		int bucket = 0;
+		while (bucket < DURATION_BOUNDS.length && duration >= DURATION_BOUNDS[bucket]) {
+			bucket++;
+		}
+		durations[bucket]++;
+		int iterations = getIterations();
+		if (iterations > latencies.length) {
+			latencies = Arrays.copyOf(latencies, latencies.length * 2);
+		}
+		latencies[iterations - 1] = duration;
+		startMillis = Math.min(startMillis, testResult.getStartMillis());
+		endMillis = Math.max(endMillis, testResult.getEndMillis());
+	}
+
+	/**
+	 * Reserves a child item for a failed or skipped iteration.
+	 *
+	 * @return true if the iteration should be reported as a child item, false if the limit is reached
+	 */
+	public synchronized boolean itemize() {
+		if (failureLimit > 0 && itemized >= failureLimit) {
+			return false;
+		}
+		itemized++;
+		return true;
+	}
+
+	@Nonnull
+	public Maybe<String> getItemId() {
+		return itemId;
+	}
+
+	@Nullable
+	public String getDescription() {
+		return description;
+	}
+
+	private int getIterations() {
+		return passed + failed + failedWithinSuccessPercentage + skipped + retried;
+	}
+
+	/**
+	 * @return end time of the latest iteration
+	 */
+	public synchronized long getEndMillis() {
+		return endMillis;
+	}
+
+	/**
+	 * @return failed if any iteration failed beyond the success percentage, passed if any iteration passed, skipped
+	 * otherwise
+	 */
+	@Nonnull
+	public synchronized ItemStatus getStatus() {
+		if (failed > 0) {
+			return ItemStatus.FAILED;
+		}
+		return passed > 0 || failedWithinSuccessPercentage > 0 ? ItemStatus.PASSED : ItemStatus.SKIPPED;
+	}
+
+	/**
+	 * @return human-readable summary of the iterations
+	 */
+	@Nonnull
+	public synchronized String getSummary() {
+		int iterations = getIterations();
+		StringBuilder sb = new StringBuilder();
+		sb.append("Iterations: ").append(iterations);
+		sb.append(", passed: ").append(passed).append(", failed: ").append(failed).append(", skipped: ").append(skipped);
+		if (failedWithinSuccessPercentage > 0) {
+			sb.append(", failed within success percentage: ").append(failedWithinSuccessPercentage);
+		}
+		if (retried > 0) {
+			sb.append(", retried: ").append(retried);
+		}
+		int attempts = iterations - retried;
+		if (successPercentage < 100 && attempts > 0) {
+			sb.append(String.format(Locale.ROOT, "\nSuccess percentage: %.2f%% (required: %d%%)", passed * 100.0 / attempts, successPercentage));
+		}
+		if (iterations > 0) {
+			appendLatencies(sb, iterations);
+		}
+		sb.append("\nDurations:");
+		String delimiter = " ";
+		for (int i = 0; i < durations.length; i++) {
+			if (durations[i] > 0) {
+				sb.append(delimiter).append(DURATION_LABELS[i]).append(": ").append(durations[i]);
+				delimiter = ", ";
+			}
+		}
+		if (!passedRows.isEmpty()) {
+			sb.append("\nPassed rows: ");
+			appendRanges(sb);
+		}
+		int notItemized = iterations - passed - itemized;
+		if (notItemized > 0) {
+			sb.append("\nNot reported as separate items: ").append(notItemized);
+		}
+		return sb.toString();
+	}
+
+	private void appendLatencies(@Nonnull StringBuilder sb, int iterations) {
+		long wallMillis = endMillis - startMillis;
+		if (wallMillis > 0) {
+			sb.append(String.format(Locale.ROOT, "\nThroughput: %.2f iterations/s", iterations * 1000.0 / wallMillis));
+		}
+		long[] sorted = Arrays.copyOf(latencies, iterations);
+		Arrays.sort(sorted);
+		sb.append("\nLatency:");
+		for (int percentile : PERCENTILES) {
+			// Nearest-rank percentile
+			int rank = (int) Math.ceil(percentile / 100.0 * iterations);
+			sb.append(" p").append(percentile).append(' ').append(sorted[Math.max(rank, 1) - 1]).append(" ms,");
+		}
+		sb.append(" max ").append(sorted[iterations - 1]).append(" ms");
+	}
+
+	private void appendRanges(@Nonnull StringBuilder sb) {
+		int ranges = 0;
+		for (int start = passedRows.nextSetBit(0); start >= 0; start = passedRows.nextSetBit(start)) {
+			if (ranges > 0) {
+				sb.append(", ");
+			}
+			if (ranges >= MAXIMUM_ROW_RANGES) {
+				sb.append("...");
+				return;
+			}
+			int end = passedRows.nextClearBit(start) - 1;
+			sb.append(start);
+			if (end > start) {
+				sb.append('-').append(end);
+			}
+			ranges++;
+			start = end + 1;
+		}
+	}
+}
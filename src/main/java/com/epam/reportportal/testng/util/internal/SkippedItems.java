@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test methods which TestNG skipped without running them, E.G. after a configuration failure, to report them as a
+ * single summary item of their test instead of an item per method. Skipped methods are grouped by the cause of the
+ * skip.
+ */
+public class SkippedItems {
+	private final Map<String, List<String>> methods = new LinkedHashMap<>();
+
+	private int count;
+	private long startMillis = Long.MAX_VALUE;
+	private long endMillis;
+
+	/**
+	 * Adds a skipped method.
+	 *
+	 * @param method      name of the method with its parameters
+	 * @param cause       cause of the skip
+	 * @param startMillis start time of the method
+	 * @param endMillis   end time of the method
+	 */
+	public synchronized void add(@Nonnull String method, @Nonnull String cause, long startMillis, long endMillis) {
+		methods.computeIfAbsent(cause, c -> new ArrayList<>()).add(method);
+		count++;
+		this.startMillis = Math.min(this.startMillis, startMillis);
+		this.endMillis = Math.max(this.endMillis, endMillis);
+	}
+
+	/**
+	 * @return number of skipped methods
+	 */
+	public synchronized int getCount() {
+		return count;
+	}
+
+	/**
+	 * @return start time of the earliest skipped method
+	 */
+	public synchronized long getStartMillis() {
+		return startMillis;
+	}
+
+	/**
+	 * @return end time of the latest skipped method
+	 */
+	public synchronized long getEndMillis() {
+		return Math.max(startMillis, endMillis);
+	}
+
+	/**
+	 * @return human-readable summary of the skips
+	 */
+	@Nonnull
+	public synchronized String getSummary() {
+		return "Skipped methods: " + count + ", causes: " + methods.size();
+	}
+
+	/**
+	 * @return every skipped method, grouped by the cause of the skip
+	 */
+	@Nonnull
+	public synchronized String getMethodList() {
+		StringBuilder sb = new StringBuilder();
+		methods.forEach((cause, causeMethods) -> {
+			if (sb.length() > 0) {
+				sb.append("\n\n");
+			}
+			sb.append("Cause: ").append(cause).append('\n').append("Methods: ").append(causeMethods.size());
+			causeMethods.forEach(m -> sb.append("\n- ").append(m));
+		});
+		return sb.toString();
+	}
+}
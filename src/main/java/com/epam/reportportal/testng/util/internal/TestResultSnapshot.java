@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.testng.IClass;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * State of a test result at the moment of a TestNG event, to report the event on another thread.
+ * <p>
+ * Everything TestNG changes during a test method execution is copied: status, throwable, timings, parameters and retry
+ * flag. Method, class, instance and context are the same objects as in the original result. Attributes are read and
+ * written directly to the original result, so item IDs are visible to the code which uses the original result.
+ */
+public class TestResultSnapshot implements ITestResult {
+	private final ITestResult result;
+	private final Thread thread;
+	private final Maybe<String> virtualItem;
+	private final int status;
+	private final Throwable throwable;
+	private final long startMillis;
+	private final long endMillis;
+	private final Object[] parameters;
+	private final boolean wasRetried;
+	private final String testName;
+	private final List<String> runnerFrames;
+
+	private TestResultSnapshot(@Nonnull ITestResult result, @Nullable Maybe<String> virtualItem,
+			@Nonnull Supplier<List<String>> runnerFrames) {
+		this.result = result;
+		this.virtualItem = virtualItem;
+		thread = Thread.currentThread();
+		status = result.getStatus();
+		throwable = result.getThrowable();
+		startMillis = result.getStartMillis();
+		endMillis = result.getEndMillis();
+		Object[] resultParameters = result.getParameters();
+		parameters = resultParameters == null ? null : resultParameters.clone();
+		wasRetried = result.wasRetried();
+		testName = result.getTestName();
+		this.runnerFrames = throwable == null ? null : runnerFrames.get();
+	}
+
+	/**
+	 * Captures the current state of the result on the current thread.
+	 *
+	 * @param result      TestNG's test result
+	 * @param virtualItem  ID which the result's item is known by on the current thread until it's started
+	 * @param runnerFrames stack frames of the current thread's test runner, requested if the result has a throwable
+	 * @return snapshot
+	 */
+	@Nonnull
+	public static TestResultSnapshot of(@Nonnull ITestResult result, @Nullable Maybe<String> virtualItem,
+			@Nonnull Supplier<List<String>> runnerFrames) {
+		return new TestResultSnapshot(result, virtualItem, runnerFrames);
+	}
+
+	/**
+	 * Returns the original result of a snapshot, to tell results apart by identity.
+	 *
+	 * @param result TestNG's test result or its snapshot
+	 * @return the original result
+	 */
+	@Nonnull
+	public static ITestResult unwrap(@Nonnull ITestResult result) {
+		return result instanceof TestResultSnapshot ? ((TestResultSnapshot) result).result : result;
+	}
+
+	/**
+	 * @return the original result
+	 */
+	@Nonnull
+	public ITestResult getResult() {
+		return result;
+	}
+
+	/**
+	 * @return the thread which captured the snapshot, I.E. the thread which ran the test method
+	 */
+	@Nonnull
+	public Thread getThread() {
+		return thread;
+	}
+
+	/**
+	 * @return ID which the result's item is known by on the test thread, or null if the item has no such ID
+	 */
+	@Nullable
+	public Maybe<String> getVirtualItem() {
+		return virtualItem;
+	}
+
+	/**
+	 * @return stack frames of the test thread to collapse in the failure stack trace, null if there is no throwable
+	 */
+	@Nullable
+	List<String> getRunnerFrames() {
+		return runnerFrames;
+	}
+
+	@Override
+	public int getStatus() {
+		return status;
+	}
+
+	@Override
+	public void setStatus(int status) {
+		throw new UnsupportedOperationException("Test result snapshot is immutable");
+	}
+
+	@Override
+	public ITestNGMethod getMethod() {
+		return result.getMethod();
+	}
+
+	@Override
+	public Object[] getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public void setParameters(Object[] parameters) {
+		throw new UnsupportedOperationException("Test result snapshot is immutable");
+	}
+
+	@Override
+	public IClass getTestClass() {
+		return result.getTestClass();
+	}
+
+	@Override
+	public Throwable getThrowable() {
+		return throwable;
+	}
+
+	@Override
+	public void setThrowable(Throwable throwable) {
+		throw new UnsupportedOperationException("Test result snapshot is immutable");
+	}
+
+	@Override
+	public long getStartMillis() {
+		return startMillis;
+	}
+
+	@Override
+	public long getEndMillis() {
+		return endMillis;
+	}
+
+	@Override
+	public void setEndMillis(long millis) {
+		throw new UnsupportedOperationException("Test result snapshot is immutable");
+	}
+
+	@Override
+	public String getName() {
+		return result.getName();
+	}
+
+	@Override
+	public boolean isSuccess() {
+		return ITestResult.SUCCESS == status;
+	}
+
+	@Override
+	public String getHost() {
+		return result.getHost();
+	}
+
+	@Override
+	public Object getInstance() {
+		return result.getInstance();
+	}
+
+	@Override
+	public Object[] getFactoryParameters() {
+		return result.getFactoryParameters();
+	}
+
+	@Override
+	public String getTestName() {
+		return testName;
+	}
+
+	@Override
+	public String getInstanceName() {
+		return result.getInstanceName();
+	}
+
+	@Override
+	public ITestContext getTestContext() {
+		return result.getTestContext();
+	}
+
+	@Override
+	public void setTestName(String name) {
+		throw new UnsupportedOperationException("Test result snapshot is immutable");
+	}
+
+	@Override
+	public boolean wasRetried() {
+		return wasRetried;
+	}
+
+	@Override
+	public void setWasRetried(boolean wasRetried) {
+		throw new UnsupportedOperationException("Test result snapshot is immutable");
+	}
+
+	@Override
+	public List<ITestNGMethod> getSkipCausedBy() {
+		return result.getSkipCausedBy();
+	}
+
+	@Override
+	public String id() {
+		return result.id();
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		return result.getAttribute(name);
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		result.setAttribute(name, value);
+	}
+
+	@Override
+	public Set<String> getAttributeNames() {
+		return result.getAttributeNames();
+	}
+
+	@Override
+	public Object removeAttribute(String name) {
+		return result.removeAttribute(name);
+	}
+
+	@Override
+	public int compareTo(@Nonnull ITestResult o) {
+		return result.compareTo(unwrap(o));
+	}
+}
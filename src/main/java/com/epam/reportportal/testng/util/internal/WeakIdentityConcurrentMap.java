@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.testng.util.internal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe map which compares keys by identity and does not prevent them from being garbage collected, to track
+ * data bound to test instances. Once TestNG stops using a test instance and it's collected, the instance's entry is
+ * removed from the map on one of the next map operations.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class WeakIdentityConcurrentMap<K, V> {
+
+	private static final class WeakKey<K> extends WeakReference<K> {
+		private final int hash;
+
+		private WeakKey(@Nonnull K referent, @Nonnull ReferenceQueue<? super K> queue) {
+			super(referent, queue);
+			hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			Object referent = get();
+			return referent != null && (o instanceof LookupKey ? ((LookupKey) o).referent == referent : o instanceof WeakKey
+					&& ((WeakKey<?>) o).get() == referent);
+		}
+	}
+
+	private static final class LookupKey {
+		private final Object referent;
+		private final int hash;
+
+		private LookupKey(@Nonnull Object referent) {
+			this.referent = referent;
+			hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof WeakKey ? ((WeakKey<?>) o).get() == referent : o instanceof LookupKey && ((LookupKey) o).referent == referent;
+		}
+	}
+
+	private final Map<Object, V> map = new ConcurrentHashMap<>();
+	private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+	private void expungeStaleEntries() {
+		Reference<? extends K> reference;
+		while ((reference = queue.poll()) != null) {
+			map.remove(reference);
+		}
+	}
+
+	/**
+	 * Returns the value associated with the key, computing and associating it with the key if there is no value yet.
+	 *
+	 * @param key             key object, compared by identity
+	 * @param mappingFunction the function to compute a value
+	 * @return the current (existing or computed) value associated with the key
+	 */
+	public V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> mappingFunction) {
+		expungeStaleEntries();
+		V value = map.get(new LookupKey(key));
+		if (value != null) {
+			return value;
+		}
+		return map.computeIfAbsent(new WeakKey<>(key, queue), k -> mappingFunction.apply(key));
+	}
+
+	@Nullable
+	public V get(@Nonnull Object key) {
+		expungeStaleEntries();
+		return map.get(new LookupKey(key));
+	}
+
+	@Nullable
+	public V remove(@Nonnull Object key) {
+		expungeStaleEntries();
+		return map.remove(new LookupKey(key));
+	}
+
+	/**
+	 * @return the number of entries which keys are not collected yet
+	 */
+	public int size() {
+		expungeStaleEntries();
+		return map.size();
+	}
+}
@@ -0,0 +1,188 @@
+package com.epam.reportportal.testng;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.testng.integration.feature.description.DescriptionFailedTest;
+import com.epam.reportportal.testng.integration.feature.nested.NestedStepFeaturePassedTest;
+import com.epam.reportportal.testng.integration.feature.retry.BasicRetryTest;
+import com.epam.reportportal.testng.util.internal.TestResultSnapshot;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.reactivex.Maybe;
+import org.apache.commons.lang3.tuple.Pair;
+import org.testng.ITestResult;
+import org.testng.internal.TestResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.testng.integration.util.TestUtils.*;
+import static com.epam.reportportal.util.test.CommonUtils.namedId;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class AsyncReportingTest {
+	public static class AsyncListener extends BaseTestNGListener {
+		static Supplier<TestNGService> SERVICE;
+
+		public AsyncListener() {
+			super(SERVICE.get());
+		}
+
+		public static void initService(Supplier<TestNGService> service) {
+			SERVICE = service;
+		}
+	}
+
+	private static AgentParameters asyncParameters() {
+		AgentParameters parameters = new AgentParameters();
+		parameters.setAsync(true);
+		parameters.setAsyncBufferSize(4);
+		return parameters;
+	}
+
+	private static Maybe<String> startVirtualItem(Launch launch, InvocationOnMock invocation) {
+		return launch.startTestItem(invocation.getArgument(0), invocation.<StartTestItemRQ>getArgument(2));
+	}
+
+	private static Launch mockAsyncLaunch(Maybe<String> suiteUuid, Maybe<String> testClassUuid, List<Maybe<String>> testUuids) {
+		Launch launch = mock(Launch.class);
+		mockLaunch(launch, Maybe.just("launchUuid"), suiteUuid, testClassUuid, testUuids);
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		when(launch.createVirtualItem()).thenAnswer(i -> Maybe.never());
+		when(launch.startVirtualTestItem(any(), any(), any())).thenAnswer(i -> startVirtualItem(launch, i));
+		return launch;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_retries_are_reported_in_the_same_order_and_with_retry_flags() {
+		Maybe<String> suiteUuid = Maybe.just(namedUuid("suite"));
+		Maybe<String> testClassUuid = Maybe.just(namedUuid("class"));
+		List<Maybe<String>> testUuids = Stream.generate(() -> Maybe.just(namedUuid("item"))).limit(12).collect(Collectors.toList());
+		Launch launch = mockAsyncLaunch(suiteUuid, testClassUuid, testUuids);
+		AsyncListener.initService(() -> new TestNGService(() -> launch, asyncParameters()));
+
+		runTests(Collections.singletonList(AsyncListener.class), BasicRetryTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> startItemCapture = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(12)).startTestItem(same(testClassUuid), startItemCapture.capture());
+		verify(launch, times(12)).startVirtualTestItem(same(testClassUuid), any(), any());
+		List<StartTestItemRQ> startItems = startItemCapture.getAllValues();
+		startItems.subList(0, 3).forEach(e -> assertThat(e.isRetry(), nullValue()));
+		startItems.subList(3, startItems.size()).forEach(e -> assertThat(e.isRetry(), equalTo(Boolean.TRUE)));
+
+		ArgumentCaptor<Maybe<String>> finishUuidCapture = ArgumentCaptor.forClass(Maybe.class);
+		ArgumentCaptor<FinishTestItemRQ> finishItemCapture = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, times(14)).finishTestItem(finishUuidCapture.capture(), finishItemCapture.capture());
+		List<Maybe<String>> finishUuids = finishUuidCapture.getAllValues();
+		List<FinishTestItemRQ> finishItems = finishItemCapture.getAllValues();
+		// The first test and its 2 before methods are finished as retries
+		finishItems.subList(0, 3).forEach(e -> assertThat(e.isRetry(), equalTo(Boolean.TRUE)));
+		finishItems.subList(3, finishItems.size()).forEach(e -> assertThat(e.isRetry(), nullValue()));
+		assertThat(finishUuids.subList(finishUuids.size() - 2, finishUuids.size()), contains(testClassUuid, suiteUuid));
+		verify(launch, times(1)).finish(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_failure_log_and_description_are_reported_to_their_items() {
+		Maybe<String> suiteUuid = Maybe.just(namedUuid("suite"));
+		Maybe<String> testClassUuid = Maybe.just(namedUuid("class"));
+		List<Maybe<String>> testUuids = Stream.generate(() -> Maybe.just(namedUuid("test"))).limit(5).collect(Collectors.toList());
+		Launch launch = mockAsyncLaunch(suiteUuid, testClassUuid, testUuids);
+		AsyncListener.initService(() -> new TestNGService(() -> launch, asyncParameters()));
+
+		runTests(Collections.singletonList(AsyncListener.class), DescriptionFailedTest.class);
+
+		ArgumentCaptor<Maybe<String>> logUuidCapture = ArgumentCaptor.forClass(Maybe.class);
+		verify(launch, times(5)).log(logUuidCapture.capture(), any());
+		assertThat(logUuidCapture.getAllValues(), containsInAnyOrder(testUuids.toArray()));
+
+		ArgumentCaptor<FinishTestItemRQ> finishItemCapture = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		testUuids.forEach(uuid -> verify(launch).finishTestItem(same(uuid), finishItemCapture.capture()));
+		finishItemCapture.getAllValues().forEach(rq -> {
+			assertThat(rq.getStatus(), equalTo("FAILED"));
+			assertThat(rq.getDescription(), containsString("Error:"));
+			// Test runner frames are collapsed with the test thread's stack, not the reporting thread's one
+			assertThat(rq.getDescription(), not(containsString("at org.testng.TestRunner")));
+		});
+	}
+
+	@Test
+	public void verify_nested_steps_are_reported_to_their_test_method() {
+		String suiteId = namedId("suite_");
+		String classId = namedId("class_");
+		String methodId = namedId("test_");
+		String stepId = namedId("step_");
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		mockLaunch(client, "launchUuid", suiteId, classId, methodId);
+		mockLogging(client);
+		mockNestedSteps(client, Pair.of(methodId, stepId));
+		ReportPortal reportPortal = ReportPortal.create(client, standardParameters());
+		AsyncListener.initService(() -> new TestNGService(reportPortal, asyncParameters()));
+
+		runTests(Collections.singletonList(AsyncListener.class), NestedStepFeaturePassedTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> nestedStepCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, timeout(1000)).startTestItem(same(methodId), nestedStepCaptor.capture());
+		assertThat(nestedStepCaptor.getValue().getName(), equalTo("I am nested step with parameter - 'test param'"));
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, timeout(1000)).finishTestItem(same(stepId), finishCaptor.capture());
+		assertThat(finishCaptor.getValue().getStatus(), equalTo("PASSED"));
+		verify(client, timeout(1000)).finishTestItem(same(methodId), finishCaptor.capture());
+		assertThat(finishCaptor.getValue().getStatus(), equalTo("PASSED"));
+	}
+
+	@Test
+	public void verify_failures_skip_waiting_events_if_failures_first_enabled() {
+		Launch launch = mock(Launch.class);
+		when(launch.getParameters()).thenReturn(standardParameters());
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		when(launch.createVirtualItem()).thenAnswer(i -> Maybe.never());
+		AgentParameters parameters = asyncParameters();
+		parameters.setAsyncFailuresFirst(true);
+		TestNGService delegate = mock(TestNGService.class);
+		when(delegate.getAgentParameters()).thenReturn(parameters);
+		when(delegate.getLaunch()).thenReturn(launch);
+		when(delegate.unbindDeferredItem(any(), any())).thenAnswer(i -> i.getArgument(1));
+		ITestResult failed = TestResult.newEmptyTestResult();
+		ITestResult passed = TestResult.newEmptyTestResult();
+		CountDownLatch latch = new CountDownLatch(1);
+		// The start of the passed method holds the pipeline, so the next events wait in it
+		doAnswer(i -> TestResultSnapshot.unwrap(i.getArgument(0)) == passed && latch.await(10, TimeUnit.SECONDS)).when(delegate)
+				.startTestMethod(any());
+		AsyncTestNGService service = new AsyncTestNGService(delegate);
+		service.startLaunch();
+
+		service.startTestMethod(failed);
+		service.startTestMethod(passed);
+		verify(delegate, timeout(1000).times(2)).startTestMethod(any());
+		service.finishTestMethod(ItemStatus.PASSED, passed);
+		service.sendReportPortalMsg(failed);
+		service.finishTestMethod(ItemStatus.FAILED, failed);
+		latch.countDown();
+		service.finishLaunch();
+
+		InOrder order = inOrder(delegate);
+		order.verify(delegate).sendReportPortalMsg(any());
+		order.verify(delegate).finishTestMethod(eq(ItemStatus.FAILED), any());
+		order.verify(delegate).finishTestMethod(eq(ItemStatus.PASSED), any());
+	}
+}
@@ -11,7 +11,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.testng.ISuite;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
 
+import static com.epam.reportportal.testng.TestNGService.ITEM_INDEX;
 import static com.epam.reportportal.testng.TestNGService.ITEM_TREE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +42,7 @@ public class CallbackReportingUnitTest {
 	public void preconditions() {
 		testNGService = new TestNGService(new MemoizingSupplier<>(() -> launch));
 		ITEM_TREE.getTestItems().clear();
+		ITEM_INDEX.clear();
 	}
 
 	@Test
@@ -91,4 +96,31 @@ public class CallbackReportingUnitTest {
 		assertTrue(ITEM_TREE.getTestItems().isEmpty());
 	}
 
+	@Test
+	public void stepLeafShouldBeRetrievedFromIndex() {
+		ITestResult testResult = mock(ITestResult.class);
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(id);
+		ITEM_INDEX.put(testResult, leaf);
+
+		assertSame(leaf, ItemTreeUtils.retrieveLeaf(testResult, ITEM_TREE).orElse(null));
+	}
+
+	@Test
+	public void testLeafShouldNotContainClassLeavesBeforeMethodStart() {
+		ListenerParameters listenerParameters = mock(ListenerParameters.class);
+		when(launch.getParameters()).thenReturn(listenerParameters);
+		when(listenerParameters.isCallbackReportingEnabled()).thenReturn(true);
+		when(suite.getName()).thenReturn("Suite name");
+		ITEM_TREE.getTestItems().put(ItemTreeUtils.createKey(suite), TestItemTree.createTestItemLeaf(id));
+		ITestContext testContext = mock(ITestContext.class);
+		when(testContext.getSuite()).thenReturn(suite);
+		when(testContext.getName()).thenReturn("Test name");
+		when(testContext.getAllTestMethods()).thenReturn(new ITestNGMethod[] { mock(ITestNGMethod.class) });
+
+		testNGService.startTest(testContext);
+
+		TestItemTree.TestItemLeaf testLeaf = ItemTreeUtils.retrieveLeaf(testContext, ITEM_TREE).orElse(null);
+		assertNotNull(testLeaf);
+		assertTrue(testLeaf.getChildItems().isEmpty());
+	}
 }
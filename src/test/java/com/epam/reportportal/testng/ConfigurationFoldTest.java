@@ -0,0 +1,99 @@
+package com.epam.reportportal.testng;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.testng.integration.feature.configuration.PassedConfigurationTest;
+import com.epam.reportportal.testng.integration.feature.skipped.BeforeMethodFailedTest;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.testng.integration.util.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class ConfigurationFoldTest {
+	public static class ConfigurationFoldListener extends BaseTestNGListener {
+		static Supplier<TestNGService> SERVICE;
+
+		public ConfigurationFoldListener() {
+			super(SERVICE.get());
+		}
+
+		public static void initService(Supplier<TestNGService> service) {
+			SERVICE = service;
+		}
+	}
+
+	private static Launch mockFoldLaunch(Maybe<String> testUuid, List<Maybe<String>> itemUuids) {
+		Launch launch = mock(Launch.class);
+		mockLaunch(launch, Maybe.just("launchUuid"), Maybe.just(namedUuid("suite")), testUuid, itemUuids);
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		AgentParameters parameters = new AgentParameters();
+		parameters.setConfigurationsFold(true);
+		ConfigurationFoldListener.initService(() -> new TestNGService(() -> launch, parameters));
+		return launch;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_passed_configurations_are_logged_to_their_parent_item() {
+		Maybe<String> testUuid = Maybe.just(namedUuid("test"));
+		List<Maybe<String>> itemUuids = Stream.generate(() -> Maybe.just(namedUuid("item"))).limit(2).collect(Collectors.toList());
+		Launch launch = mockFoldLaunch(testUuid, itemUuids);
+
+		runTests(Collections.singletonList(ConfigurationFoldListener.class), PassedConfigurationTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(2)).startTestItem(same(testUuid), startCaptor.capture());
+		startCaptor.getAllValues().forEach(rq -> assertThat(rq.getType(), equalTo(TestMethodType.STEP.name())));
+
+		ArgumentCaptor<Function<String, SaveLogRQ>> logCaptor = ArgumentCaptor.forClass(Function.class);
+		verify(launch, times(4)).log(same(testUuid), logCaptor.capture());
+		List<String> messages = logCaptor.getAllValues()
+				.stream()
+				.map(f -> f.apply(testUuid.blockingGet()).getMessage())
+				.collect(Collectors.toList());
+		assertThat(messages, everyItem(matchesPattern("(BEFORE|AFTER)_METHOD (before|after)Method passed, duration: \\d+ ms")));
+	}
+
+	@Test
+	public void verify_failed_before_method_is_reported_and_skips_its_test_as_not_an_issue() {
+		Maybe<String> testUuid = Maybe.just(namedUuid("test"));
+		List<Maybe<String>> itemUuids = Stream.generate(() -> Maybe.just(namedUuid("item"))).limit(3).collect(Collectors.toList());
+		Launch launch = mockFoldLaunch(testUuid, itemUuids);
+
+		runTests(Collections.singletonList(ConfigurationFoldListener.class), BeforeMethodFailedTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(3)).startTestItem(same(testUuid), startCaptor.capture());
+		assertThat(
+				startCaptor.getAllValues().stream().map(StartTestItemRQ::getType).collect(Collectors.toList()),
+				equalTo(Arrays.asList(TestMethodType.BEFORE_METHOD.name(), TestMethodType.STEP.name(), TestMethodType.AFTER_METHOD.name()))
+		);
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		itemUuids.forEach(uuid -> verify(launch).finishTestItem(same(uuid), finishCaptor.capture()));
+		List<FinishTestItemRQ> finishItems = finishCaptor.getAllValues();
+		assertThat(finishItems.get(0).getStatus(), equalTo(ItemStatus.FAILED.name()));
+		finishItems.subList(1, 3).forEach(rq -> {
+			assertThat(rq.getStatus(), equalTo(ItemStatus.SKIPPED.name()));
+			assertThat(rq.getIssue(), sameInstance(Launch.NOT_ISSUE));
+		});
+	}
+}
@@ -0,0 +1,57 @@
+package com.epam.reportportal.testng;
+
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.testng.integration.feature.failures.DuplicateFailuresTest;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.testng.integration.util.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class FailureDeduplicationTest {
+	public static class DeduplicationListener extends BaseTestNGListener {
+		static Supplier<TestNGService> SERVICE;
+
+		public DeduplicationListener() {
+			super(SERVICE.get());
+		}
+
+		public static void initService(Supplier<TestNGService> service) {
+			SERVICE = service;
+		}
+	}
+
+	@Test
+	public void verify_repeating_failures_reference_the_first_failed_row() {
+		Maybe<String> testClassUuid = Maybe.just(namedUuid("class"));
+		List<Maybe<String>> testUuids = Stream.generate(() -> Maybe.just(namedUuid("test")))
+				.limit(DuplicateFailuresTest.ROWS)
+				.collect(Collectors.toList());
+		Launch launch = mock(Launch.class);
+		mockLaunch(launch, Maybe.just("launchUuid"), Maybe.just(namedUuid("suite")), testClassUuid, testUuids);
+		AgentParameters parameters = new AgentParameters();
+		parameters.setFailureDeduplication(true);
+		DeduplicationListener.initService(() -> new TestNGService(() -> launch, parameters));
+
+		runTests(Collections.singletonList(DeduplicationListener.class), DuplicateFailuresTest.class);
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		testUuids.forEach(uuid -> verify(launch).finishTestItem(same(uuid), finishCaptor.capture()));
+		List<String> descriptions = finishCaptor.getAllValues().stream().map(FinishTestItemRQ::getDescription).collect(Collectors.toList());
+		assertThat(descriptions.get(0), allOf(containsString("Environment is down for row 0"), not(containsString("Same failure"))));
+		String reference = "Same failure as in " + DuplicateFailuresTest.class.getName() + ".duplicatedTest[int=0]";
+		assertThat(descriptions.get(1), allOf(containsString(reference + ", occurrence #2"), containsString("row 1")));
+		assertThat(descriptions.get(2), allOf(containsString(reference + ", occurrence #3"), containsString("row 2")));
+	}
+}
@@ -0,0 +1,94 @@
+package com.epam.reportportal.testng;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.testng.integration.util.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class FailuresOnlyTest {
+	public static class FailuresOnlyListener extends BaseTestNGListener {
+		static Supplier<TestNGService> SERVICE;
+
+		public FailuresOnlyListener() {
+			super(SERVICE.get());
+		}
+
+		public static void initService(Supplier<TestNGService> service) {
+			SERVICE = service;
+		}
+	}
+
+	private static AgentParameters failuresOnlyParameters(boolean async) {
+		AgentParameters parameters = new AgentParameters();
+		parameters.setFailuresOnly(true);
+		parameters.setAsync(async);
+		return parameters;
+	}
+
+	private void verify_only_not_passed_items_are_reported(boolean async) {
+		Maybe<String> suiteUuid = Maybe.just(namedUuid("suite"));
+		Maybe<String> testUuid = Maybe.just(namedUuid("test"));
+		List<Maybe<String>> itemUuids = Stream.generate(() -> Maybe.just(namedUuid("item"))).limit(2).collect(Collectors.toList());
+		Launch launch = mock(Launch.class);
+		mockLaunch(launch, Maybe.just("launchUuid"), suiteUuid, testUuid, itemUuids);
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		FailuresOnlyListener.initService(() -> new TestNGService(() -> launch, failuresOnlyParameters(async)));
+
+		runTests(
+				Collections.singletonList(FailuresOnlyListener.class),
+				com.epam.reportportal.testng.integration.feature.failures.FailuresOnlyTest.class
+		);
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(2)).startTestItem(same(testUuid), startCaptor.capture());
+		assertThat(
+				startCaptor.getAllValues().stream().map(StartTestItemRQ::getName).collect(Collectors.toList()),
+				equalTo(Arrays.asList("failedTest", "skippedTest"))
+		);
+		verify(launch, never()).createVirtualItem();
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		itemUuids.forEach(uuid -> verify(launch).finishTestItem(same(uuid), finishCaptor.capture()));
+		assertThat(
+				finishCaptor.getAllValues().stream().map(FinishTestItemRQ::getStatus).collect(Collectors.toList()),
+				equalTo(Arrays.asList(ItemStatus.FAILED.name(), ItemStatus.SKIPPED.name()))
+		);
+
+		ArgumentCaptor<FinishTestItemRQ> testFinishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch).finishTestItem(same(testUuid), testFinishCaptor.capture());
+		String summary = testFinishCaptor.getValue().getDescription();
+		assertThat(summary, matchesPattern("Passed steps: 2, duration: \\d+ ms\nPassed configurations: 3, duration: \\d+ ms"));
+
+		ArgumentCaptor<FinishTestItemRQ> suiteFinishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch).finishTestItem(same(suiteUuid), suiteFinishCaptor.capture());
+		assertThat(suiteFinishCaptor.getValue().getDescription(), equalTo(summary));
+	}
+
+	@Test
+	public void verify_passed_steps_and_configurations_are_not_reported() {
+		verify_only_not_passed_items_are_reported(false);
+	}
+
+	@Test
+	public void verify_passed_steps_and_configurations_are_not_reported_asynchronously() {
+		verify_only_not_passed_items_are_reported(true);
+	}
+}
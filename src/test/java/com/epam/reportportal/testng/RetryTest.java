@@ -1,6 +1,7 @@
 package com.epam.reportportal.testng;
 
 import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.step.StepReporter;
 import com.epam.reportportal.testng.integration.feature.retry.BasicRetryTest;
 import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
@@ -23,8 +24,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class RetryTest {
@@ -54,12 +54,10 @@ public class RetryTest {
 
 	private final List<String> finishMethodUuidOrder = Stream.of(
 			// BASIC CASE
-			// 2 before methods
-			testUuidList.get(0), testUuidList.get(3),
-			// 2 before methods updates, after a test failure, to mark them as retries
-			testUuidList.get(0), testUuidList.get(3),
 			// 1 test
 			testUuidList.get(6),
+			// 2 before methods, finished once the test is known to be retried, to mark them as retries
+			testUuidList.get(0), testUuidList.get(3),
 			// 1 after
 			testUuidList.get(9),
 			// RETRY 1, no before updates anymore, since we know this is a retry
@@ -89,6 +87,7 @@ public class RetryTest {
 				testUuidList.get(2), testUuidList.get(5), testUuidList.get(8), testUuidList.get(11)
 		);
 		mockLaunch(launch, Maybe.just("launchUuid"), suitedUuid, testClassUuid, startMethodUuidOrder);
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
 		RetryListener.initLaunch(launch);
 	}
 
@@ -111,18 +110,15 @@ public class RetryTest {
 
 		ArgumentCaptor<Maybe<String>> finishUuidCapture = ArgumentCaptor.forClass(Maybe.class);
 		ArgumentCaptor<FinishTestItemRQ> finishItemCapture = ArgumentCaptor.forClass(FinishTestItemRQ.class);
-		// 2 before methods, 1 test, 1 after method, 3 retries for all of them = 12 finish methods + 2 call back updates for before method
-		// + finish test class, finish suite = 16 finish methods
-		verify(launch, times(16)).finishTestItem(finishUuidCapture.capture(), finishItemCapture.capture());
+		// 2 before methods, 1 test, 1 after method, 3 retries for all of them = 12 finish methods
+		// + finish test class, finish suite = 14 finish methods
+		verify(launch, times(14)).finishTestItem(finishUuidCapture.capture(), finishItemCapture.capture());
 		List<String> finishUuids = finishUuidCapture.getAllValues().stream().map(Maybe::blockingGet).collect(Collectors.toList());
 		assertThat(finishUuids, equalTo(finishMethodUuidOrder));
 
 		List<FinishTestItemRQ> finishItems = finishItemCapture.getAllValues();
 
-		// we save actual objects, so no this field will be set, but actually it will be sent as null
-		finishItems.subList(0, 2).forEach(e -> assertThat(e.isRetry(), equalTo(Boolean.TRUE)));
-
-		finishItems.subList(2, 5).forEach(e -> assertThat(e.isRetry(), equalTo(Boolean.TRUE)));
-		finishItems.subList(5, finishItems.size()).forEach(e -> assertThat(e.isRetry(), nullValue()));
+		finishItems.subList(0, 3).forEach(e -> assertThat(e.isRetry(), equalTo(Boolean.TRUE)));
+		finishItems.subList(3, finishItems.size()).forEach(e -> assertThat(e.isRetry(), nullValue()));
 	}
 }
@@ -0,0 +1,148 @@
+package com.epam.reportportal.testng;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.testng.integration.feature.rollup.RollupAnnotatedTest;
+import com.epam.reportportal.testng.integration.feature.rollup.RollupDataProviderTest;
+import com.epam.reportportal.testng.integration.feature.rollup.RollupInvocationCountTest;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.reactivex.Maybe;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.testng.integration.util.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class RollupTest {
+	public static class RollupListener extends BaseTestNGListener {
+		static Supplier<TestNGService> SERVICE;
+
+		public RollupListener() {
+			super(SERVICE.get());
+		}
+
+		public static void initService(Supplier<TestNGService> service) {
+			SERVICE = service;
+		}
+	}
+
+	private static Launch mockRollupLaunch(Maybe<String> testClassUuid, List<Maybe<String>> testUuids) {
+		Launch launch = mock(Launch.class);
+		mockLaunch(launch, Maybe.just("launchUuid"), Maybe.just(namedUuid("suite")), testClassUuid, testUuids);
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		return launch;
+	}
+
+	@Test
+	public void verify_passed_rows_are_reported_as_a_single_item_and_failed_rows_as_its_children() {
+		Maybe<String> testClassUuid = Maybe.just(namedUuid("class"));
+		Maybe<String> rollupUuid = Maybe.just(namedUuid("rollup"));
+		Maybe<String> childUuid = Maybe.just(namedUuid("child"));
+		Launch launch = mockRollupLaunch(testClassUuid, Collections.singletonList(rollupUuid));
+		doReturn(childUuid).when(launch).startTestItem(same(rollupUuid), any());
+		doReturn(Maybe.just(new OperationCompletionRS())).when(launch).finishTestItem(same(childUuid), any());
+		AgentParameters parameters = new AgentParameters();
+		parameters.setRollup(true);
+		RollupListener.initService(() -> new TestNGService(() -> launch, parameters));
+
+		runTests(Collections.singletonList(RollupListener.class), RollupDataProviderTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> rollupStartCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(1)).startTestItem(same(testClassUuid), rollupStartCaptor.capture());
+		assertThat(rollupStartCaptor.getValue().getName(), equalTo("rolledUpTest"));
+		assertThat(rollupStartCaptor.getValue().getParameters(), nullValue());
+
+		ArgumentCaptor<StartTestItemRQ> childStartCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(1)).startTestItem(same(rollupUuid), childStartCaptor.capture());
+		StartTestItemRQ childStart = childStartCaptor.getValue();
+		assertThat(childStart.isHasStats(), equalTo(Boolean.FALSE));
+		assertThat(childStart.getParameters(), hasSize(1));
+		assertThat(childStart.getParameters().get(0).getValue(), equalTo(String.valueOf(RollupDataProviderTest.FAILED_ROW)));
+
+		ArgumentCaptor<FinishTestItemRQ> childFinishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, times(1)).finishTestItem(same(childUuid), childFinishCaptor.capture());
+		assertThat(childFinishCaptor.getValue().getStatus(), equalTo(ItemStatus.FAILED.name()));
+
+		ArgumentCaptor<FinishTestItemRQ> rollupFinishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, times(1)).finishTestItem(same(rollupUuid), rollupFinishCaptor.capture());
+		FinishTestItemRQ rollupFinish = rollupFinishCaptor.getValue();
+		assertThat(rollupFinish.getStatus(), equalTo(ItemStatus.FAILED.name()));
+		assertThat(rollupFinish.getDescription(), Matchers.startsWith("Iterations: 5, passed: 4, failed: 1, skipped: 0"));
+		assertThat(rollupFinish.getDescription(), Matchers.endsWith("Passed rows: 0-2, 4"));
+	}
+
+	@Test
+	public void verify_rollup_annotation_rolls_up_only_annotated_methods() {
+		Maybe<String> testClassUuid = Maybe.just(namedUuid("class"));
+		List<Maybe<String>> testUuids = Stream.generate(() -> Maybe.just(namedUuid("test"))).limit(4).collect(Collectors.toList());
+		Launch launch = mockRollupLaunch(testClassUuid, testUuids);
+		RollupListener.initService(() -> new TestNGService(() -> launch, new AgentParameters()));
+
+		runTests(Collections.singletonList(RollupListener.class), RollupAnnotatedTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(4)).startTestItem(same(testClassUuid), startCaptor.capture());
+		List<StartTestItemRQ> starts = startCaptor.getAllValues();
+		assertThat(starts.stream().filter(rq -> "rolledUpTest".equals(rq.getName())).count(), equalTo(1L));
+		assertThat(starts.stream().filter(rq -> "separateItemsTest".equals(rq.getName())).count(), equalTo(3L));
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		testUuids.forEach(uuid -> verify(launch, times(1)).finishTestItem(same(uuid), finishCaptor.capture()));
+		assertThat(finishCaptor.getAllValues().stream().map(FinishTestItemRQ::getStatus).collect(Collectors.toList()),
+				everyItem(equalTo(ItemStatus.PASSED.name())));
+	}
+
+	@Test
+	public void verify_invocations_are_reported_as_a_single_item_with_latencies_and_limited_failures() {
+		Maybe<String> testClassUuid = Maybe.just(namedUuid("class"));
+		Maybe<String> rollupUuid = Maybe.just(namedUuid("rollup"));
+		Maybe<String> childUuid = Maybe.just(namedUuid("child"));
+		Launch launch = mockRollupLaunch(testClassUuid, Collections.singletonList(rollupUuid));
+		doReturn(childUuid).when(launch).startTestItem(same(rollupUuid), any());
+		doReturn(Maybe.just(new OperationCompletionRS())).when(launch).finishTestItem(same(childUuid), any());
+		AgentParameters parameters = new AgentParameters();
+		parameters.setRollupInvocations(true);
+		parameters.setRollupFailureLimit(1);
+		RollupListener.initService(() -> new TestNGService(() -> launch, parameters));
+
+		runTests(Collections.singletonList(RollupListener.class), RollupInvocationCountTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> rollupStartCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(1)).startTestItem(same(testClassUuid), rollupStartCaptor.capture());
+		assertThat(rollupStartCaptor.getValue().getName(), equalTo("loadTest"));
+		verify(launch, times(1)).startTestItem(same(rollupUuid), any());
+		verify(launch, times(1)).finishTestItem(same(childUuid), any());
+
+		ArgumentCaptor<FinishTestItemRQ> rollupFinishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, times(1)).finishTestItem(same(rollupUuid), rollupFinishCaptor.capture());
+		FinishTestItemRQ rollupFinish = rollupFinishCaptor.getValue();
+		assertThat(rollupFinish.getStatus(), equalTo(ItemStatus.PASSED.name()));
+		int failures = RollupInvocationCountTest.INVOCATIONS / RollupInvocationCountTest.FAILURE_FREQUENCY;
+		assertThat(
+				rollupFinish.getDescription(),
+				Matchers.startsWith(String.format(
+						"Iterations: %d, passed: %d, failed: 0, skipped: 0, failed within success percentage: %d\n"
+								+ "Success percentage: 90.00%% (required: 80%%)",
+						RollupInvocationCountTest.INVOCATIONS,
+						RollupInvocationCountTest.INVOCATIONS - failures,
+						failures
+				))
+		);
+		assertThat(rollupFinish.getDescription(), containsString("\nLatency: p50 "));
+		assertThat(rollupFinish.getDescription(), Matchers.endsWith("Not reported as separate items: " + (failures - 1)));
+	}
+}
@@ -0,0 +1,109 @@
+package com.epam.reportportal.testng;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.testng.integration.feature.skipped.BeforeClassFailedMultipleTest;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.epam.reportportal.testng.integration.util.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class SkipsSummaryTest {
+	public static class SkipsSummaryListener extends BaseTestNGListener {
+		static Supplier<TestNGService> SERVICE;
+
+		public SkipsSummaryListener() {
+			super(SERVICE.get());
+		}
+
+		public static void initService(Supplier<TestNGService> service) {
+			SERVICE = service;
+		}
+	}
+
+	private final Maybe<String> testUuid = Maybe.just(namedUuid("test"));
+	private final Maybe<String> beforeUuid = Maybe.just(namedUuid("before"));
+	private final Maybe<String> afterUuid = Maybe.just(namedUuid("after"));
+	private final Maybe<String> summaryUuid = Maybe.just(namedUuid("summary"));
+
+	private Launch mockSummaryLaunch(boolean async) {
+		Launch launch = mock(Launch.class);
+		mockLaunch(launch, Maybe.just("launchUuid"), Maybe.just(namedUuid("suite")), testUuid, Arrays.asList(beforeUuid, afterUuid, summaryUuid));
+		if (async) {
+			when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+			when(launch.createVirtualItem()).thenAnswer(i -> Maybe.never());
+			when(launch.startVirtualTestItem(any(), any(), any())).thenAnswer(i -> launch.startTestItem(
+					i.getArgument(0),
+					i.<StartTestItemRQ>getArgument(2)
+			));
+		}
+		AgentParameters parameters = new AgentParameters();
+		parameters.setSkipsSummary(true);
+		parameters.setAsync(async);
+		SkipsSummaryListener.initService(() -> new TestNGService(() -> launch, parameters));
+		return launch;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void verifySkipsSummary(Launch launch) {
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(3)).startTestItem(same(testUuid), startCaptor.capture());
+		List<StartTestItemRQ> starts = startCaptor.getAllValues();
+		assertThat(starts.get(0).getType(), equalTo(TestMethodType.BEFORE_CLASS.name()));
+		assertThat(starts.get(1).getType(), equalTo(TestMethodType.AFTER_CLASS.name()));
+		assertThat(starts.get(2).getType(), equalTo(TestMethodType.STEP.name()));
+		assertThat(starts.get(2).getDescription(), equalTo("Skipped methods: 3, causes: 2"));
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, times(1)).finishTestItem(same(summaryUuid), finishCaptor.capture());
+		assertThat(finishCaptor.getValue().getStatus(), equalTo(ItemStatus.SKIPPED.name()));
+		assertThat(finishCaptor.getValue().getIssue(), sameInstance(Launch.NOT_ISSUE));
+
+		ArgumentCaptor<Function<String, SaveLogRQ>> logCaptor = ArgumentCaptor.forClass(Function.class);
+		verify(launch, times(1)).log(same(summaryUuid), logCaptor.capture());
+		String methodList = logCaptor.getValue().apply(summaryUuid.blockingGet()).getMessage();
+		String className = BeforeClassFailedMultipleTest.class.getCanonicalName();
+		assertThat(methodList, Matchers.startsWith("Cause: java.lang.IllegalStateException: Inside @BeforeClass beforeClassFailed step\n"
+				+ "Methods: 2\n"));
+		assertThat(methodList, containsString("\n- " + className + ".firstTest"));
+		assertThat(methodList, containsString("\n- " + className + ".secondTest"));
+		assertThat(methodList, containsString("Methods: 1\n- " + className + ".dependentTest"));
+	}
+
+	@Test
+	public void verify_methods_skipped_by_a_configuration_failure_are_reported_as_a_single_item() {
+		Launch launch = mockSummaryLaunch(false);
+
+		runTests(Collections.singletonList(SkipsSummaryListener.class), BeforeClassFailedMultipleTest.class);
+
+		verifySkipsSummary(launch);
+	}
+
+	@Test
+	public void verify_methods_skipped_by_a_configuration_failure_are_reported_as_a_single_item_asynchronously() {
+		Launch launch = mockSummaryLaunch(true);
+
+		runTests(Collections.singletonList(SkipsSummaryListener.class), BeforeClassFailedMultipleTest.class);
+
+		verifySkipsSummary(launch);
+		// Before and after class methods only
+		verify(launch, times(2)).createVirtualItem();
+	}
+}
@@ -19,6 +19,7 @@ package com.epam.reportportal.testng;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.step.StepReporter;
 import com.epam.reportportal.utils.MemoizingSupplier;
 import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
 import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
@@ -35,6 +36,8 @@ import org.testng.ITestNGMethod;
 import org.testng.ITestResult;
 import org.testng.internal.ResultMap;
 
+import java.lang.ref.WeakReference;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
@@ -181,6 +184,21 @@ public class TestNGServiceTest {
 
 		testNGService.finishTestMethod(ItemStatus.PASSED, testResult);
 		verify(launch, times(1)).finishTestItem(eq(id), any(FinishTestItemRQ.class));
+		verify(testResult, times(1)).removeAttribute(RP_ID);
+		verify(testResult, never()).setParameters(any());
+	}
+
+	@Test
+	public void finishTestMethodDetachesParameters() {
+		AgentParameters agentParameters = new AgentParameters();
+		agentParameters.setParametersDetach(true);
+		testNGService = new TestNGService(new MemoizingSupplier<>(() -> launch), agentParameters);
+		when(launch.getParameters()).thenReturn(new ListenerParameters());
+		when(testResult.getAttribute(RP_ID)).thenReturn(id);
+		when(testResult.getParameters()).thenReturn(new Object[] { "one", "two" });
+
+		testNGService.finishTestMethod(ItemStatus.PASSED, testResult);
+		verify(testResult, times(1)).setParameters(eq(new Object[2]));
 	}
 
 	@Test
@@ -235,4 +253,37 @@ public class TestNGServiceTest {
 		assertThat("Incorrect id", configParent, is(id));
 	}
 
+	private WeakReference<Object> holdBeforeMethodFinish(Maybe<String> itemId) {
+		Object instance = new Object();
+		ITestResult beforeMethod = mock(ITestResult.class);
+		when(beforeMethod.getInstance()).thenReturn(instance);
+		when(beforeMethod.getMethod()).thenReturn(method);
+		when(beforeMethod.getTestContext()).thenReturn(testContext);
+		when(beforeMethod.isSuccess()).thenReturn(true);
+		lenient().when(beforeMethod.getAttribute(RP_ID)).thenReturn(itemId);
+		lenient().when(beforeMethod.getAttribute(TestNGService.RP_METHOD_TYPE)).thenReturn(TestMethodType.BEFORE_METHOD);
+
+		testNGService.finishTestMethod(ItemStatus.PASSED, beforeMethod);
+		return new WeakReference<>(instance);
+	}
+
+	@Test
+	public void verify_held_before_method_is_finished_after_its_instance_is_collected() throws InterruptedException {
+		when(launch.getParameters()).thenReturn(new ListenerParameters());
+		when(launch.getStepReporter()).thenReturn(StepReporter.NOOP_STEP_REPORTER);
+		Maybe<String> itemId = Maybe.just("before-method");
+		WeakReference<Object> instance = holdBeforeMethodFinish(itemId);
+		verify(launch, never()).finishTestItem(same(itemId), any());
+		when(testContext.getAllTestMethods()).thenReturn(new ITestNGMethod[] { method });
+
+		// Nothing but the agent references the test instance, a weakly held instance is collected here
+		for (int i = 0; i < 100 && instance.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		testNGService.finishTest(testContext);
+
+		verify(launch).finishTestItem(same(itemId), any(FinishTestItemRQ.class));
+	}
 }
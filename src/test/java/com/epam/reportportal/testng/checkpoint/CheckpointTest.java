@@ -0,0 +1,231 @@
+package com.epam.reportportal.testng.checkpoint;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class CheckpointTest {
+	private static final String LAUNCH = "launch";
+	private static final String SUITE = "suite";
+	private static final String TEST = "test";
+	private static final String METHOD = "method";
+	private static final String NESTED_STEP = "nested-step";
+
+	private static ReportPortalClient mockClient() {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.finishTestItem(anyString(), any(FinishTestItemRQ.class))).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.finishLaunch(anyString(), any(FinishExecutionRQ.class))).thenReturn(Maybe.just(new OperationCompletionRS()));
+		return client;
+	}
+
+	private static Checkpoint interruptedLaunch() {
+		Checkpoint checkpoint = new Checkpoint();
+		checkpoint.launchStarted(LAUNCH, 1000);
+		checkpoint.itemStarted(SUITE, null, LAUNCH, 1000, true);
+		checkpoint.itemStarted(TEST, SUITE, LAUNCH, 1100, true);
+		checkpoint.itemStarted("passed-method", TEST, LAUNCH, 1200, true);
+		checkpoint.itemFinished("passed-method", 3000);
+		checkpoint.itemStarted(METHOD, TEST, LAUNCH, 3000, true);
+		checkpoint.itemStarted(NESTED_STEP, METHOD, LAUNCH, 3100, false);
+		return checkpoint;
+	}
+
+	@Test
+	public void verify_dangling_items_are_finished_deepest_first_and_then_the_launch() {
+		ReportPortalClient client = mockClient();
+		Checkpoint checkpoint = interruptedLaunch();
+
+		assertThat(checkpoint.finishDangling(client, 5000, System.currentTimeMillis() + 10000), equalTo(true));
+
+		ArgumentCaptor<FinishTestItemRQ> nestedStep = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		ArgumentCaptor<FinishTestItemRQ> method = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		ArgumentCaptor<FinishTestItemRQ> test = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		ArgumentCaptor<FinishTestItemRQ> suite = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		ArgumentCaptor<FinishExecutionRQ> launch = ArgumentCaptor.forClass(FinishExecutionRQ.class);
+		InOrder order = inOrder(client);
+		order.verify(client).finishTestItem(eq(NESTED_STEP), nestedStep.capture());
+		order.verify(client).finishTestItem(eq(METHOD), method.capture());
+		order.verify(client).finishTestItem(eq(TEST), test.capture());
+		order.verify(client).finishTestItem(eq(SUITE), suite.capture());
+		order.verify(client).finishLaunch(eq(LAUNCH), launch.capture());
+		verifyNoMoreInteractions(client);
+
+		// Running items are interrupted, a nested step does not make a container of its parent
+		assertThat(nestedStep.getValue().getStatus(), equalTo(ItemStatus.INTERRUPTED.name()));
+		assertThat(nestedStep.getValue().getEndTime(), equalTo(new Date(5000)));
+		assertThat(method.getValue().getStatus(), equalTo(ItemStatus.INTERRUPTED.name()));
+		assertThat(method.getValue().getEndTime(), equalTo(new Date(5000)));
+		// Containers' statuses are calculated from their children
+		assertThat(test.getValue().getStatus(), nullValue());
+		assertThat(test.getValue().getEndTime(), equalTo(new Date(5000)));
+		assertThat(suite.getValue().getStatus(), nullValue());
+		assertThat(suite.getValue().getEndTime(), equalTo(new Date(5000)));
+		assertThat(launch.getValue().getEndTime(), equalTo(new Date(5000)));
+
+		assertThat(checkpoint.getItems().keySet(), empty());
+		assertThat(checkpoint.getLaunches(), empty());
+	}
+
+	@Test
+	public void verify_container_is_finished_at_its_last_child_end() {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.finishTestItem(anyString(), any(FinishTestItemRQ.class))).thenReturn(Maybe.just(new OperationCompletionRS()));
+		Checkpoint checkpoint = new Checkpoint();
+		checkpoint.launchStarted(LAUNCH, 1000);
+		checkpoint.itemStarted(SUITE, null, LAUNCH, 1000, true);
+		checkpoint.itemStarted(METHOD, SUITE, LAUNCH, 1200, true);
+		checkpoint.itemFinished(METHOD, 3000);
+
+		assertThat(checkpoint.finishDanglingItems(client, 9000, System.currentTimeMillis() + 10000), equalTo(true));
+
+		ArgumentCaptor<FinishTestItemRQ> suite = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client).finishTestItem(eq(SUITE), suite.capture());
+		verifyNoMoreInteractions(client);
+		assertThat(suite.getValue().getStatus(), nullValue());
+		assertThat(suite.getValue().getEndTime(), equalTo(new Date(3000)));
+		// The launch is left to its owner
+		assertThat(checkpoint.getLaunches(), contains(LAUNCH));
+	}
+
+	@Test
+	public void verify_dangling_items_are_kept_after_the_deadline() {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.finishTestItem(anyString(), any(FinishTestItemRQ.class))).thenReturn(Maybe.never());
+		Checkpoint checkpoint = interruptedLaunch();
+
+		long start = System.currentTimeMillis();
+		assertThat(checkpoint.finishDangling(client, 5000, start + 200), equalTo(false));
+
+		assertThat(System.currentTimeMillis() - start, lessThan(5000L));
+		assertThat(checkpoint.getItems().keySet(), containsInAnyOrder(SUITE, TEST, METHOD, NESTED_STEP));
+		assertThat(checkpoint.getLaunches(), contains(LAUNCH));
+		verify(client, never()).finishLaunch(anyString(), any());
+	}
+
+	@Test
+	public void verify_checkpoint_save_and_load(@TempDir Path directory) throws IOException {
+		Path file = Checkpoint.getFile(directory);
+		Checkpoint checkpoint = interruptedLaunch();
+
+		checkpoint.save(file);
+		Checkpoint loaded = Checkpoint.load(file);
+
+		assertThat(loaded.getLaunches(), contains(LAUNCH));
+		assertThat(loaded.getItems().keySet(), containsInAnyOrder(SUITE, TEST, METHOD, NESTED_STEP));
+		Checkpoint.Item test = loaded.getItems().get(TEST);
+		assertThat(test.getParent(), equalTo(SUITE));
+		assertThat(test.getLaunch(), equalTo(LAUNCH));
+		assertThat(test.getStart(), equalTo(1100L));
+		assertThat(test.getLastChildEnd(), equalTo(3000L));
+		assertThat(test.isStatsChildren(), equalTo(true));
+		assertThat(loaded.getItems().get(NESTED_STEP).isHasStats(), equalTo(false));
+
+		checkpoint.launchFinished(LAUNCH);
+		checkpoint.save(file);
+
+		assertThat("File of finished launches is removed", Files.exists(file), equalTo(false));
+	}
+
+	@Test
+	public void verify_checkpoint_of_dead_process_is_recovered(@TempDir Path directory) throws Exception {
+		Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+		Process process = new ProcessBuilder(java.toString(), "-version").redirectErrorStream(true).start();
+		process.getInputStream().readAllBytes();
+		process.waitFor();
+		Path deadFile = Checkpoint.getFile(directory, Checkpoint.getProcessId(process.toHandle(), "1"));
+		interruptedLaunch().save(deadFile);
+		Path aliveFile = Checkpoint.getFile(directory);
+		interruptedLaunch().save(aliveFile);
+		ReportPortalClient client = mockClient();
+
+		Checkpoint.recover(directory, client, System.currentTimeMillis() + 10000);
+
+		verify(client, times(4)).finishTestItem(anyString(), any(FinishTestItemRQ.class));
+		verify(client).finishLaunch(eq(LAUNCH), any(FinishExecutionRQ.class));
+		assertThat(Files.exists(deadFile), equalTo(false));
+		assertThat("Checkpoint of a running JVM is not touched", Files.exists(aliveFile), equalTo(true));
+	}
+
+	@Test
+	public void verify_checkpoint_of_previous_process_with_the_same_pid_is_recovered(@TempDir Path directory) throws Exception {
+		// E.G. a JVM in a container, which gets the same process ID every time
+		Path previousFile = Checkpoint.getFile(directory, Checkpoint.getProcessId(ProcessHandle.current(), "1"));
+		interruptedLaunch().save(previousFile);
+		Path currentFile = Checkpoint.getFile(directory);
+		ReportPortalClient client = mockClient();
+
+		Checkpoint.recover(directory, client, System.currentTimeMillis() + 10000);
+
+		assertThat(currentFile, not(equalTo(previousFile)));
+		verify(client, times(4)).finishTestItem(anyString(), any(FinishTestItemRQ.class));
+		verify(client).finishLaunch(eq(LAUNCH), any(FinishExecutionRQ.class));
+		assertThat(Files.exists(previousFile), equalTo(false));
+	}
+
+	@Test
+	public void verify_checkpoint_client_records_started_and_finished_items(@TempDir Path directory) {
+		ReportPortalClient delegate = mockClient();
+		StartLaunchRS launchRs = new StartLaunchRS();
+		launchRs.setId(LAUNCH);
+		when(delegate.startLaunch(any())).thenReturn(Maybe.just(launchRs));
+		when(delegate.startTestItem(any())).thenReturn(Maybe.just(new ItemCreatedRS(SUITE, SUITE)));
+		when(delegate.startTestItem(eq(SUITE), any())).thenReturn(Maybe.just(new ItemCreatedRS(METHOD, METHOD)));
+		Checkpoint checkpoint = new Checkpoint();
+		CheckpointClient client = new CheckpointClient(delegate, checkpoint, Checkpoint.getFile(directory), 10000);
+
+		StartLaunchRQ launchRq = new StartLaunchRQ();
+		launchRq.setStartTime(new Date(1000));
+		client.startLaunch(launchRq).blockingGet();
+		StartTestItemRQ itemRq = new StartTestItemRQ();
+		itemRq.setLaunchUuid(LAUNCH);
+		itemRq.setStartTime(new Date(1100));
+		client.startTestItem(itemRq).blockingGet();
+		client.startTestItem(SUITE, itemRq).blockingGet();
+
+		assertThat(checkpoint.getLaunches(), contains(LAUNCH));
+		assertThat(checkpoint.getItems().keySet(), containsInAnyOrder(SUITE, METHOD));
+		assertThat(checkpoint.getItems().get(METHOD).getParent(), equalTo(SUITE));
+
+		FinishTestItemRQ finishRq = new FinishTestItemRQ();
+		finishRq.setEndTime(new Date(2000));
+		client.finishTestItem(METHOD, finishRq).blockingGet();
+
+		assertThat(checkpoint.getItems().keySet(), contains(SUITE));
+		assertThat(checkpoint.getItems().get(SUITE).getLastChildEnd(), equalTo(2000L));
+
+		client.finishLaunch(LAUNCH, new FinishExecutionRQ()).blockingGet();
+
+		assertThat(checkpoint.getLaunches(), empty());
+		assertThat(checkpoint.getItems().keySet(), empty());
+	}
+}
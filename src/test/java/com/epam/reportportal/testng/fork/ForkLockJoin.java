@@ -0,0 +1,16 @@
+package com.epam.reportportal.testng.fork;
+
+import java.nio.file.Paths;
+
+/**
+ * Fork which joins the shared launch, prints its UUID and dies without leaving the launch.
+ */
+public class ForkLockJoin {
+	public static final String LAUNCH_PREFIX = "launch: ";
+
+	public static void main(String[] args) throws Exception {
+		String launch = new ForkLock(Paths.get(args[0])).join(rerunOf -> "fork-launch");
+		System.out.println(LAUNCH_PREFIX + launch);
+		System.out.flush();
+	}
+}
@@ -0,0 +1,161 @@
+package com.epam.reportportal.testng.fork;
+
+import com.epam.reportportal.util.test.ProcessUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ForkLockTest {
+	private static final int FORKS = 8;
+
+	@Test
+	public void verify_first_fork_starts_the_launch_and_last_fork_finishes_it(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("rp.lock");
+		AtomicInteger starts = new AtomicInteger();
+		ForkLock first = new ForkLock(file);
+		ForkLock second = new ForkLock(file);
+
+		assertThat(first.join(rerunOf -> "launch-" + starts.incrementAndGet()), equalTo("launch-1"));
+		assertThat(second.join(rerunOf -> "launch-" + starts.incrementAndGet()), equalTo("launch-1"));
+		assertThat(first.leave(), equalTo(false));
+		assertThat(second.leave(), equalTo(true));
+
+		// The next build starts a new launch
+		assertThat(new ForkLock(file).join(rerunOf -> "launch-" + starts.incrementAndGet()), equalTo("launch-2"));
+	}
+
+	@Test
+	public void verify_fork_within_grace_period_reopens_the_finished_launch(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("rp.lock");
+		List<String> rerunOfs = new ArrayList<>();
+		ForkLock first = new ForkLock(file, TimeUnit.MINUTES.toMillis(1));
+
+		assertThat(first.join(rerunOf -> {
+			rerunOfs.add(rerunOf);
+			return "launch-1";
+		}), equalTo("launch-1"));
+		assertThat(first.leave(), equalTo(true));
+		assertThat(first.isInUse("launch-1"), equalTo(false));
+
+		ForkLock second = new ForkLock(file, TimeUnit.MINUTES.toMillis(1));
+		assertThat(second.join(rerunOf -> {
+			rerunOfs.add(rerunOf);
+			return rerunOf;
+		}), equalTo("launch-1"));
+		assertThat(second.isInUse("launch-1"), equalTo(true));
+		assertThat(rerunOfs, equalTo(Arrays.asList(null, "launch-1")));
+		assertThat(second.leave(), equalTo(true));
+
+		// Without the grace period a new launch is started
+		assertThat(new ForkLock(file).join(rerunOf -> rerunOf == null ? "launch-2" : rerunOf), equalTo("launch-2"));
+	}
+
+	@Test
+	public void verify_concurrent_forks_share_a_single_launch(@TempDir Path directory) throws Exception {
+		Path file = directory.resolve("rp.lock");
+		AtomicInteger starts = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(FORKS);
+		try {
+			List<ForkLock> forks = new ArrayList<>();
+			List<Future<String>> joins = new ArrayList<>();
+			for (int i = 0; i < FORKS; i++) {
+				ForkLock fork = new ForkLock(file);
+				forks.add(fork);
+				joins.add(executor.submit(() -> fork.join(rerunOf -> "launch-" + starts.incrementAndGet())));
+			}
+			List<String> launches = new ArrayList<>();
+			for (Future<String> join : joins) {
+				launches.add(join.get(10, TimeUnit.SECONDS));
+			}
+			assertThat(starts.get(), equalTo(1));
+			assertThat(launches.stream().distinct().collect(Collectors.toList()), contains("launch-1"));
+
+			List<Future<Boolean>> leaves = forks.stream().map(f -> executor.submit(f::leave)).collect(Collectors.toList());
+			List<Boolean> last = new ArrayList<>();
+			for (Future<Boolean> leave : leaves) {
+				last.add(leave.get(10, TimeUnit.SECONDS));
+			}
+			assertThat(last.stream().filter(l -> l).count(), equalTo(1L));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void verify_launch_is_started_outside_the_lock_and_joined_once_started(@TempDir Path directory) throws Exception {
+		Path file = directory.resolve("rp.lock");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			ForkLock second = new ForkLock(file);
+			AtomicReference<Future<String>> join = new AtomicReference<>();
+			String launch = new ForkLock(file).join(rerunOf -> {
+				try {
+					// The lock file is available while the launch is starting
+					assertThat(executor.submit(() -> new ForkLock(file).isInUse("launch-1")).get(5, TimeUnit.SECONDS), equalTo(false));
+					join.set(executor.submit(() -> second.join(r -> "launch-2")));
+					Thread.sleep(300);
+					assertThat("The fork waits for the launch start", join.get().isDone(), equalTo(false));
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+				return "launch-1";
+			});
+
+			assertThat(launch, equalTo("launch-1"));
+			assertThat(join.get().get(10, TimeUnit.SECONDS), equalTo("launch-1"));
+			assertThat(second.isInUse("launch-1"), equalTo(true));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void verify_failed_launch_start_lets_another_fork_start_the_launch(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("rp.lock");
+		ForkLock first = new ForkLock(file);
+		IllegalStateException error = new IllegalStateException("Service unavailable");
+
+		assertThat(assertThrows(IllegalStateException.class, () -> first.join(rerunOf -> {
+			throw error;
+		})), sameInstance(error));
+
+		ForkLock second = new ForkLock(file);
+		assertThat(second.join(rerunOf -> "launch-2"), equalTo("launch-2"));
+		assertThat(second.leave(), equalTo(true));
+	}
+
+	@Test
+	public void verify_launch_is_shared_with_another_process_and_its_crash_does_not_keep_the_launch(@TempDir Path directory)
+			throws Exception {
+		Path file = directory.resolve("rp.lock");
+		ForkLock fork = new ForkLock(file);
+		assertThat(fork.join(rerunOf -> "parent-launch"), equalTo("parent-launch"));
+
+		Process process = ProcessUtils.buildProcess(ForkLockJoin.class, file.toString());
+		List<String> output;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			output = reader.lines().collect(Collectors.toList());
+		}
+		assertThat(process.waitFor(30, TimeUnit.SECONDS), equalTo(true));
+		assertThat(output, hasItem(ForkLockJoin.LAUNCH_PREFIX + "parent-launch"));
+
+		// The other process has died without leaving the launch
+		assertThat(fork.leave(), equalTo(true));
+	}
+}
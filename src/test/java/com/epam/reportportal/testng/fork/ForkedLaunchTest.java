@@ -0,0 +1,186 @@
+package com.epam.reportportal.testng.fork;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.testng.checkpoint.Checkpoint;
+import com.epam.reportportal.testng.checkpoint.CheckpointClient;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.testng.integration.util.TestUtils.mockLogging;
+import static com.epam.reportportal.testng.integration.util.TestUtils.standardParameters;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ForkedLaunchTest {
+	private static final String LAUNCH_UUID = "shared-launch";
+
+	private static void reportSuite(Launch launch) {
+		StartTestItemRQ startRq = new StartTestItemRQ();
+		startRq.setName("Suite");
+		startRq.setType("SUITE");
+		startRq.setStartTime(Instant.now());
+		Maybe<String> suite = launch.startTestItem(startRq);
+		FinishTestItemRQ finishRq = new FinishTestItemRQ();
+		finishRq.setEndTime(Instant.now());
+		launch.finishTestItem(suite, finishRq);
+	}
+
+	@Test
+	public void verify_forks_report_to_a_single_launch_finished_by_the_last_fork(@TempDir Path directory) {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.startLaunch(any())).thenReturn(Maybe.just(new StartLaunchRS(LAUNCH_UUID, 1L)));
+		when(client.startTestItem(any())).thenReturn(Maybe.just(new ItemCreatedRS("suite-1", "suite-1")))
+				.thenReturn(Maybe.just(new ItemCreatedRS("suite-2", "suite-2")));
+		when(client.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.finishLaunch(eq(LAUNCH_UUID), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		mockLogging(client);
+		ListenerParameters parameters = standardParameters();
+		Path lockFile = directory.resolve("rp.lock");
+
+		Launch first = ForkedLaunch.create(ReportPortal.create(client, parameters), new StartLaunchRQ(), lockFile);
+		Launch second = ForkedLaunch.create(ReportPortal.create(client, parameters), new StartLaunchRQ(), lockFile);
+		assertThat(first.start().blockingGet(), equalTo(LAUNCH_UUID));
+		assertThat(second.start().blockingGet(), equalTo(LAUNCH_UUID));
+		reportSuite(first);
+		reportSuite(second);
+
+		first.finish(new FinishExecutionRQ());
+
+		verify(client, times(2)).finishTestItem(anyString(), any());
+		verify(client, never()).finishLaunch(anyString(), any());
+
+		second.finish(new FinishExecutionRQ());
+
+		verify(client).startLaunch(any());
+		verify(client).finishLaunch(eq(LAUNCH_UUID), any());
+		ArgumentCaptor<StartTestItemRQ> items = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(2)).startTestItem(items.capture());
+		assertThat(
+				items.getAllValues().stream().map(StartTestItemRQ::getLaunchUuid).collect(Collectors.toList()),
+				contains(LAUNCH_UUID, LAUNCH_UUID)
+		);
+	}
+
+	@Test
+	public void verify_launch_shared_by_live_forks_is_not_finished_by_checkpoint_recovery(@TempDir Path directory) throws Exception {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.startLaunch(any())).thenReturn(Maybe.just(new StartLaunchRS(LAUNCH_UUID, 1L)));
+		when(client.startTestItem(any())).thenReturn(Maybe.just(new ItemCreatedRS("suite-1", "suite-1")))
+				.thenReturn(Maybe.just(new ItemCreatedRS("suite-2", "suite-2")));
+		when(client.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.finishLaunch(eq(LAUNCH_UUID), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		mockLogging(client);
+		ListenerParameters parameters = standardParameters();
+		Path lockFile = directory.resolve("rp.lock");
+		Path checkpoints = directory.resolve("checkpoints");
+		Checkpoint firstCheckpoint = new Checkpoint();
+		ReportPortalClient firstClient = new CheckpointClient(client, firstCheckpoint, checkpoints.resolve("first.json"), 1000);
+		ReportPortalClient secondClient = new CheckpointClient(client, new Checkpoint(), checkpoints.resolve("second.json"), 1000);
+
+		Launch first = ForkedLaunch.create(ReportPortal.create(firstClient, parameters), new StartLaunchRQ(), lockFile);
+		Launch second = ForkedLaunch.create(ReportPortal.create(secondClient, parameters), new StartLaunchRQ(), lockFile);
+		assertThat(first.start().blockingGet(), equalTo(LAUNCH_UUID));
+		assertThat(second.start().blockingGet(), equalTo(LAUNCH_UUID));
+		assertThat(firstCheckpoint.getLaunches(), contains(LAUNCH_UUID));
+		reportSuite(first);
+		reportSuite(second);
+
+		first.finish(new FinishExecutionRQ());
+
+		assertThat("The launch is finished by another fork", firstCheckpoint.getLaunches(), empty());
+
+		// A fork which has died with the launch in its checkpoint
+		Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+		Process process = new ProcessBuilder(java.toString(), "-version").redirectErrorStream(true).start();
+		process.getInputStream().readAllBytes();
+		process.waitFor();
+		Checkpoint deadCheckpoint = new Checkpoint();
+		deadCheckpoint.launchStarted(LAUNCH_UUID, System.currentTimeMillis());
+		deadCheckpoint.itemStarted("suite-0", null, LAUNCH_UUID, System.currentTimeMillis(), true);
+		Path deadFile = checkpoints.resolve("checkpoint-" + process.pid() + "-0-0.json");
+		deadCheckpoint.save(deadFile);
+
+		Checkpoint.recover(checkpoints, client, System.currentTimeMillis() + 10000, new ForkLock(lockFile)::isInUse);
+
+		verify(client).finishTestItem(eq("suite-0"), any());
+		verify(client, never()).finishLaunch(anyString(), any());
+		assertThat(Files.exists(deadFile), equalTo(false));
+
+		second.finish(new FinishExecutionRQ());
+
+		verify(client).finishLaunch(eq(LAUNCH_UUID), any());
+	}
+
+	@Test
+	public void verify_sequential_fork_within_grace_period_reopens_the_launch(@TempDir Path directory) {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.startLaunch(any())).thenReturn(Maybe.just(new StartLaunchRS(LAUNCH_UUID, 1L)));
+		when(client.startTestItem(any())).thenReturn(Maybe.just(new ItemCreatedRS("suite-1", "suite-1")));
+		when(client.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.finishLaunch(eq(LAUNCH_UUID), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		mockLogging(client);
+		ListenerParameters parameters = standardParameters();
+		Path lockFile = directory.resolve("rp.lock");
+		long graceMillis = TimeUnit.MINUTES.toMillis(1);
+
+		Launch first = ForkedLaunch.create(ReportPortal.create(client, parameters), new StartLaunchRQ(), lockFile, graceMillis);
+		assertThat(first.start().blockingGet(), equalTo(LAUNCH_UUID));
+		reportSuite(first);
+		first.finish(new FinishExecutionRQ());
+
+		Launch second = ForkedLaunch.create(ReportPortal.create(client, parameters), new StartLaunchRQ(), lockFile, graceMillis);
+		assertThat(second.start().blockingGet(), equalTo(LAUNCH_UUID));
+		second.finish(new FinishExecutionRQ());
+
+		ArgumentCaptor<StartLaunchRQ> starts = ArgumentCaptor.forClass(StartLaunchRQ.class);
+		verify(client, times(2)).startLaunch(starts.capture());
+		assertThat(starts.getAllValues().get(0).isRerun(), equalTo(false));
+		assertThat(starts.getAllValues().get(1).isRerun(), equalTo(true));
+		assertThat(starts.getAllValues().get(1).getRerunOf(), equalTo(LAUNCH_UUID));
+		verify(client, times(2)).finishLaunch(eq(LAUNCH_UUID), any());
+	}
+
+	@Test
+	public void verify_launch_which_failed_to_start_is_not_started_again(@TempDir Path directory) throws Exception {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.startLaunch(any())).thenReturn(Maybe.error(new IllegalStateException("Service unavailable")));
+		ListenerParameters parameters = standardParameters();
+		Path lockFile = directory.resolve("rp.lock");
+
+		Launch launch = ForkedLaunch.create(ReportPortal.create(client, parameters), new StartLaunchRQ(), lockFile);
+		launch.start();
+
+		verify(client).startLaunch(any());
+		// The lock file is not left with a fork starting the launch
+		assertThat(new ForkLock(lockFile).join(rerunOf -> "next-launch"), equalTo("next-launch"));
+	}
+}
@@ -0,0 +1,24 @@
+package com.epam.reportportal.testng.integration.feature.configuration;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PassedConfigurationTest {
+
+	@BeforeMethod
+	public void beforeMethod() {
+	}
+
+	@Test
+	public void firstTest() {
+	}
+
+	@Test
+	public void secondTest() {
+	}
+
+	@AfterMethod
+	public void afterMethod() {
+	}
+}
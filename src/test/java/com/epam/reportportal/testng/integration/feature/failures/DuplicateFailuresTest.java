@@ -0,0 +1,22 @@
+package com.epam.reportportal.testng.integration.feature.failures;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class DuplicateFailuresTest {
+	public static final int ROWS = 3;
+
+	@DataProvider(name = "rows")
+	public static Object[][] getRows() {
+		return new Object[][] { { 0 }, { 1 }, { 2 } };
+	}
+
+	private static void connect(int row) {
+		throw new IllegalStateException("Environment is down for row " + row);
+	}
+
+	@Test(dataProvider = "rows")
+	public void duplicatedTest(int row) {
+		connect(row);
+	}
+}
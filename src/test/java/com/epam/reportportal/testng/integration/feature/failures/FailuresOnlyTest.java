@@ -0,0 +1,28 @@
+package com.epam.reportportal.testng.integration.feature.failures;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class FailuresOnlyTest {
+
+	@BeforeMethod
+	public void beforeMethod() {
+	}
+
+	@Test
+	public void firstPassedTest() {
+	}
+
+	@Test
+	public void failedTest() {
+		throw new IllegalStateException("Expected failure");
+	}
+
+	@Test(dependsOnMethods = "failedTest")
+	public void skippedTest() {
+	}
+
+	@Test
+	public void secondPassedTest() {
+	}
+}
@@ -0,0 +1,22 @@
+package com.epam.reportportal.testng.integration.feature.rollup;
+
+import com.epam.reportportal.testng.annotations.Rollup;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class RollupAnnotatedTest {
+
+	@DataProvider(name = "rows")
+	public static Object[][] getRows() {
+		return new Object[][] { { "one" }, { "two" }, { "three" } };
+	}
+
+	@Rollup
+	@Test(dataProvider = "rows")
+	public void rolledUpTest(String row) {
+	}
+
+	@Test(dataProvider = "rows")
+	public void separateItemsTest(String row) {
+	}
+}
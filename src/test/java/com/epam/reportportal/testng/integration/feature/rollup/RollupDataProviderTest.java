@@ -0,0 +1,20 @@
+package com.epam.reportportal.testng.integration.feature.rollup;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class RollupDataProviderTest {
+	public static final int FAILED_ROW = 3;
+
+	@DataProvider(name = "rows")
+	public static Object[][] getRows() {
+		return new Object[][] { { 0 }, { 1 }, { 2 }, { 3 }, { 4 } };
+	}
+
+	@Test(dataProvider = "rows")
+	public void rolledUpTest(int row) {
+		if (row == FAILED_ROW) {
+			throw new IllegalStateException("Row " + row + " failed");
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.epam.reportportal.testng.integration.feature.rollup;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RollupInvocationCountTest {
+	public static final int INVOCATIONS = 20;
+	public static final int FAILURE_FREQUENCY = 10;
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	@Test(invocationCount = INVOCATIONS, threadPoolSize = 4, successPercentage = 80)
+	public void loadTest() throws InterruptedException {
+		Thread.sleep(1);
+		if (counter.incrementAndGet() % FAILURE_FREQUENCY == 0) {
+			throw new IllegalStateException("Request timed out");
+		}
+	}
+}
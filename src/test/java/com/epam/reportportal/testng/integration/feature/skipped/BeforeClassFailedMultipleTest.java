@@ -0,0 +1,36 @@
+package com.epam.reportportal.testng.integration.feature.skipped;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class BeforeClassFailedMultipleTest {
+	private static final Logger LOGGER = LoggerFactory.getLogger(BeforeClassFailedMultipleTest.class);
+
+	@BeforeClass
+	public void beforeClassFailed() {
+		throw new IllegalStateException("Inside @BeforeClass beforeClassFailed step");
+	}
+
+	@Test
+	public void firstTest() {
+		LOGGER.info("Test: firstTest");
+	}
+
+	@Test
+	public void secondTest() {
+		LOGGER.info("Test: secondTest");
+	}
+
+	@Test(dependsOnMethods = "firstTest")
+	public void dependentTest() {
+		LOGGER.info("Test: dependentTest");
+	}
+
+	@AfterClass
+	public void shutDown() {
+		LOGGER.info("Inside @AfterClass shutDown step");
+	}
+}
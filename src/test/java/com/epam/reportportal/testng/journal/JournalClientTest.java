@@ -0,0 +1,92 @@
+package com.epam.reportportal.testng.journal;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.testng.integration.TestNgListener;
+import com.epam.reportportal.testng.integration.feature.nested.NestedStepFeatureFailedTest;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.testng.integration.util.TestUtils.runTests;
+import static com.epam.reportportal.testng.integration.util.TestUtils.standardParameters;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JournalClientTest {
+
+	private static List<JournalEvent> ofType(List<JournalEvent> events, JournalEventType type) {
+		return events.stream().filter(e -> e.getType() == type).collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_launch_is_written_to_journal_with_consistent_item_tree(@TempDir Path directory) throws IOException {
+		try (Journal journal = new Journal(directory, 64 * 1024)) {
+			TestNgListener.initReportPortal(ReportPortal.create(new JournalClient(journal), standardParameters()));
+
+			runTests(singletonList(TestNgListener.class), NestedStepFeatureFailedTest.class);
+		}
+
+		List<JournalEvent> events = JournalReader.read(directory);
+
+		assertThat(events.get(0).getType(), equalTo(JournalEventType.START_LAUNCH));
+		String launchUuid = events.get(0).getId();
+		assertThat(events.get(0).getRequest(StartLaunchRQ.class).getUuid(), equalTo(launchUuid));
+		assertThat(ofType(events, JournalEventType.FINISH_LAUNCH), hasSize(1));
+		assertThat(ofType(events, JournalEventType.FINISH_LAUNCH).get(0).getId(), equalTo(launchUuid));
+
+		// suite, test, test method and nested step
+		List<JournalEvent> starts = ofType(events, JournalEventType.START_ITEM);
+		assertThat(starts, hasSize(4));
+		Set<String> started = new HashSet<>();
+		Set<String> finished = new HashSet<>();
+		for (JournalEvent event : events) {
+			if (event.getType() == JournalEventType.START_ITEM) {
+				StartTestItemRQ rq = event.getRequest(StartTestItemRQ.class);
+				assertThat(rq.getUuid(), equalTo(event.getId()));
+				assertThat(rq.getLaunchUuid(), equalTo(launchUuid));
+				if (event.getParentId() != null) {
+					assertThat("Parent is started before its child", started, hasItem(event.getParentId()));
+				}
+				started.add(event.getId());
+			} else if (event.getType() == JournalEventType.FINISH_ITEM) {
+				assertThat("Item is started before its finish", started, hasItem(event.getId()));
+				finished.add(event.getId());
+			}
+		}
+		assertThat(finished, equalTo(started));
+		// Suite and test statuses are calculated by ReportPortal
+		assertThat(
+				ofType(events, JournalEventType.FINISH_ITEM).stream()
+						.map(e -> e.getRequest(FinishTestItemRQ.class).getStatus())
+						.filter(Objects::nonNull)
+						.collect(Collectors.toList()),
+				contains("FAILED", "FAILED")
+		);
+
+		List<JournalEvent> logs = ofType(events, JournalEventType.LOG_BATCH);
+		assertThat(logs, not(empty()));
+		StringBuilder logContent = new StringBuilder();
+		for (JournalEvent log : logs) {
+			for (MultipartBody.Part part : log.getLogParts()) {
+				Buffer buffer = new Buffer();
+				part.body().writeTo(buffer);
+				logContent.append(buffer.readString(StandardCharsets.UTF_8));
+			}
+		}
+		assertThat(logContent.toString(), containsString("Some random error"));
+	}
+}
@@ -0,0 +1,370 @@
+package com.epam.reportportal.testng.journal;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.*;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class JournalReplayerTest {
+	private static final int SUITES = 3;
+	private static final int TESTS = 5;
+	private static final int ITEMS = 1 + SUITES + SUITES * TESTS;
+
+	/**
+	 * Stand-in ReportPortal server which keeps the launch tree in memory and rejects requests which break its order.
+	 */
+	private static class StandInServer implements ReportPortalClient {
+		private final Set<String> launches = ConcurrentHashMap.newKeySet();
+		private final Set<String> finishedLaunches = ConcurrentHashMap.newKeySet();
+		private final Map<String, String> parents = new ConcurrentHashMap<>();
+		private final Map<String, String> itemLaunches = new ConcurrentHashMap<>();
+		private final Set<String> finishedItems = ConcurrentHashMap.newKeySet();
+		private final List<String> itemStarts = new CopyOnWriteArrayList<>();
+		private final List<String> violations = new CopyOnWriteArrayList<>();
+		private final AtomicInteger logs = new AtomicInteger();
+		private final AtomicInteger calls = new AtomicInteger();
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+		private volatile int downAfterCall = -1;
+		private volatile boolean down;
+
+		private <T> Maybe<T> call(String violation, T response) {
+			int current = inFlight.incrementAndGet();
+			maxInFlight.accumulateAndGet(current, Math::max);
+			try {
+				Thread.sleep(2);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				inFlight.decrementAndGet();
+			}
+			if (violation != null) {
+				violations.add(violation);
+				return Maybe.error(new IllegalStateException(violation));
+			}
+			if (calls.incrementAndGet() == downAfterCall) {
+				// The request is applied, but the response is lost
+				down = true;
+			}
+			if (down) {
+				return Maybe.error(new IllegalStateException("Connection reset"));
+			}
+			return Maybe.just(response);
+		}
+
+		private boolean isStarted(String item) {
+			return item != null && parents.containsKey(item);
+		}
+
+		@Override
+		public Maybe<ApiInfo> getApiInfo() {
+			return Maybe.empty();
+		}
+
+		@Override
+		public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+			if (down) {
+				return Maybe.error(new IllegalStateException("Connection refused"));
+			}
+			if (!launches.add(rq.getUuid())) {
+				return Maybe.error(new IllegalStateException("Duplicate launch"));
+			}
+			return call(null, new StartLaunchRS(rq.getUuid(), 1L));
+		}
+
+		@Override
+		public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+			return Maybe.empty();
+		}
+
+		@Override
+		public Maybe<LaunchResource> updateLaunch(String launch, UpdateLaunchRQ rq) {
+			return Maybe.empty();
+		}
+
+		@Override
+		public synchronized Maybe<OperationCompletionRS> finishLaunch(String launch, FinishExecutionRQ rq) {
+			if (down) {
+				return Maybe.error(new IllegalStateException("Connection refused"));
+			}
+			String violation = null;
+			if (!launches.contains(launch)) {
+				violation = "Launch finish before start: " + launch;
+			} else if (itemLaunches.entrySet().stream().anyMatch(e -> launch.equals(e.getValue()) && !finishedItems.contains(e.getKey()))) {
+				violation = "Launch finish before its items finish: " + launch;
+			}
+			if (violation == null && !finishedLaunches.add(launch)) {
+				return Maybe.error(new IllegalStateException("Launch is already finished"));
+			}
+			return call(violation, new OperationCompletionRS());
+		}
+
+		@Override
+		public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+			return startTestItem(null, rq);
+		}
+
+		@Override
+		public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+			if (down) {
+				return Maybe.error(new IllegalStateException("Connection refused"));
+			}
+			String violation = null;
+			if (!launches.contains(rq.getLaunchUuid())) {
+				violation = "Item start before launch start: " + rq.getName();
+			} else if (parent != null && (!isStarted(parent) || finishedItems.contains(parent))) {
+				violation = "Item start before parent start: " + rq.getName();
+			}
+			if (violation == null) {
+				if (parents.putIfAbsent(rq.getUuid(), String.valueOf(parent)) != null) {
+					return Maybe.error(new IllegalStateException("Duplicate item"));
+				}
+				itemLaunches.put(rq.getUuid(), rq.getLaunchUuid());
+				itemStarts.add(rq.getUuid());
+			}
+			return call(violation, new ItemCreatedRS(rq.getUuid(), rq.getUuid()));
+		}
+
+		@Override
+		public synchronized Maybe<OperationCompletionRS> finishTestItem(String item, FinishTestItemRQ rq) {
+			if (down) {
+				return Maybe.error(new IllegalStateException("Connection refused"));
+			}
+			String violation = null;
+			if (!isStarted(item)) {
+				violation = "Item finish before start: " + item;
+			} else if (parents.entrySet().stream().anyMatch(e -> item.equals(e.getValue()) && !finishedItems.contains(e.getKey()))) {
+				violation = "Item finish before its children finish: " + item;
+			}
+			if (violation == null && !finishedItems.add(item)) {
+				return Maybe.error(new IllegalStateException("Item is already finished"));
+			}
+			return call(violation, new OperationCompletionRS());
+		}
+
+		@Override
+		public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+			if (down) {
+				return Maybe.error(new IllegalStateException("Connection refused"));
+			}
+			logs.incrementAndGet();
+			return call(isStarted(rq.getItemUuid()) ? null : "Log before item start", new EntryCreatedAsyncRS());
+		}
+
+		@Override
+		public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> parts) {
+			if (down) {
+				return Maybe.error(new IllegalStateException("Connection refused"));
+			}
+			List<SaveLogRQ> rqs = JournalEvent.ofLogBatch(parts).getLogRequests();
+			logs.addAndGet(rqs.size());
+			boolean started = rqs.stream().allMatch(rq -> isStarted(rq.getItemUuid()));
+			return call(started ? null : "Log before item start", new BatchSaveOperatingRS());
+		}
+
+		@Override
+		public Maybe<LaunchResource> getLaunchByUuid(String launchUuid) {
+			if (down) {
+				return Maybe.error(new IllegalStateException("Connection refused"));
+			}
+			if (!launches.contains(launchUuid)) {
+				return Maybe.empty();
+			}
+			LaunchResource launch = new LaunchResource();
+			launch.setUuid(launchUuid);
+			launch.setEndTime(finishedLaunches.contains(launchUuid) ? new Date() : null);
+			return Maybe.just(launch);
+		}
+
+		@Override
+		public Maybe<TestItemResource> getItemByUuid(String itemUuid) {
+			if (down) {
+				return Maybe.error(new IllegalStateException("Connection refused"));
+			}
+			if (!isStarted(itemUuid)) {
+				return Maybe.empty();
+			}
+			TestItemResource item = new TestItemResource();
+			item.setUuid(itemUuid);
+			item.setEndTime(finishedItems.contains(itemUuid) ? new Date() : null);
+			return Maybe.just(item);
+		}
+
+		@Override
+		public Maybe<ProjectSettingsResource> getProjectSettings() {
+			return Maybe.empty();
+		}
+	}
+
+	private static StartTestItemRQ startRq(String name, String launchUuid) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setType("STEP");
+		rq.setLaunchUuid(launchUuid);
+		rq.setStartTime(Instant.now());
+		return rq;
+	}
+
+	private static FinishTestItemRQ finishRq() {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setStatus("PASSED");
+		rq.setEndTime(Instant.now());
+		return rq;
+	}
+
+	private static void writeJournal(Path directory) throws IOException {
+		try (Journal journal = new Journal(directory, 4 * 1024)) {
+			JournalClient client = new JournalClient(journal);
+			StartLaunchRQ launchRq = new StartLaunchRQ();
+			launchRq.setName("Journal launch");
+			launchRq.setStartTime(Instant.now());
+			String launch = client.startLaunch(launchRq).blockingGet().getId();
+			String root = client.startTestItem(startRq("root", launch)).blockingGet().getId();
+			List<String> suites = new ArrayList<>();
+			for (int s = 0; s < SUITES; s++) {
+				suites.add(client.startTestItem(root, startRq("suite " + s, launch)).blockingGet().getId());
+			}
+			// Tests of the suites are interleaved in the journal, like they are in a parallel run
+			for (int t = 0; t < TESTS; t++) {
+				for (String suite : suites) {
+					String test = client.startTestItem(suite, startRq("test " + t, launch)).blockingGet().getId();
+					SaveLogRQ log = new SaveLogRQ();
+					log.setLaunchUuid(launch);
+					log.setItemUuid(test);
+					log.setLevel("INFO");
+					log.setMessage("Log of " + test);
+					log.setLogTime(new Date());
+					client.log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(log))).blockingGet();
+					client.finishTestItem(test, finishRq()).blockingGet();
+				}
+			}
+			suites.forEach(suite -> client.finishTestItem(suite, finishRq()).blockingGet());
+			client.finishTestItem(root, finishRq()).blockingGet();
+			FinishExecutionRQ finishLaunchRq = new FinishExecutionRQ();
+			finishLaunchRq.setEndTime(Instant.now());
+			client.finishLaunch(launch, finishLaunchRq).blockingGet();
+		}
+	}
+
+	@Test
+	public void verify_journal_is_uploaded_concurrently_respecting_item_order(@TempDir Path directory) throws Exception {
+		writeJournal(directory);
+		StandInServer server = new StandInServer();
+
+		JournalReplayer.Result result = new JournalReplayer(server, directory, 4).replay();
+
+		assertThat(server.violations, empty());
+		assertThat(server.itemStarts, hasSize(ITEMS));
+		assertThat(server.finishedItems, hasSize(ITEMS));
+		assertThat(server.finishedLaunches, hasSize(1));
+		assertThat(server.logs.get(), equalTo(SUITES * TESTS));
+		assertThat("Independent suites are uploaded concurrently", server.maxInFlight.get(), greaterThan(1));
+
+		assertThat(result.getItems(), equalTo(ITEMS));
+		assertThat(result.getLogRequests(), equalTo(SUITES * TESTS));
+		assertThat(result.getEvents(), equalTo(2 + ITEMS * 2 + SUITES * TESTS));
+		assertThat(result.getSkippedEvents(), equalTo(0));
+		assertThat(result.getItemsPerSecond(), greaterThan(0.0));
+		assertThat(result.toString(), containsString("items/s"));
+	}
+
+	@Test
+	public void verify_interrupted_upload_is_resumed_from_acknowledged_events(@TempDir Path directory) throws Exception {
+		writeJournal(directory);
+		StandInServer server = new StandInServer();
+		server.downAfterCall = ITEMS;
+
+		JournalReplayer replayer = new JournalReplayer(server, directory, 4);
+		assertThrows(ExecutionException.class, replayer::replay);
+		int uploaded = server.calls.get();
+		assertThat(server.finishedLaunches, empty());
+		server.down = false;
+
+		JournalReplayer.Result result = replayer.replay();
+
+		assertThat(server.violations, empty());
+		assertThat("Every item is started once", server.itemStarts, hasSize(ITEMS));
+		assertThat(new HashSet<>(server.itemStarts), hasSize(ITEMS));
+		assertThat(server.finishedItems, hasSize(ITEMS));
+		assertThat(server.finishedLaunches, hasSize(1));
+		assertThat(result.getSkippedEvents(), greaterThan(0));
+		assertThat(result.getSkippedEvents(), lessThan(uploaded));
+
+		JournalReplayer.Result repeated = replayer.replay();
+		assertThat(repeated.getEvents(), equalTo(0));
+		assertThat(repeated.getSkippedEvents(), equalTo(2 + ITEMS * 2 + SUITES * TESTS));
+	}
+
+	@Test
+	public void verify_upload_fails_on_error_instead_of_hanging(@TempDir Path directory) throws Exception {
+		writeJournal(directory);
+		StandInServer server = new StandInServer() {
+			@Override
+			public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+				if (parent != null) {
+					throw new NoClassDefFoundError("okhttp3/internal/Util");
+				}
+				return super.startTestItem(parent, rq);
+			}
+		};
+
+		JournalReplayer replayer = new JournalReplayer(server, directory, 4);
+		ExecutionException error = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> assertThrows(ExecutionException.class, replayer::replay));
+
+		assertThat(error.getCause(), instanceOf(NoClassDefFoundError.class));
+		assertThat(server.finishedLaunches, empty());
+	}
+
+	@Test
+	public void verify_upload_is_resumed_after_a_journal_is_added(@TempDir Path temp) throws Exception {
+		Path directory = temp.resolve("journal");
+		Path otherDirectory = temp.resolve("other");
+		// The added journal is older, so its events go first in the directory
+		writeJournal(otherDirectory);
+		Thread.sleep(2);
+		writeJournal(directory);
+		StandInServer server = new StandInServer();
+		server.downAfterCall = ITEMS;
+
+		JournalReplayer replayer = new JournalReplayer(server, directory, 4);
+		assertThrows(ExecutionException.class, replayer::replay);
+		server.down = false;
+		for (Path segment : JournalReader.getSegments(otherDirectory)) {
+			Files.copy(segment, directory.resolve(segment.getFileName()));
+		}
+
+		JournalReplayer.Result result = replayer.replay();
+
+		assertThat(server.violations, empty());
+		assertThat("Every item is started once", server.itemStarts, hasSize(ITEMS * 2));
+		assertThat(new HashSet<>(server.itemStarts), hasSize(ITEMS * 2));
+		assertThat(server.finishedItems, hasSize(ITEMS * 2));
+		assertThat(server.finishedLaunches, hasSize(2));
+		assertThat(server.logs.get(), greaterThanOrEqualTo(SUITES * TESTS * 2));
+		assertThat(result.getSkippedEvents(), greaterThan(0));
+		assertThat(result.getSkippedEvents() + result.getEvents(), equalTo((2 + ITEMS * 2 + SUITES * TESTS) * 2));
+	}
+}
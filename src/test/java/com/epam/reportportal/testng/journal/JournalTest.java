@@ -0,0 +1,123 @@
+package com.epam.reportportal.testng.journal;
+
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JournalTest {
+
+	private static JournalEvent event(int i) {
+		return new JournalEvent(JournalEventType.LOG, "item-" + i, null, ("message " + i).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void verify_events_are_read_back_in_write_order(@TempDir Path directory) throws IOException {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setStatus("PASSED");
+		try (Journal journal = new Journal(directory, 1024)) {
+			journal.write(JournalEvent.of(JournalEventType.START_ITEM, "child", "parent", rq));
+			journal.write(JournalEvent.of(JournalEventType.FINISH_ITEM, "child", null, rq));
+		}
+
+		List<JournalEvent> events = JournalReader.read(directory);
+
+		assertThat(events, hasSize(2));
+		assertThat(events.get(0).getType(), equalTo(JournalEventType.START_ITEM));
+		assertThat(events.get(0).getId(), equalTo("child"));
+		assertThat(events.get(0).getParentId(), equalTo("parent"));
+		assertThat(events.get(1).getType(), equalTo(JournalEventType.FINISH_ITEM));
+		assertThat(events.get(1).getParentId(), nullValue());
+		assertThat(events.get(1).getRequest(FinishTestItemRQ.class).getStatus(), equalTo("PASSED"));
+	}
+
+	@Test
+	public void verify_full_segments_are_rolled_over(@TempDir Path directory) throws IOException {
+		try (Journal journal = new Journal(directory, 256)) {
+			IntStream.range(0, 50).forEach(i -> journal.write(event(i)));
+			// A record bigger than a segment gets a segment of its own
+			journal.write(new JournalEvent(JournalEventType.LOG, "big", null, new byte[1024]));
+		}
+
+		assertThat(JournalReader.getSegments(directory).size(), greaterThan(2));
+		List<JournalEvent> events = JournalReader.read(directory);
+		assertThat(events, hasSize(51));
+		assertThat(
+				events.stream().map(JournalEvent::getId).collect(Collectors.toList()).subList(0, 50),
+				equalTo(IntStream.range(0, 50).mapToObj(i -> "item-" + i).collect(Collectors.toList()))
+		);
+		assertThat(events.get(50).getBody().length, equalTo(1024));
+	}
+
+	@Test
+	public void verify_only_current_segment_stays_mapped_after_roll_over(@TempDir Path directory) throws IOException {
+		try (Journal journal = new Journal(directory, 256)) {
+			IntStream.range(0, 500).forEach(i -> journal.write(event(i)));
+			journal.force();
+
+			assertThat(JournalReader.getSegments(directory).size(), greaterThan(10));
+			assertThat(journal.getMappedSegments(), equalTo(1));
+		}
+
+		assertThat(JournalReader.read(directory), hasSize(500));
+	}
+
+	@Test
+	public void verify_concurrent_writes_are_not_lost_or_mixed(@TempDir Path directory) throws Exception {
+		int threads = 8;
+		int perThread = 1000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try (Journal journal = new Journal(directory, 16 * 1024)) {
+			IntStream.range(0, threads)
+					.forEach(t -> executor.submit(() -> IntStream.range(0, perThread).forEach(i -> journal.write(event(t * perThread + i)))));
+			executor.shutdown();
+			assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), equalTo(Boolean.TRUE));
+		}
+
+		List<JournalEvent> events = JournalReader.read(directory);
+
+		assertThat(events, hasSize(threads * perThread));
+		assertThat(
+				events.stream().map(JournalEvent::getId).collect(Collectors.toSet()),
+				equalTo(IntStream.range(0, threads * perThread).mapToObj(i -> "item-" + i).collect(Collectors.toSet()))
+		);
+		events.forEach(e -> assertThat(
+				new String(e.getBody(), StandardCharsets.UTF_8),
+				equalTo("message " + e.getId().substring("item-".length()))
+		));
+	}
+
+	@Test
+	public void verify_reading_stops_at_incomplete_record(@TempDir Path directory) throws IOException {
+		try (Journal journal = new Journal(directory, 1024)) {
+			journal.write(event(0));
+			journal.write(event(1));
+		}
+		Path segment = JournalReader.getSegments(directory).get(0);
+		// Emulate a crash while the second record was written: its length is not set yet
+		int secondRecord = Journal.SEGMENT_HEADER_SIZE + Journal.align(Journal.RECORD_HEADER_SIZE + event(0).encode().length);
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(4), secondRecord);
+		}
+
+		List<JournalEvent> events = JournalReader.read(directory);
+
+		assertThat(events, hasSize(1));
+		assertThat(events.get(0).getId(), equalTo("item-0"));
+	}
+}
@@ -0,0 +1,124 @@
+package com.epam.reportportal.testng.journal;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.testng.integration.TestNgListener;
+import com.epam.reportportal.testng.integration.feature.nested.NestedStepFeatureFailedTest;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.testng.integration.util.TestUtils.runTests;
+import static com.epam.reportportal.testng.integration.util.TestUtils.standardParameters;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SpoolingClientTest {
+	private static final long DEADLINE = 1000;
+
+	private static ReportPortalClient mockStarts() {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		when(client.startLaunch(any())).thenAnswer(i -> Maybe.just(new StartLaunchRS(i.<StartLaunchRQ>getArgument(0).getUuid(), 1L)));
+		when(client.startTestItem(any())).thenAnswer(i -> {
+			String uuid = i.<StartTestItemRQ>getArgument(0).getUuid();
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		});
+		when(client.startTestItem(anyString(), any())).thenAnswer(i -> {
+			String uuid = i.<StartTestItemRQ>getArgument(1).getUuid();
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		});
+		when(client.log(anyList())).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+		return client;
+	}
+
+	private static ListenerParameters parameters() {
+		ListenerParameters parameters = standardParameters();
+		// The client waits for the launch finish much longer than the deadline
+		parameters.setReportingTimeout(60);
+		return parameters;
+	}
+
+	private static List<JournalEvent> ofType(List<JournalEvent> events, JournalEventType type) {
+		return events.stream().filter(e -> e.getType() == type).collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_pending_requests_are_spooled_after_the_finish_deadline(@TempDir Path directory) throws Exception {
+		ReportPortalClient server = mockStarts();
+		// ReportPortal hangs on item finishes
+		when(server.finishTestItem(anyString(), any())).thenReturn(Maybe.never());
+		SpoolingClient client = new SpoolingClient(server, directory, 64 * 1024, DEADLINE, 100);
+		TestNgListener.initReportPortal(ReportPortal.create(client, parameters()));
+
+		long start = System.currentTimeMillis();
+		runTests(singletonList(TestNgListener.class), NestedStepFeatureFailedTest.class);
+
+		assertThat(System.currentTimeMillis() - start, lessThan(DEADLINE + 10000));
+		assertThat(client.getSpool(), notNullValue());
+		assertThat(client.getInFlightItems(), equalTo(0));
+		verify(server, times(0)).finishLaunch(anyString(), any());
+
+		List<JournalEvent> events = JournalReader.read(client.getSpool().getDirectory());
+		// Nested step, test method, test and suite finishes and the launch finish
+		assertThat(ofType(events, JournalEventType.START_ITEM), empty());
+		assertThat(ofType(events, JournalEventType.FINISH_ITEM), hasSize(4));
+		assertThat(ofType(events, JournalEventType.FINISH_LAUNCH), hasSize(1));
+
+		ReportPortalClient uploadServer = mock(ReportPortalClient.class);
+		when(uploadServer.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(uploadServer.finishLaunch(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(uploadServer.log(anyList())).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+		new JournalReplayer(uploadServer, client.getSpool().getDirectory(), 2).replay();
+
+		ArgumentCaptor<String> finishedItems = ArgumentCaptor.forClass(String.class);
+		verify(uploadServer, times(4)).finishTestItem(finishedItems.capture(), any());
+		assertThat(
+				finishedItems.getAllValues(),
+				containsInAnyOrder(ofType(events, JournalEventType.FINISH_ITEM).stream().map(JournalEvent::getId).toArray())
+		);
+		verify(uploadServer).finishLaunch(anyString(), any());
+	}
+
+	@Test
+	public void verify_nothing_is_spooled_if_launch_is_finished_in_time(@TempDir Path directory) throws IOException {
+		ReportPortalClient server = mockStarts();
+		when(server.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(server.finishLaunch(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		SpoolingClient client = new SpoolingClient(server, directory, 64 * 1024, DEADLINE, 100);
+		TestNgListener.initReportPortal(ReportPortal.create(client, parameters()));
+
+		runTests(singletonList(TestNgListener.class), NestedStepFeatureFailedTest.class);
+
+		assertThat(client.getSpool(), nullValue());
+		assertThat(client.getSpooled(), equalTo(0L));
+		assertThat(client.getInFlightItems(), equalTo(0));
+		assertThat(client.getSent(), greaterThan(0L));
+		verify(server).finishLaunch(anyString(), any());
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files.count(), equalTo(0L));
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.epam.reportportal.testng.util;
+
+import com.epam.reportportal.service.tree.TestItemTree;
+import org.junit.jupiter.api.Test;
+import org.testng.internal.TestResult;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class ItemTreeUtilsTest {
+
+	private static TestResult testResult(Object... parameters) {
+		TestResult result = TestResult.newEmptyTestResult();
+		result.setParameters(parameters);
+		return result;
+	}
+
+	@Test
+	public void verify_key_is_the_same_for_the_same_invocation() {
+		TestResult result = testResult("one", 1);
+
+		assertThat(ItemTreeUtils.createKey(result), equalTo(ItemTreeUtils.createKey(result)));
+	}
+
+	@Test
+	public void verify_keys_are_different_for_invocations_with_equal_parameters() {
+		TestItemTree.ItemTreeKey first = ItemTreeUtils.createKey(testResult("one", 1));
+		TestItemTree.ItemTreeKey second = ItemTreeUtils.createKey(testResult("one", 1));
+
+		assertThat(first, not(equalTo(second)));
+	}
+
+	@Test
+	public void verify_key_is_not_inherited_with_copied_attributes() {
+		TestResult original = testResult("one", 1);
+		TestItemTree.ItemTreeKey originalKey = ItemTreeUtils.createKey(original);
+		TestResult copy = testResult("one", 1);
+		TestResult.copyAttributes(original, copy);
+
+		assertThat(ItemTreeUtils.createKey(copy), not(equalTo(originalKey)));
+		assertThat(ItemTreeUtils.createKey(original), equalTo(originalKey));
+	}
+}
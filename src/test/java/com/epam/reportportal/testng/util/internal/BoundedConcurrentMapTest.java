@@ -0,0 +1,80 @@
+package com.epam.reportportal.testng.util.internal;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class BoundedConcurrentMapTest {
+
+	@Test
+	public void verify_map_size_not_goes_beyond_the_limit() {
+		int mapLimit = 3;
+		BoundedConcurrentMap<String, String> testMap = new BoundedConcurrentMap<>(mapLimit);
+
+		for (int i = 0; i < mapLimit + 1; i++) {
+			testMap.put(UUID.randomUUID().toString(), RandomStringUtils.insecure().nextAlphanumeric(10));
+		}
+
+		assertThat(testMap.size(), equalTo(mapLimit));
+	}
+
+	@Test
+	public void verify_map_evicts_the_oldest_entry() {
+		BoundedConcurrentMap<String, Boolean> testMap = new BoundedConcurrentMap<>(2);
+		testMap.put("first", Boolean.TRUE);
+		testMap.put("second", Boolean.TRUE);
+		testMap.put("first", Boolean.FALSE);
+		testMap.put("third", Boolean.TRUE);
+
+		assertThat(testMap.containsKey("first"), equalTo(Boolean.FALSE));
+		assertThat(testMap.get("second"), equalTo(Boolean.TRUE));
+		assertThat(testMap.get("third"), equalTo(Boolean.TRUE));
+	}
+
+	@Test
+	public void verify_repeated_put_of_the_same_key_does_not_evict_anything() {
+		BoundedConcurrentMap<String, Boolean> testMap = new BoundedConcurrentMap<>(2);
+		testMap.put("first", Boolean.TRUE);
+		testMap.put("second", Boolean.TRUE);
+		IntStream.range(0, 100).forEach(i -> testMap.put("second", Boolean.TRUE));
+
+		assertThat(testMap.containsKey("first"), equalTo(Boolean.TRUE));
+		assertThat(testMap.size(), equalTo(2));
+	}
+
+	@Test
+	public void verify_map_size_not_goes_beyond_the_limit_with_concurrent_writers() throws Exception {
+		int mapLimit = 1000;
+		int threadNumber = 64;
+		BoundedConcurrentMap<Object, Boolean> testMap = new BoundedConcurrentMap<>(mapLimit);
+		ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+		try {
+			for (Future<?> f : IntStream.range(0, threadNumber).mapToObj(t -> executor.submit(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					Object key = new Object();
+					testMap.put(key, Boolean.TRUE);
+					if (i % 3 == 0) {
+						testMap.remove(key);
+					}
+					assertThat(testMap.size(), lessThanOrEqualTo(mapLimit));
+				}
+			})).collect(Collectors.toList())) {
+				f.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(testMap.size(), allOf(lessThanOrEqualTo(mapLimit), greaterThan(mapLimit / 2)));
+	}
+}
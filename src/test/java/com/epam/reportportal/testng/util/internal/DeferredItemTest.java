@@ -0,0 +1,40 @@
+package com.epam.reportportal.testng.util.internal;
+
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class DeferredItemTest {
+
+	@Test
+	public void verify_placeholder_emits_id_of_the_started_item() {
+		DeferredItem item = new DeferredItem();
+		Maybe<String> itemId = item.getItemId().cache();
+		//noinspection ResultOfMethodCallIgnored
+		itemId.subscribe();
+
+		item.resolve(Maybe.just("item"));
+
+		assertThat(itemId.blockingGet(), equalTo("item"));
+	}
+
+	@Test
+	public void verify_placeholder_completes_empty_if_the_item_is_dropped() {
+		DeferredItem item = new DeferredItem();
+
+		item.drop();
+
+		assertThat(item.getItemId().blockingGet(), nullValue());
+	}
+
+	@Test
+	public void verify_item_is_unbound_only_once() {
+		DeferredItem item = new DeferredItem();
+
+		assertThat(item.unbind(), equalTo(Boolean.TRUE));
+		assertThat(item.unbind(), equalTo(Boolean.FALSE));
+	}
+}
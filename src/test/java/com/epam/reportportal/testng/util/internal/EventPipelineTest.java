@@ -0,0 +1,150 @@
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.testng.AsyncOverflowPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class EventPipelineTest {
+
+	private static Runnable await(CountDownLatch latch) {
+		return () -> {
+			try {
+				latch.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+	}
+
+	private static List<Integer> range(int number) {
+		return IntStream.range(0, number).boxed().collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_events_are_executed_on_pipeline_thread_in_publish_order() {
+		List<Integer> executed = new CopyOnWriteArrayList<>();
+		List<String> threads = new CopyOnWriteArrayList<>();
+		EventPipeline pipeline = new EventPipeline("test-pipeline", 4, AsyncOverflowPolicy.BLOCK);
+
+		range(100).forEach(i -> pipeline.publish(() -> {
+			executed.add(i);
+			threads.add(Thread.currentThread().getName());
+		}, false));
+		pipeline.close();
+
+		assertThat(executed, equalTo(range(100)));
+		assertThat(threads, everyItem(equalTo("test-pipeline")));
+	}
+
+	@Test
+	public void verify_detail_events_are_dropped_if_buffer_is_full() {
+		List<Integer> executed = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		EventPipeline pipeline = new EventPipeline("test-pipeline", 2, AsyncOverflowPolicy.DROP_DETAIL);
+
+		pipeline.publish(await(latch), false);
+		range(10).forEach(i -> pipeline.publish(() -> executed.add(i), true));
+		latch.countDown();
+		pipeline.publish(() -> executed.add(100), false);
+		pipeline.close();
+
+		assertThat(pipeline.getDroppedEvents(), greaterThan(0L));
+		assertThat(executed, hasItem(100));
+		assertThat(executed, hasSize((int) (11 - pipeline.getDroppedEvents())));
+	}
+
+	@Test
+	public void verify_spilled_events_keep_publish_order() {
+		List<Integer> executed = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		EventPipeline pipeline = new EventPipeline("test-pipeline", 2, AsyncOverflowPolicy.SPILL);
+
+		pipeline.publish(await(latch), false);
+		// Does not block on the full buffer
+		range(100).forEach(i -> pipeline.publish(() -> executed.add(i), false));
+		latch.countDown();
+		pipeline.close();
+
+		assertThat(executed, equalTo(range(100)));
+	}
+
+	@Test
+	public void verify_spilled_events_keep_order_of_events_handed_over_between_threads() throws Exception {
+		int number = 20000;
+		List<String> executed = new CopyOnWriteArrayList<>();
+		EventPipeline pipeline = new EventPipeline("test-pipeline", 2, AsyncOverflowPolicy.SPILL);
+		AtomicInteger started = new AtomicInteger(-1);
+
+		// Finishes are published by another thread once their starts are published, like results of timed out tests
+		Thread finisher = new Thread(() -> {
+			for (int i = 0; i < number; i++) {
+				while (started.get() < i) {
+					Thread.onSpinWait();
+				}
+				String finish = "finish-" + i;
+				pipeline.publish(() -> executed.add(finish), false);
+			}
+		});
+		finisher.start();
+		for (int i = 0; i < number; i++) {
+			String start = "start-" + i;
+			pipeline.publish(() -> {
+				executed.add(start);
+				// Let the buffer overflow from time to time
+				LockSupport.parkNanos(1000);
+			}, false);
+			started.set(i);
+		}
+		finisher.join(TimeUnit.SECONDS.toMillis(30));
+		pipeline.close();
+
+		assertThat(executed, hasSize(number * 2));
+		Map<String, Integer> positions = new HashMap<>();
+		for (int i = 0; i < executed.size(); i++) {
+			positions.put(executed.get(i), i);
+		}
+		for (int i = 0; i < number; i++) {
+			assertThat("Finish " + i + " is executed after its start", positions.get("finish-" + i), greaterThan(positions.get("start-" + i)));
+		}
+	}
+
+	@Test
+	public void verify_events_published_after_close_are_executed_on_publishing_thread() {
+		List<String> threads = new CopyOnWriteArrayList<>();
+		EventPipeline pipeline = new EventPipeline("test-pipeline", 2, AsyncOverflowPolicy.BLOCK);
+		pipeline.close();
+
+		pipeline.publish(() -> threads.add(Thread.currentThread().getName()), false);
+
+		assertThat(threads, contains(Thread.currentThread().getName()));
+	}
+
+	@Test
+	public void verify_priority_events_are_executed_before_waiting_events() {
+		List<Integer> executed = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		EventPipeline pipeline = new EventPipeline("test-pipeline", 4, AsyncOverflowPolicy.BLOCK);
+
+		pipeline.publish(await(latch), false);
+		range(3).forEach(i -> pipeline.publish(() -> executed.add(i), false));
+		pipeline.publishPriority(() -> executed.add(100));
+		pipeline.publishPriority(() -> executed.add(101));
+		latch.countDown();
+		pipeline.close();
+
+		assertThat(executed, contains(100, 101, 0, 1, 2));
+	}
+}
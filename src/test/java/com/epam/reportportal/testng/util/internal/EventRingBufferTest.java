@@ -0,0 +1,73 @@
+package com.epam.reportportal.testng.util.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class EventRingBufferTest {
+
+	@Test
+	public void verify_capacity_is_rounded_up_to_a_power_of_two() {
+		assertThat(new EventRingBuffer<>(1).capacity(), equalTo(2));
+		assertThat(new EventRingBuffer<>(1000).capacity(), equalTo(1024));
+		assertThat(new EventRingBuffer<>(1024).capacity(), equalTo(1024));
+	}
+
+	@Test
+	public void verify_elements_are_polled_in_offer_order_until_the_buffer_is_empty() {
+		EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+		for (int lap = 0; lap < 3; lap++) {
+			for (int i = 0; i < 4; i++) {
+				assertThat(buffer.offer(i), equalTo(Boolean.TRUE));
+			}
+			assertThat(buffer.offer(4), equalTo(Boolean.FALSE));
+			assertThat(buffer.size(), equalTo(4));
+			for (int i = 0; i < 4; i++) {
+				assertThat(buffer.poll(), equalTo(i));
+			}
+			assertThat(buffer.poll(), nullValue());
+			assertThat(buffer.isEmpty(), equalTo(Boolean.TRUE));
+		}
+	}
+
+	@Test
+	public void verify_concurrent_producers_keep_their_own_order() throws InterruptedException {
+		int producers = 4;
+		int events = 10000;
+		EventRingBuffer<int[]> buffer = new EventRingBuffer<>(64);
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		IntStream.range(0, producers).forEach(p -> executor.submit(() -> {
+			for (int i = 0; i < events; i++) {
+				while (!buffer.offer(new int[] { p, i })) {
+					Thread.yield();
+				}
+			}
+		}));
+		List<List<Integer>> received = IntStream.range(0, producers).mapToObj(p -> new ArrayList<Integer>()).collect(Collectors.toList());
+		int total = 0;
+		while (total < producers * events) {
+			int[] event = buffer.poll();
+			if (event == null) {
+				Thread.yield();
+				continue;
+			}
+			received.get(event[0]).add(event[1]);
+			total++;
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), equalTo(Boolean.TRUE));
+
+		List<Integer> expected = IntStream.range(0, events).boxed().collect(Collectors.toList());
+		received.forEach(r -> assertThat(r, equalTo(expected)));
+		assertThat(buffer.poll(), nullValue());
+	}
+}
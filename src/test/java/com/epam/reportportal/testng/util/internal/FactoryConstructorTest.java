@@ -0,0 +1,57 @@
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import org.junit.jupiter.api.Test;
+import org.testng.annotations.Factory;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FactoryConstructorTest {
+
+	public static class FactoryTest {
+		@Factory
+		public FactoryTest(@ParameterKey("name") String name, int count) {
+		}
+
+		@Factory
+		public FactoryTest(Long id) {
+		}
+
+		public FactoryTest(String name) {
+		}
+	}
+
+	@Test
+	public void verify_factory_constructor_parameters() {
+		FactoryConstructor constructor = FactoryConstructor.find(FactoryTest.class, new Object[] { "first", 1 });
+
+		assertThat(constructor, notNullValue());
+		List<ParameterResource> parameters = constructor.getParameters(new Object[] { "first", 1 });
+		assertThat(parameters, hasSize(2));
+		assertThat(parameters.get(0).getKey(), equalTo("name"));
+		assertThat(parameters.get(0).getValue(), equalTo("first"));
+		assertThat(parameters.get(1).getKey(), equalTo("int"));
+		assertThat(parameters.get(1).getValue(), equalTo("1"));
+	}
+
+	@Test
+	public void verify_factory_constructor_null_parameter_matches_any_type() {
+		FactoryConstructor constructor = FactoryConstructor.find(FactoryTest.class, new Object[] { null });
+
+		assertThat(constructor, notNullValue());
+		List<ParameterResource> parameters = constructor.getParameters(new Object[] { null });
+		assertThat(parameters, hasSize(1));
+		assertThat(parameters.get(0).getKey(), equalTo(Long.class.getName()));
+		assertThat(parameters.get(0).getValue(), equalTo("NULL"));
+	}
+
+	@Test
+	public void verify_no_factory_constructor_for_mismatched_types() {
+		assertThat(FactoryConstructor.find(FactoryTest.class, new Object[] { "first" }), nullValue());
+		assertThat(FactoryConstructor.find(FactoryTest.class, new Object[] { "first", "second" }), nullValue());
+	}
+}
@@ -0,0 +1,69 @@
+package com.epam.reportportal.testng.util.internal;
+
+import org.junit.jupiter.api.Test;
+import org.testng.internal.TestResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FailureDeduplicatorTest {
+
+	private static List<TestResult> failedResults(int number) {
+		List<TestResult> results = new ArrayList<>();
+		for (int i = 0; i < number; i++) {
+			TestResult result = TestResult.newEmptyTestResult();
+			// The same exception type and stack trace, but a different message
+			result.setThrowable(new IllegalStateException("Environment is down: " + i));
+			results.add(result);
+		}
+		return results;
+	}
+
+	@Test
+	public void verify_only_the_first_failure_is_reported_as_is() {
+		FailureDeduplicator deduplicator = new FailureDeduplicator(5, 100);
+		List<TestResult> results = failedResults(3);
+
+		assertThat(deduplicator.getDuplicateMessage(results.get(0), () -> "first.test"), nullValue());
+		assertThat(
+				deduplicator.getDuplicateMessage(results.get(1), () -> "second.test"),
+				equalTo("Same failure as in first.test, occurrence #2:\n" + IllegalStateException.class.getName()
+						+ ": Environment is down: 1")
+		);
+		assertThat(deduplicator.getDuplicateMessage(results.get(2), () -> "third.test"), startsWith("Same failure as in first.test, occurrence #3"));
+	}
+
+	@Test
+	public void verify_decision_is_made_once_per_result() {
+		FailureDeduplicator deduplicator = new FailureDeduplicator(5, 100);
+		List<TestResult> results = failedResults(2);
+		deduplicator.getDuplicateMessage(results.get(0), () -> "first.test");
+
+		String message = deduplicator.getDuplicateMessage(results.get(1), () -> "second.test");
+
+		assertThat(deduplicator.getDuplicateMessage(results.get(0), () -> "first.test"), nullValue());
+		assertThat(deduplicator.getDuplicateMessage(results.get(1), () -> "second.test"), sameInstance(message));
+	}
+
+	@Test
+	public void verify_different_failures_are_reported_as_is() {
+		FailureDeduplicator deduplicator = new FailureDeduplicator(5, 100);
+		TestResult first = TestResult.newEmptyTestResult();
+		first.setThrowable(new IllegalStateException("Error"));
+		TestResult second = TestResult.newEmptyTestResult();
+		second.setThrowable(new IllegalArgumentException("Error"));
+
+		assertThat(deduplicator.getDuplicateMessage(first, () -> "first.test"), nullValue());
+		assertThat(deduplicator.getDuplicateMessage(second, () -> "second.test"), nullValue());
+	}
+
+	@Test
+	public void verify_no_message_without_throwable() {
+		FailureDeduplicator deduplicator = new FailureDeduplicator(5, 100);
+
+		assertThat(deduplicator.getDuplicateMessage(TestResult.newEmptyTestResult(), () -> "test"), nullValue());
+	}
+}
@@ -0,0 +1,105 @@
+package com.epam.reportportal.testng.util.internal;
+
+import org.junit.jupiter.api.Test;
+import org.testng.internal.TestResult;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.utils.formatting.ExceptionUtils.SKIP_TRACE_MARKER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FailurePayloadTest {
+
+	private static TestResult failedResult(Throwable throwable) {
+		TestResult result = TestResult.newEmptyTestResult();
+		result.setThrowable(throwable);
+		return result;
+	}
+
+	@Test
+	public void verify_no_payload_without_throwable() {
+		assertThat(FailurePayload.of(TestResult.newEmptyTestResult(), 0, FailurePayload::captureRunnerFrames), nullValue());
+	}
+
+	@Test
+	public void verify_payload_is_formatted_once_per_result() {
+		TestResult result = failedResult(new IllegalStateException("My error"));
+
+		FailurePayload payload = FailurePayload.of(result, 0, FailurePayload::captureRunnerFrames);
+
+		assertThat(payload, notNullValue());
+		assertThat(payload.getStackTrace(), startsWith(IllegalStateException.class.getName() + ": My error"));
+		assertThat(FailurePayload.of(result, 0, FailurePayload::captureRunnerFrames), sameInstance(payload));
+	}
+
+	@Test
+	public void verify_payload_is_reformatted_for_a_different_throwable() {
+		TestResult result = failedResult(new IllegalStateException("First error"));
+		FailurePayload first = FailurePayload.of(result, 0, FailurePayload::captureRunnerFrames);
+		result.setThrowable(new IllegalArgumentException("Second error"));
+
+		FailurePayload second = FailurePayload.of(result, 0, FailurePayload::captureRunnerFrames);
+
+		assertThat(second, not(sameInstance(first)));
+		assertThat(second.getStackTrace(), startsWith(IllegalArgumentException.class.getName() + ": Second error"));
+	}
+
+	@Test
+	public void verify_runner_frames_are_collapsed() {
+		Throwable throwable = new IllegalStateException("My error");
+		String[] frames = org.apache.commons.lang3.exception.ExceptionUtils.getStackFrames(throwable);
+
+		String trace = FailurePayload.formatStackTrace(throwable, Collections.singletonList(frames[frames.length - 1]));
+
+		assertThat(trace, endsWith(SKIP_TRACE_MARKER));
+		assertThat(trace, not(containsString(frames[frames.length - 1])));
+		assertThat(trace, containsString(frames[1]));
+	}
+
+	private static StackTraceElement frame(String method, int line) {
+		return new StackTraceElement("com.example.Runner", method, "Runner.java", line);
+	}
+
+	@Test
+	public void verify_only_common_tail_of_the_trace_is_collapsed() {
+		StackTraceElement invoke = frame("invoke", 20);
+		StackTraceElement run = frame("run", 30);
+		Throwable cause = new IllegalArgumentException("My cause");
+		cause.setStackTrace(new StackTraceElement[] { frame("helper", 40), invoke });
+		Throwable throwable = new IllegalStateException("My error", cause);
+		throwable.setStackTrace(new StackTraceElement[] { frame("test", 10), invoke, frame("middle", 50), invoke, run });
+		List<String> runnerFrames = Arrays.stream(new StackTraceElement[] { frame("listener", 60), invoke, run })
+				.map(f -> "\tat " + f)
+				.collect(Collectors.toList());
+
+		String trace = FailurePayload.formatStackTrace(throwable, runnerFrames);
+
+		assertThat(
+				trace, equalTo(String.join(
+						"\n",
+						IllegalStateException.class.getName() + ": My error",
+						"\tat " + frame("test", 10),
+						"\tat " + invoke,
+						"\tat " + frame("middle", 50),
+						SKIP_TRACE_MARKER + "Caused by: " + IllegalArgumentException.class.getName() + ": My cause",
+						"\tat " + frame("helper", 40),
+						"\tat " + invoke,
+						""
+				))
+		);
+	}
+
+	@Test
+	public void verify_stack_trace_is_truncated_to_the_limit() {
+		TestResult result = failedResult(new IllegalStateException("My error"));
+
+		FailurePayload payload = FailurePayload.of(result, 20, FailurePayload::captureRunnerFrames);
+
+		assertThat(payload, notNullValue());
+		assertThat(payload.getStackTrace(), equalTo(IllegalStateException.class.getName().substring(0, 20) + "\n" + SKIP_TRACE_MARKER));
+	}
+}
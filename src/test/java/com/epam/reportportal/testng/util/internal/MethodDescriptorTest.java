@@ -0,0 +1,76 @@
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.annotations.Description;
+import com.epam.reportportal.annotations.DisplayName;
+import com.epam.reportportal.testng.TestMethodType;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+import org.testng.internal.TestNGMethod;
+import org.testng.internal.annotations.DefaultAnnotationTransformer;
+import org.testng.internal.annotations.JDK15AnnotationFinder;
+import org.testng.internal.objects.ObjectFactoryImpl;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class MethodDescriptorTest {
+
+	public static class AnnotatedTest {
+		@Test
+		@DisplayName("My display name")
+		@Description("My description")
+		public void test() {
+		}
+	}
+
+	public static class SimpleTest {
+		@Test
+		public void test() {
+		}
+	}
+
+	private static ITestNGMethod testMethod(Object instance) throws NoSuchMethodException {
+		return new TestNGMethod(
+				new ObjectFactoryImpl(),
+				instance.getClass().getMethod("test"),
+				new JDK15AnnotationFinder(new DefaultAnnotationTransformer()),
+				new XmlTest(new XmlSuite()),
+				new org.testng.internal.IObject.IdentifiableObject(instance)
+		);
+	}
+
+	@org.junit.jupiter.api.Test
+	public void verify_descriptor_contains_method_data() throws NoSuchMethodException {
+		MethodDescriptor descriptor = MethodDescriptor.of(testMethod(new AnnotatedTest()));
+
+		assertThat(descriptor.getType(), equalTo(TestMethodType.STEP));
+		assertThat(descriptor.getCodeRef(), equalTo(AnnotatedTest.class.getName() + ".test"));
+		assertThat(descriptor.getDisplayName(), notNullValue());
+		assertThat(descriptor.getDisplayName().value(), equalTo("My display name"));
+		assertThat(descriptor.getDescription(), notNullValue());
+		assertThat(descriptor.getDescription().value(), equalTo("My description"));
+		assertThat(descriptor.getTest(), notNullValue());
+		assertThat(descriptor.getAttributes(), nullValue());
+		assertThat(descriptor.getIssue(), nullValue());
+	}
+
+	@org.junit.jupiter.api.Test
+	public void verify_descriptor_is_shared_between_test_instances() throws NoSuchMethodException {
+		MethodDescriptor first = MethodDescriptor.of(testMethod(new AnnotatedTest()));
+		MethodDescriptor second = MethodDescriptor.of(testMethod(new AnnotatedTest()));
+
+		assertThat(second, sameInstance(first));
+	}
+
+	@org.junit.jupiter.api.Test
+	public void verify_descriptor_is_separate_for_every_test_class() throws NoSuchMethodException {
+		MethodDescriptor first = MethodDescriptor.of(testMethod(new AnnotatedTest()));
+		MethodDescriptor second = MethodDescriptor.of(testMethod(new SimpleTest()));
+
+		assertThat(second, not(sameInstance(first)));
+		assertThat(second.getCodeRef(), equalTo(SimpleTest.class.getName() + ".test"));
+		assertThat(second.getDisplayName(), nullValue());
+	}
+}
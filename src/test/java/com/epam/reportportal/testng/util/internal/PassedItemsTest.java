@@ -0,0 +1,36 @@
+package com.epam.reportportal.testng.util.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class PassedItemsTest {
+
+	@Test
+	public void verify_summary_has_counts_and_durations_of_steps_and_configurations() {
+		PassedItems items = new PassedItems();
+		items.add(true, 10);
+		items.add(true, 15);
+		items.add(false, 3);
+
+		assertThat(items.getSummary(), equalTo("Passed steps: 2, duration: 25 ms\nPassed configurations: 1, duration: 3 ms"));
+	}
+
+	@Test
+	public void verify_summary_is_null_if_nothing_passed() {
+		assertThat(new PassedItems().getSummary(), nullValue());
+	}
+
+	@Test
+	public void verify_items_are_added_to_other_items() {
+		PassedItems test = new PassedItems();
+		test.add(false, 7);
+		PassedItems suite = new PassedItems();
+		suite.add(false, 1);
+		suite.addAll(test);
+
+		assertThat(suite.getSummary(), equalTo("Passed configurations: 2, duration: 8 ms"));
+	}
+}
@@ -0,0 +1,58 @@
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.testng.TestMethodType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class RetryRegistryTest {
+
+	@Test
+	public void verify_no_retry_without_retried_test_method() {
+		RetryRegistry registry = new RetryRegistry();
+		registry.onTestMethodFinish(false);
+
+		assertThat(registry.isRetry(TestMethodType.BEFORE_METHOD), equalTo(Boolean.FALSE));
+		assertThat(registry.isRetry(TestMethodType.STEP), equalTo(Boolean.FALSE));
+		assertThat(registry.isRetry(TestMethodType.AFTER_METHOD), equalTo(Boolean.FALSE));
+	}
+
+	@Test
+	public void verify_retry_sequence_marks_every_item_until_the_last_attempt_after_methods() {
+		RetryRegistry registry = new RetryRegistry();
+		registry.onTestMethodFinish(true);
+
+		// After methods of the failed attempt and the whole next attempt
+		assertThat(registry.isRetry(TestMethodType.AFTER_METHOD), equalTo(Boolean.TRUE));
+		assertThat(registry.isRetry(TestMethodType.BEFORE_METHOD), equalTo(Boolean.TRUE));
+		assertThat(registry.isRetry(TestMethodType.STEP), equalTo(Boolean.TRUE));
+		registry.onTestMethodFinish(false);
+		assertThat(registry.isRetry(TestMethodType.AFTER_METHOD), equalTo(Boolean.TRUE));
+
+		// Next test invocation
+		assertThat(registry.isRetry(TestMethodType.BEFORE_METHOD), equalTo(Boolean.FALSE));
+		assertThat(registry.isRetry(TestMethodType.AFTER_METHOD), equalTo(Boolean.FALSE));
+	}
+
+	@Test
+	public void verify_retry_sequence_is_closed_by_the_next_test_method_start() {
+		RetryRegistry registry = new RetryRegistry();
+		registry.onTestMethodFinish(true);
+		registry.onTestMethodFinish(false);
+
+		assertThat(registry.isRetry(TestMethodType.STEP), equalTo(Boolean.FALSE));
+		assertThat(registry.isRetry(TestMethodType.AFTER_METHOD), equalTo(Boolean.FALSE));
+	}
+
+	@Test
+	public void verify_retry_sequence_is_bound_to_a_thread() {
+		RetryRegistry registry = new RetryRegistry();
+		registry.onTestMethodFinish(true);
+
+		assertThat(CompletableFuture.supplyAsync(() -> registry.isRetry(TestMethodType.STEP)).join(), equalTo(Boolean.FALSE));
+		assertThat(registry.isRetry(TestMethodType.STEP), equalTo(Boolean.TRUE));
+	}
+}
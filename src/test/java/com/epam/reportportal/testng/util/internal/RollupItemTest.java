@@ -0,0 +1,86 @@
+package com.epam.reportportal.testng.util.internal;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.testng.ITestResult;
+import org.testng.internal.TestResult;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+public class RollupItemTest {
+
+	private static TestResult iteration(int status, int rowIndex, long startMillis, long endMillis) {
+		TestResult result = spy(TestResult.newEmptyTestResult());
+		result.setStatus(status);
+		result.setParameterIndex(rowIndex);
+		result.setEndMillis(endMillis);
+		doReturn(startMillis).when(result).getStartMillis();
+		return result;
+	}
+
+	@Test
+	public void verify_summary_has_counters_latencies_and_passed_row_ranges() {
+		RollupItem rollup = new RollupItem(Maybe.just("rollup"), null, 100, 0);
+		rollup.addIteration(ItemStatus.PASSED, iteration(ITestResult.SUCCESS, 0, 0, 5));
+		rollup.addIteration(ItemStatus.PASSED, iteration(ITestResult.SUCCESS, 1, 5, 10));
+		TestResult retried = iteration(ITestResult.SKIP, 2, 10, 60);
+		retried.setWasRetried(true);
+		rollup.addIteration(ItemStatus.SKIPPED, retried);
+		rollup.addIteration(ItemStatus.FAILED, iteration(ITestResult.FAILURE, 2, 60, 110));
+		rollup.addIteration(ItemStatus.PASSED, iteration(ITestResult.SUCCESS, 3, 110, 2110));
+		rollup.addIteration(ItemStatus.SKIPPED, iteration(ITestResult.SKIP, 4, 2110, 2110));
+		rollup.addIteration(ItemStatus.PASSED, iteration(ITestResult.SUCCESS, 6, 2110, 2111));
+
+		assertThat(
+				rollup.getSummary(), equalTo("Iterations: 7, passed: 4, failed: 1, skipped: 1, retried: 1\n"
+						+ "Throughput: 3.32 iterations/s\n" + "Latency: p50 5 ms, p95 2000 ms, p99 2000 ms, max 2000 ms\n"
+						+ "Durations: < 10 ms: 4, 10-100 ms: 2, 1-10 s: 1\n" + "Passed rows: 0-1, 3, 6\n"
+						+ "Not reported as separate items: 3")
+		);
+		assertThat(rollup.getStatus(), equalTo(ItemStatus.FAILED));
+		assertThat(rollup.getEndMillis(), equalTo(2111L));
+	}
+
+	@Test
+	public void verify_failures_within_success_percentage_do_not_fail_the_rollup() {
+		RollupItem rollup = new RollupItem(Maybe.just("rollup"), null, 50, 0);
+		rollup.addIteration(ItemStatus.PASSED, iteration(ITestResult.SUCCESS, -1, 0, 10));
+		rollup.addIteration(ItemStatus.FAILED, iteration(ITestResult.SUCCESS_PERCENTAGE_FAILURE, -1, 0, 10));
+		rollup.addIteration(ItemStatus.PASSED, iteration(ITestResult.SUCCESS, -1, 0, 10));
+
+		assertThat(rollup.getStatus(), equalTo(ItemStatus.PASSED));
+		assertThat(rollup.getSummary(), startsWith("Iterations: 3, passed: 2, failed: 0, skipped: 0, failed within success percentage: 1\n"
+				+ "Success percentage: 66.67% (required: 50%)\n" + "Throughput: 300.00 iterations/s\n"));
+		assertThat(rollup.getSummary(), not(containsString("Passed rows")));
+	}
+
+	@Test
+	public void verify_failures_are_itemized_up_to_the_limit() {
+		RollupItem rollup = new RollupItem(Maybe.just("rollup"), null, 100, 2);
+
+		assertThat(rollup.itemize(), equalTo(Boolean.TRUE));
+		assertThat(rollup.itemize(), equalTo(Boolean.TRUE));
+		assertThat(rollup.itemize(), equalTo(Boolean.FALSE));
+	}
+
+	@Test
+	public void verify_status_is_passed_if_no_iteration_failed() {
+		RollupItem rollup = new RollupItem(Maybe.just("rollup"), null, 100, 0);
+		rollup.addIteration(ItemStatus.SKIPPED, iteration(ITestResult.SKIP, 0, 0, 0));
+		rollup.addIteration(ItemStatus.PASSED, iteration(ITestResult.SUCCESS, 1, 0, 0));
+
+		assertThat(rollup.getStatus(), equalTo(ItemStatus.PASSED));
+	}
+
+	@Test
+	public void verify_status_is_skipped_if_all_iterations_skipped() {
+		RollupItem rollup = new RollupItem(Maybe.just("rollup"), null, 100, 0);
+		rollup.addIteration(ItemStatus.SKIPPED, iteration(ITestResult.SKIP, 0, 0, 0));
+
+		assertThat(rollup.getStatus(), equalTo(ItemStatus.SKIPPED));
+	}
+}
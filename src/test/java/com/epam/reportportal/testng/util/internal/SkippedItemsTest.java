@@ -0,0 +1,35 @@
+package com.epam.reportportal.testng.util.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class SkippedItemsTest {
+
+	@Test
+	public void verify_methods_are_grouped_by_cause_in_order_of_addition() {
+		SkippedItems items = new SkippedItems();
+		items.add("com.example.Test.first", "java.lang.IllegalStateException: setup", 10, 10);
+		items.add("com.example.Test.second[1, a]", "java.lang.IllegalStateException: setup", 5, 20);
+		items.add("com.example.Test.dependent", "java.lang.Throwable: depends on first", 30, 30);
+
+		assertThat(items.getCount(), equalTo(3));
+		assertThat(items.getStartMillis(), equalTo(5L));
+		assertThat(items.getEndMillis(), equalTo(30L));
+		assertThat(items.getSummary(), equalTo("Skipped methods: 3, causes: 2"));
+		assertThat(
+				items.getMethodList(), equalTo("Cause: java.lang.IllegalStateException: setup\n" + "Methods: 2\n"
+						+ "- com.example.Test.first\n" + "- com.example.Test.second[1, a]\n\n"
+						+ "Cause: java.lang.Throwable: depends on first\n" + "Methods: 1\n" + "- com.example.Test.dependent")
+		);
+	}
+
+	@Test
+	public void verify_end_time_is_not_before_start_time() {
+		SkippedItems items = new SkippedItems();
+		items.add("com.example.Test.first", "cause", 10, 0);
+
+		assertThat(items.getEndMillis(), equalTo(10L));
+	}
+}
@@ -0,0 +1,73 @@
+package com.epam.reportportal.testng.util.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class WeakIdentityConcurrentMapTest {
+
+	private static final int INSTANCE_NUMBER = 100_000;
+	private static final int PAYLOAD_SIZE = 1024;
+
+	private static class EqualInstance {
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof EqualInstance;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+
+	private static void gc(BooleanSupplier until) throws InterruptedException {
+		// Several passes, since removed entries' values become unreachable only after their keys are collected
+		for (int i = 0; i < 3 || (i < 10 && !until.getAsBoolean()); i++) {
+			System.gc();
+			Thread.sleep(100);
+		}
+	}
+
+	@Test
+	public void verify_keys_are_compared_by_identity() {
+		WeakIdentityConcurrentMap<Object, String> map = new WeakIdentityConcurrentMap<>();
+		EqualInstance first = new EqualInstance();
+		EqualInstance second = new EqualInstance();
+		map.computeIfAbsent(first, i -> "first");
+		map.computeIfAbsent(second, i -> "second");
+
+		assertThat(map.size(), equalTo(2));
+		assertThat(map.get(first), equalTo("first"));
+		assertThat(map.remove(second), equalTo("second"));
+		assertThat(map.get(second), nullValue());
+		assertThat(map.computeIfAbsent(first, i -> "other"), equalTo("first"));
+	}
+
+	@Test
+	public void verify_values_of_collected_test_instances_are_released() throws InterruptedException {
+		WeakIdentityConcurrentMap<Object, Queue<byte[]>> map = new WeakIdentityConcurrentMap<>();
+		List<WeakReference<byte[]>> payloads = new ArrayList<>();
+
+		for (int i = 0; i < INSTANCE_NUMBER; i++) {
+			// A factory test instance which before method was tracked, but which was never finished
+			byte[] payload = new byte[PAYLOAD_SIZE];
+			map.computeIfAbsent(new Object(), k -> new ConcurrentLinkedQueue<>()).add(payload);
+			if (i % 1000 == 0) {
+				payloads.add(new WeakReference<>(payload));
+			}
+		}
+
+		gc(() -> map.size() < INSTANCE_NUMBER / 100 && payloads.stream().allMatch(r -> r.get() == null));
+		assertThat(map.size(), lessThan(INSTANCE_NUMBER / 100));
+		assertThat(payloads.stream().filter(r -> r.get() != null).count(), equalTo(0L));
+	}
+}